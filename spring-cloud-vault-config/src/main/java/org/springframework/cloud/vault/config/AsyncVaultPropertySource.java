@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * {@link VaultPropertySource} that starts reading secrets in the background during
+ * {@link #init()}. Access to {@link #getProperty(String)} or {@link #getPropertyNames()}
+ * blocks until secrets are read, bounded by a timeout. Properties that could not be read
+ * within the timeout are reported as absent unless fail fast is enabled, in which case
+ * access fails with {@link IllegalStateException}.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see VaultProperties.InitializationMode#ASYNC
+ */
+class AsyncVaultPropertySource extends VaultPropertySource {
+
+	private static final Log log = LogFactory.getLog(AsyncVaultPropertySource.class);
+
+	private final boolean failFast;
+
+	private final Executor executor;
+
+	private final Duration timeout;
+
+	@Nullable
+	private volatile CompletableFuture<Void> initialization;
+
+	private volatile boolean awaited;
+
+	/**
+	 * Creates a new {@link AsyncVaultPropertySource}.
+	 * @param operations must not be {@literal null}.
+	 * @param failFast fail if properties could not be read because of access errors.
+	 * @param secretBackendMetadata must not be {@literal null}.
+	 * @param executor executor to read secrets, must not be {@literal null}.
+	 * @param timeout maximum duration to await secrets on first access, must not be
+	 * {@literal null}.
+	 */
+	AsyncVaultPropertySource(VaultConfigOperations operations, boolean failFast,
+			SecretBackendMetadata secretBackendMetadata, Executor executor, Duration timeout) {
+
+		super(operations, failFast, secretBackendMetadata);
+
+		Assert.notNull(executor, "Executor must not be null!");
+		Assert.notNull(timeout, "Timeout must not be null!");
+
+		this.failFast = failFast;
+		this.executor = executor;
+		this.timeout = timeout;
+	}
+
+	/**
+	 * Start reading properties from Vault in the background.
+	 */
+	@Override
+	public void init() {
+		this.initialization = CompletableFuture.runAsync(super::init, this.executor);
+	}
+
+	@Override
+	public Object getProperty(String name) {
+
+		awaitInitialization();
+		return super.getProperty(name);
+	}
+
+	@Override
+	public boolean containsProperty(String name) {
+
+		awaitInitialization();
+		return super.containsProperty(name);
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+
+		awaitInitialization();
+		return super.getPropertyNames();
+	}
+
+	/**
+	 * @return {@literal true} if reading properties from Vault has completed.
+	 */
+	boolean isDone() {
+
+		CompletableFuture<Void> initialization = this.initialization;
+		return initialization != null && initialization.isDone();
+	}
+
+	private void awaitInitialization() {
+
+		CompletableFuture<Void> initialization = this.initialization;
+
+		if (this.awaited || initialization == null) {
+			return;
+		}
+
+		try {
+			initialization.get(this.timeout.toNanos(), TimeUnit.NANOSECONDS);
+			this.awaited = true;
+		}
+		catch (ExecutionException e) {
+
+			// reading propagates failures only if fail fast is enabled
+			if (e.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) e.getCause();
+			}
+
+			throw new IllegalStateException(e.getCause());
+		}
+		catch (TimeoutException e) {
+
+			String message = String.format("Could not read properties from Vault for %s within %s", getName(),
+					this.timeout);
+
+			if (this.failFast) {
+				throw new IllegalStateException(message + " and the fail fast property is set, failing.", e);
+			}
+
+			log.warn(message);
+			this.awaited = true;
+		}
+		catch (InterruptedException e) {
+
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while reading properties from Vault", e);
+		}
+	}
+
+	/**
+	 * {@link Executor} to read secrets in the background. Uses daemon threads that
+	 * terminate when idle so the executor does not require shutdown.
+	 */
+	static class BackgroundExecutor implements Executor {
+
+		private final ThreadPoolExecutor executor;
+
+		/**
+		 * Create a new {@link BackgroundExecutor}.
+		 * @param parallelism maximum number of concurrent reads.
+		 */
+		BackgroundExecutor(int parallelism) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("Spring-Cloud-Vault-Async-");
+			threadFactory.setDaemon(true);
+
+			int threads = Math.max(1, parallelism);
+
+			this.executor = new ThreadPoolExecutor(threads, threads, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+					threadFactory);
+			this.executor.allowCoreThreadTimeOut(true);
+		}
+
+		@Override
+		public void execute(Runnable command) {
+			this.executor.execute(command);
+		}
+
+	}
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.client.ReactiveVaultEndpointProvider;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.client.WebClientCustomizer;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+
+/**
+ * {@link ReactiveVaultEndpointProvider} that caches discovered Vault instances for a
+ * time to live. Expired instances are refreshed in the background while requests
+ * continue to use the previously discovered instances. Concurrent subscribers share a
+ * single initial discovery. Each subscription selects an endpoint using
+ * {@link VaultEndpointSelector}.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see CachingVaultEndpointProvider
+ */
+class CachingReactiveVaultEndpointProvider implements ReactiveVaultEndpointProvider {
+
+	private static final Log log = LogFactory.getLog(CachingReactiveVaultEndpointProvider.class);
+
+	private final String serviceId;
+
+	private final Supplier<Mono<List<ServiceInstance>>> instanceSupplier;
+
+	private final Function<ServiceInstance, VaultEndpoint> endpointFactory;
+
+	private final Duration ttl;
+
+	private final VaultEndpointSelector selector;
+
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+
+	/**
+	 * In-flight initial discovery shared by concurrent subscribers.
+	 */
+	private final AtomicReference<Mono<DiscoveredVaultEndpoints>> initialDiscovery = new AtomicReference<>();
+
+	@Nullable
+	private volatile DiscoveredVaultEndpoints endpoints;
+
+	CachingReactiveVaultEndpointProvider(String serviceId, Supplier<Mono<List<ServiceInstance>>> instanceSupplier,
+			Function<ServiceInstance, VaultEndpoint> endpointFactory, Duration ttl, VaultEndpointSelector selector) {
+
+		Assert.hasText(serviceId, "Service Id must not be empty");
+		Assert.notNull(instanceSupplier, "Instance supplier must not be null");
+		Assert.notNull(endpointFactory, "Endpoint factory must not be null");
+		Assert.notNull(ttl, "TTL must not be null");
+		Assert.notNull(selector, "VaultEndpointSelector must not be null");
+
+		this.serviceId = serviceId;
+		this.instanceSupplier = instanceSupplier;
+		this.endpointFactory = endpointFactory;
+		this.ttl = ttl;
+		this.selector = selector;
+	}
+
+	/**
+	 * Create a {@link WebClientCustomizer} tracking outstanding requests.
+	 * @param selector the endpoint selector.
+	 * @return the {@link WebClientCustomizer}.
+	 */
+	static WebClientCustomizer webClientCustomizer(VaultEndpointSelector selector) {
+
+		ExchangeFilterFunction filter = (request, next) -> next.exchange(request).transformDeferred(exchange -> {
+
+			AtomicInteger count = selector.track(request.url());
+			return exchange.doFinally(signal -> count.decrementAndGet());
+		});
+
+		return builder -> builder.filter(filter);
+	}
+
+	@Override
+	public Mono<VaultEndpoint> getVaultEndpoint() {
+
+		return Mono.defer(() -> {
+
+			DiscoveredVaultEndpoints endpoints = this.endpoints;
+
+			if (this.ttl.isZero()) {
+				return discover().map(it -> this.selector.select(it.getEndpoints()));
+			}
+
+			if (endpoints == null) {
+				return discoverInitially().map(it -> this.selector.select(it.getEndpoints()));
+			}
+
+			if (endpoints.isExpired(this.ttl) && this.refreshing.compareAndSet(false, true)) {
+				refresh();
+			}
+
+			return Mono.just(this.selector.select(endpoints.getEndpoints()));
+		});
+	}
+
+	private Mono<DiscoveredVaultEndpoints> discoverInitially() {
+
+		Mono<DiscoveredVaultEndpoints> discovery = this.initialDiscovery.get();
+
+		if (discovery != null) {
+			return discovery;
+		}
+
+		Mono<DiscoveredVaultEndpoints> initial = discover().doOnError(e -> this.initialDiscovery.set(null)).cache();
+
+		return this.initialDiscovery.updateAndGet(current -> current != null ? current : initial);
+	}
+
+	private Mono<DiscoveredVaultEndpoints> discover() {
+
+		return Mono.defer(() -> {
+
+			log.debug("Locating Vault server (" + this.serviceId + ") via discovery");
+
+			return this.instanceSupplier.get();
+		}).map(instances -> {
+
+			DiscoveredVaultEndpoints endpoints = DiscoveredVaultEndpoints.of(this.serviceId, instances,
+					this.endpointFactory);
+
+			this.endpoints = endpoints;
+
+			log.debug("Located Vault server (" + this.serviceId + ") via discovery: " + endpoints.getEndpoints());
+
+			return endpoints;
+		});
+	}
+
+	private void refresh() {
+
+		discover().doFinally(signal -> this.refreshing.set(false)).subscribe(endpoints -> {
+		}, e -> log.warn(String.format("Cannot refresh Vault server (%s) instances, retaining previous instances: %s",
+				this.serviceId, e.getMessage())));
+	}
+
+}
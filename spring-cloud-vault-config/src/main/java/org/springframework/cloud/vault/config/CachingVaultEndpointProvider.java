@@ -0,0 +1,166 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadFactory;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.client.VaultEndpointProvider;
+
+/**
+ * {@link VaultEndpointProvider} that caches discovered Vault instances for a time to
+ * live. Expired instances are refreshed in the background while requests continue to
+ * use the previously discovered instances. Instances are discovered synchronously only
+ * on first use or if the time to live is zero. Concurrent first uses share a single
+ * discovery. Each call selects an endpoint using
+ * {@link VaultEndpointSelector}.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+class CachingVaultEndpointProvider implements VaultEndpointProvider, DisposableBean {
+
+	private static final Log log = LogFactory.getLog(CachingVaultEndpointProvider.class);
+
+	private final String serviceId;
+
+	private final Supplier<List<ServiceInstance>> instanceSupplier;
+
+	private final Function<ServiceInstance, VaultEndpoint> endpointFactory;
+
+	private final Duration ttl;
+
+	private final VaultEndpointSelector selector;
+
+	private final AtomicBoolean refreshing = new AtomicBoolean();
+
+	private final Object initialDiscoveryMonitor = new Object();
+
+	@Nullable
+	private volatile DiscoveredVaultEndpoints endpoints;
+
+	@Nullable
+	private ExecutorService executor;
+
+	CachingVaultEndpointProvider(String serviceId, Supplier<List<ServiceInstance>> instanceSupplier,
+			Function<ServiceInstance, VaultEndpoint> endpointFactory, Duration ttl, VaultEndpointSelector selector) {
+
+		Assert.hasText(serviceId, "Service Id must not be empty");
+		Assert.notNull(instanceSupplier, "Instance supplier must not be null");
+		Assert.notNull(endpointFactory, "Endpoint factory must not be null");
+		Assert.notNull(ttl, "TTL must not be null");
+		Assert.notNull(selector, "VaultEndpointSelector must not be null");
+
+		this.serviceId = serviceId;
+		this.instanceSupplier = instanceSupplier;
+		this.endpointFactory = endpointFactory;
+		this.ttl = ttl;
+		this.selector = selector;
+	}
+
+	@Override
+	public VaultEndpoint getVaultEndpoint() {
+
+		DiscoveredVaultEndpoints endpoints = this.endpoints;
+
+		if (this.ttl.isZero()) {
+			endpoints = discover();
+		}
+		else if (endpoints == null) {
+			endpoints = discoverInitially();
+		}
+		else if (endpoints.isExpired(this.ttl) && this.refreshing.compareAndSet(false, true)) {
+			getExecutor().execute(this::refresh);
+		}
+
+		return this.selector.select(endpoints.getEndpoints());
+	}
+
+	@Override
+	public synchronized void destroy() {
+
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+			this.executor = null;
+		}
+	}
+
+	private DiscoveredVaultEndpoints discoverInitially() {
+
+		synchronized (this.initialDiscoveryMonitor) {
+
+			DiscoveredVaultEndpoints endpoints = this.endpoints;
+
+			return endpoints != null ? endpoints : discover();
+		}
+	}
+
+	private DiscoveredVaultEndpoints discover() {
+
+		log.debug("Locating Vault server (" + this.serviceId + ") via discovery");
+
+		DiscoveredVaultEndpoints endpoints = DiscoveredVaultEndpoints.of(this.serviceId,
+				this.instanceSupplier.get(), this.endpointFactory);
+
+		this.endpoints = endpoints;
+
+		log.debug("Located Vault server (" + this.serviceId + ") via discovery: " + endpoints.getEndpoints());
+
+		return endpoints;
+	}
+
+	private void refresh() {
+
+		try {
+			discover();
+		}
+		catch (RuntimeException e) {
+			log.warn(String.format("Cannot refresh Vault server (%s) instances, retaining previous instances: %s",
+					this.serviceId, e.getMessage()));
+		}
+		finally {
+			this.refreshing.set(false);
+		}
+	}
+
+	private synchronized ExecutorService getExecutor() {
+
+		if (this.executor == null) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("Spring-Cloud-Vault-Discovery-");
+			threadFactory.setDaemon(true);
+
+			this.executor = Executors.newSingleThreadExecutor(threadFactory);
+		}
+
+		return this.executor;
+	}
+
+}
@@ -0,0 +1,362 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TaskScheduler} that coalesces trigger-based and one-time tasks that are due
+ * within a renewal window into a single scheduled wake-up of the delegate
+ * {@link TaskScheduler}. A batch is anchored at the execution time of its earliest task,
+ * tasks that are due within the window after the anchor join the batch and run early
+ * instead of late. Tasks of a batch are dispatched concurrently if the delegate is an
+ * {@link Executor}, for example to pipeline lease renewal requests.
+ * <p>
+ * Fixed-rate and fixed-delay tasks are passed on to the delegate as-is.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see VaultProperties.ConfigLifecycle#getRenewalWindow()
+ */
+class CoalescingTaskScheduler implements TaskScheduler {
+
+	private static final Log logger = LogFactory.getLog(CoalescingTaskScheduler.class);
+
+	private final TaskScheduler delegate;
+
+	@Nullable
+	private final Executor executor;
+
+	private final long windowMillis;
+
+	/**
+	 * Pending batches by their anchor time. Guarded by itself.
+	 */
+	private final TreeMap<Long, Batch> batches = new TreeMap<>();
+
+	CoalescingTaskScheduler(TaskScheduler delegate, Duration window) {
+
+		Assert.notNull(delegate, "Delegate TaskScheduler must not be null");
+		Assert.notNull(window, "Renewal window must not be null");
+		Assert.isTrue(!window.isNegative() && !window.isZero(), "Renewal window must be greater than zero");
+
+		this.delegate = delegate;
+		this.executor = delegate instanceof Executor ? (Executor) delegate : null;
+		this.windowMillis = window.toMillis();
+	}
+
+	@Override
+	@Nullable
+	public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+
+		CoalescedTask coalesced = new CoalescedTask(task, trigger);
+		return coalesced.scheduleNext() ? coalesced : null;
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Date startTime) {
+
+		CoalescedTask coalesced = new CoalescedTask(task,
+				triggerContext -> triggerContext.lastScheduledExecutionTime() == null ? startTime : null);
+		coalesced.scheduleNext();
+
+		return coalesced;
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Date startTime, long period) {
+		return this.delegate.scheduleAtFixedRate(task, startTime, period);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long period) {
+		return this.delegate.scheduleAtFixedRate(task, period);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Date startTime, long delay) {
+		return this.delegate.scheduleWithFixedDelay(task, startTime, delay);
+	}
+
+	@Override
+	public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long delay) {
+		return this.delegate.scheduleWithFixedDelay(task, delay);
+	}
+
+	/**
+	 * @return the number of pending batches.
+	 */
+	int getPendingBatches() {
+
+		synchronized (this.batches) {
+			return this.batches.size();
+		}
+	}
+
+	private void enqueue(CoalescedTask task, long executionTime) {
+
+		synchronized (this.batches) {
+
+			Map.Entry<Long, Batch> candidate = this.batches.floorEntry(executionTime);
+
+			if (candidate != null && executionTime - candidate.getKey() <= this.windowMillis) {
+				candidate.getValue().add(task);
+				return;
+			}
+
+			Batch batch = new Batch(executionTime);
+			batch.add(task);
+
+			this.batches.put(executionTime, batch);
+			batch.future = this.delegate.schedule(() -> run(batch), new Date(executionTime));
+		}
+	}
+
+	private void cancel(CoalescedTask task) {
+
+		synchronized (this.batches) {
+
+			Batch batch = task.batch;
+
+			if (batch == null || !batch.tasks.remove(task) || !batch.tasks.isEmpty()) {
+				return;
+			}
+
+			this.batches.remove(batch.executionTime, batch);
+
+			if (batch.future != null) {
+				batch.future.cancel(false);
+			}
+		}
+	}
+
+	private void run(Batch batch) {
+
+		List<CoalescedTask> tasks;
+
+		synchronized (this.batches) {
+
+			this.batches.remove(batch.executionTime, batch);
+			tasks = new ArrayList<>(batch.tasks);
+			batch.tasks.clear();
+		}
+
+		if (tasks.isEmpty()) {
+			return;
+		}
+
+		if (logger.isDebugEnabled() && tasks.size() > 1) {
+			logger.debug(String.format("Running %d coalesced tasks", tasks.size()));
+		}
+
+		int last = tasks.size() - 1;
+
+		for (int i = 0; i < last; i++) {
+			dispatch(tasks.get(i));
+		}
+
+		tasks.get(last).run();
+	}
+
+	private void dispatch(CoalescedTask task) {
+
+		if (this.executor == null) {
+			task.run();
+			return;
+		}
+
+		try {
+			this.executor.execute(task);
+		}
+		catch (TaskRejectedException e) {
+			task.run();
+		}
+	}
+
+	/**
+	 * Tasks that are executed together in a single wake-up of the delegate scheduler.
+	 */
+	private static class Batch {
+
+		private final long executionTime;
+
+		private final List<CoalescedTask> tasks = new ArrayList<>();
+
+		@Nullable
+		private ScheduledFuture<?> future;
+
+		Batch(long executionTime) {
+			this.executionTime = executionTime;
+		}
+
+		void add(CoalescedTask task) {
+			this.tasks.add(task);
+			task.batch = this;
+		}
+
+	}
+
+	/**
+	 * Task that is rescheduled according to its {@link Trigger} after each execution
+	 * and that represents its scheduling state as {@link ScheduledFuture}.
+	 */
+	private class CoalescedTask implements Runnable, ScheduledFuture<Object> {
+
+		private final Runnable delegate;
+
+		private final Trigger trigger;
+
+		private final SimpleTriggerContext triggerContext = new SimpleTriggerContext();
+
+		private final CompletableFuture<Object> completion = new CompletableFuture<>();
+
+		private volatile Date scheduledExecutionTime = new Date();
+
+		/**
+		 * The batch this task belongs to. Guarded by {@link #batches}.
+		 */
+		@Nullable
+		private Batch batch;
+
+		CoalescedTask(Runnable delegate, Trigger trigger) {
+			this.delegate = delegate;
+			this.trigger = trigger;
+		}
+
+		/**
+		 * Schedule the next execution.
+		 * @return {@literal true} if the task was scheduled, {@literal false} if the
+		 * trigger does not fire anymore.
+		 */
+		boolean scheduleNext() {
+
+			Date next;
+
+			synchronized (this.triggerContext) {
+
+				if (this.completion.isDone()) {
+					return false;
+				}
+
+				next = this.trigger.nextExecutionTime(this.triggerContext);
+
+				if (next == null) {
+					this.completion.complete(null);
+					return false;
+				}
+
+				this.scheduledExecutionTime = next;
+			}
+
+			enqueue(this, next.getTime());
+			return true;
+		}
+
+		@Override
+		public void run() {
+
+			if (this.completion.isDone()) {
+				return;
+			}
+
+			Date actualExecutionTime = new Date();
+
+			try {
+				this.delegate.run();
+			}
+			catch (RuntimeException e) {
+				logger.error("Unexpected error occurred in scheduled task", e);
+			}
+
+			synchronized (this.triggerContext) {
+				this.triggerContext.update(this.scheduledExecutionTime, actualExecutionTime, new Date());
+			}
+
+			scheduleNext();
+		}
+
+		@Override
+		public boolean cancel(boolean mayInterruptIfRunning) {
+
+			boolean cancelled = this.completion.cancel(mayInterruptIfRunning);
+			CoalescingTaskScheduler.this.cancel(this);
+
+			return cancelled;
+		}
+
+		@Override
+		public boolean isCancelled() {
+			return this.completion.isCancelled();
+		}
+
+		@Override
+		public boolean isDone() {
+			return this.completion.isDone();
+		}
+
+		@Override
+		public Object get() throws InterruptedException, ExecutionException {
+			return this.completion.get();
+		}
+
+		@Override
+		public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException,
+				TimeoutException {
+			return this.completion.get(timeout, unit);
+		}
+
+		@Override
+		public long getDelay(TimeUnit unit) {
+			return unit.convert(this.scheduledExecutionTime.getTime() - System.currentTimeMillis(),
+					TimeUnit.MILLISECONDS);
+		}
+
+		@Override
+		public int compareTo(Delayed other) {
+			return Long.compare(getDelay(TimeUnit.MILLISECONDS), other.getDelay(TimeUnit.MILLISECONDS));
+		}
+
+		@Override
+		public String toString() {
+			return this.delegate.toString();
+		}
+
+	}
+
+}
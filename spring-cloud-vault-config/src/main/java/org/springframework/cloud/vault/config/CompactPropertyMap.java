@@ -0,0 +1,253 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Immutable, array-backed {@link Map} of property names to values. Lookups use open
+ * addressing with linear probing over precomputed hashes. Property names are kept in
+ * insertion order.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+final class CompactPropertyMap extends AbstractMap<String, Object> {
+
+	static final CompactPropertyMap EMPTY = new CompactPropertyMap(new String[0], new Object[0]);
+
+	private final String[] names;
+
+	private final Object[] values;
+
+	private final int[] hashes;
+
+	/**
+	 * Hash table holding {@code index + 1} of the entry, {@code 0} denotes an empty
+	 * slot.
+	 */
+	private final int[] table;
+
+	private final int mask;
+
+	private CompactPropertyMap(String[] names, Object[] values) {
+
+		this.names = names;
+		this.values = values;
+		this.hashes = new int[names.length];
+
+		int capacity = tableSizeFor(names.length);
+
+		this.table = new int[capacity];
+		this.mask = capacity - 1;
+
+		for (int i = 0; i < names.length; i++) {
+
+			int hash = hash(names[i]);
+			int slot = hash & this.mask;
+
+			while (this.table[slot] != 0) {
+				slot = (slot + 1) & this.mask;
+			}
+
+			this.hashes[i] = hash;
+			this.table[slot] = i + 1;
+		}
+	}
+
+	/**
+	 * Create a {@link CompactPropertyMap} from {@code properties} retaining their
+	 * iteration order.
+	 * @param properties the properties, must not be {@literal null}.
+	 * @return the {@link CompactPropertyMap}.
+	 */
+	static CompactPropertyMap from(Map<String, ?> properties) {
+
+		Assert.notNull(properties, "Properties must not be null");
+
+		if (properties instanceof CompactPropertyMap) {
+			return (CompactPropertyMap) properties;
+		}
+
+		return create(properties, null);
+	}
+
+	/**
+	 * Create a {@link CompactPropertyMap} from {@code properties} retaining their
+	 * iteration order and canonicalizing property names and values using
+	 * {@link PropertyInterner}.
+	 * @param properties the properties, must not be {@literal null}.
+	 * @param interner the interner, may be {@literal null} to not canonicalize property
+	 * names and values.
+	 * @return the {@link CompactPropertyMap}.
+	 */
+	static CompactPropertyMap from(Map<String, ?> properties, @Nullable PropertyInterner interner) {
+
+		if (interner == null) {
+			return from(properties);
+		}
+
+		Assert.notNull(properties, "Properties must not be null");
+
+		return create(properties, interner);
+	}
+
+	private static CompactPropertyMap create(Map<String, ?> properties, @Nullable PropertyInterner interner) {
+
+		if (properties.isEmpty()) {
+			return EMPTY;
+		}
+
+		String[] names = new String[properties.size()];
+		Object[] values = new Object[properties.size()];
+		int index = 0;
+
+		for (Entry<String, ?> entry : properties.entrySet()) {
+
+			Assert.notNull(entry.getKey(), "Property name must not be null");
+
+			names[index] = interner != null ? interner.intern(entry.getKey()) : entry.getKey();
+			values[index] = interner != null ? interner.intern(entry.getValue()) : entry.getValue();
+			index++;
+		}
+
+		return new CompactPropertyMap(names, values);
+	}
+
+	/**
+	 * Return property names in iteration order.
+	 * @return a copy of the property names.
+	 */
+	String[] getNames() {
+		return this.names.clone();
+	}
+
+	@Override
+	@Nullable
+	public Object get(Object key) {
+
+		int index = indexOf(key);
+		return index != -1 ? this.values[index] : null;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return indexOf(key) != -1;
+	}
+
+	@Override
+	public int size() {
+		return this.names.length;
+	}
+
+	@Override
+	public Set<Entry<String, Object>> entrySet() {
+		return new EntrySet();
+	}
+
+	private int indexOf(@Nullable Object key) {
+
+		if (!(key instanceof String)) {
+			return -1;
+		}
+
+		int hash = hash((String) key);
+		int slot = hash & this.mask;
+
+		for (;;) {
+
+			int entry = this.table[slot];
+
+			if (entry == 0) {
+				return -1;
+			}
+
+			int index = entry - 1;
+
+			if (this.hashes[index] == hash && this.names[index].equals(key)) {
+				return index;
+			}
+
+			slot = (slot + 1) & this.mask;
+		}
+	}
+
+	private static int hash(String key) {
+
+		int hash = key.hashCode();
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Return a power-of-two table size that keeps the load factor at or below
+	 * {@code 0.5}.
+	 */
+	private static int tableSizeFor(int size) {
+
+		int capacity = 2;
+
+		while (capacity < size * 2) {
+			capacity <<= 1;
+		}
+
+		return capacity;
+	}
+
+	private class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+		@Override
+		public Iterator<Entry<String, Object>> iterator() {
+
+			return new Iterator<Entry<String, Object>>() {
+
+				private int index;
+
+				@Override
+				public boolean hasNext() {
+					return this.index < CompactPropertyMap.this.names.length;
+				}
+
+				@Override
+				public Entry<String, Object> next() {
+
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+
+					int index = this.index++;
+					return new SimpleImmutableEntry<>(CompactPropertyMap.this.names[index],
+							CompactPropertyMap.this.values[index]);
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return CompactPropertyMap.this.names.length;
+		}
+
+	}
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.vault.client.VaultEndpoint;
+
+/**
+ * Immutable snapshot of {@link VaultEndpoint}s created from discovered
+ * {@link ServiceInstance}s along with the time they were discovered.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+class DiscoveredVaultEndpoints {
+
+	private final List<VaultEndpoint> endpoints;
+
+	private final long discoveredAt;
+
+	private DiscoveredVaultEndpoints(List<VaultEndpoint> endpoints, long discoveredAt) {
+		this.endpoints = endpoints;
+		this.discoveredAt = discoveredAt;
+	}
+
+	/**
+	 * Create {@link DiscoveredVaultEndpoints} from {@link ServiceInstance}s.
+	 * @param serviceId the service Id.
+	 * @param instances the discovered instances.
+	 * @param endpointFactory function to create a {@link VaultEndpoint}.
+	 * @return the {@link DiscoveredVaultEndpoints}.
+	 * @throws IllegalStateException if {@code instances} is empty.
+	 */
+	static DiscoveredVaultEndpoints of(String serviceId, List<ServiceInstance> instances,
+			Function<ServiceInstance, VaultEndpoint> endpointFactory) {
+
+		if (instances.isEmpty()) {
+			throw new IllegalStateException("No instances found of Vault server (" + serviceId + ")");
+		}
+
+		List<VaultEndpoint> endpoints = new ArrayList<>(instances.size());
+
+		for (ServiceInstance instance : instances) {
+			endpoints.add(endpointFactory.apply(instance));
+		}
+
+		return new DiscoveredVaultEndpoints(Collections.unmodifiableList(endpoints), System.nanoTime());
+	}
+
+	List<VaultEndpoint> getEndpoints() {
+		return this.endpoints;
+	}
+
+	/**
+	 * @param ttl the time to live.
+	 * @return {@literal true} if the endpoints were discovered longer than {@code ttl}
+	 * ago.
+	 */
+	boolean isExpired(Duration ttl) {
+		return System.nanoTime() - this.discoveredAt >= ttl.toNanos();
+	}
+
+}
@@ -19,7 +19,6 @@ package org.springframework.cloud.vault.config;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
-import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.client.discovery.DiscoveryClient;
 import org.springframework.cloud.client.discovery.EnableDiscoveryClient;
 import org.springframework.cloud.commons.util.UtilAutoConfiguration;
@@ -28,6 +27,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
+import org.springframework.vault.client.RestTemplateCustomizer;
 import org.springframework.vault.client.VaultEndpointProvider;
 
 /**
@@ -49,9 +49,12 @@ public class DiscoveryClientVaultBootstrapConfiguration {
 
 	private final VaultConfiguration configuration;
 
+	private final VaultEndpointSelector endpointSelector;
+
 	public DiscoveryClientVaultBootstrapConfiguration(VaultProperties vaultProperties) {
 		this.vaultProperties = vaultProperties;
 		this.configuration = new VaultConfiguration(vaultProperties);
+		this.endpointSelector = new VaultEndpointSelector(vaultProperties.getDiscovery().getLoadBalancing());
 	}
 
 	@Bean
@@ -66,13 +69,22 @@ public class DiscoveryClientVaultBootstrapConfiguration {
 	@ConditionalOnProperty(name = "spring.cloud.vault.enabled", matchIfMissing = true)
 	public VaultEndpointProvider vaultEndpointProvider(VaultServiceInstanceProvider instanceProvider) {
 
-		return () -> {
+		VaultProperties.Discovery discovery = this.vaultProperties.getDiscovery();
 
-			String serviceId = this.vaultProperties.getDiscovery().getServiceId();
-			ServiceInstance server = instanceProvider.getVaultServerInstance(serviceId);
+		return new CachingVaultEndpointProvider(discovery.getServiceId(),
+				() -> instanceProvider.getVaultServerInstances(discovery.getServiceId()),
+				this.configuration::createVaultEndpoint, discovery.getTtl(), this.endpointSelector);
+	}
 
-			return this.configuration.createVaultEndpoint(server);
-		};
+	/**
+	 * @return the {@link RestTemplateCustomizer} tracking outstanding requests to
+	 * discovered Vault instances for {@code least-outstanding} load balancing.
+	 * @since 3.0.1
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "spring.cloud.vault.discovery.load-balancing", havingValue = "least-outstanding")
+	public RestTemplateCustomizer vaultOutstandingRequestsCustomizer() {
+		return this.endpointSelector.restTemplateCustomizer();
 	}
 
 }
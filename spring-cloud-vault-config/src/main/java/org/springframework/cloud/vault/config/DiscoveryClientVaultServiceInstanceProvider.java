@@ -43,6 +43,16 @@ public class DiscoveryClientVaultServiceInstanceProvider implements VaultService
 	@Override
 	public ServiceInstance getVaultServerInstance(String serviceId) {
 
+		ServiceInstance instance = getVaultServerInstances(serviceId).get(0);
+
+		log.debug("Located Vault server (" + serviceId + ") via discovery: " + instance);
+
+		return instance;
+	}
+
+	@Override
+	public List<ServiceInstance> getVaultServerInstances(String serviceId) {
+
 		log.debug("Locating Vault server (" + serviceId + ") via discovery");
 
 		List<ServiceInstance> instances = this.client.getInstances(serviceId);
@@ -51,11 +61,7 @@ public class DiscoveryClientVaultServiceInstanceProvider implements VaultService
 			throw new IllegalStateException("No instances found of Vault server (" + serviceId + ")");
 		}
 
-		ServiceInstance instance = instances.get(0);
-
-		log.debug("Located Vault server (" + serviceId + ") via discovery: " + instance);
-
-		return instance;
+		return instances;
 	}
 
 }
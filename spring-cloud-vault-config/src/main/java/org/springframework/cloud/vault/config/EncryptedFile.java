@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.SecretKeyFactory;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.PBEKeySpec;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Password-protected file encrypted using AES-GCM with a key derived from a password
+ * through PBKDF2. Each write uses a new initialization vector and replaces the file
+ * atomically.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+class EncryptedFile {
+
+	private static final byte FORMAT_VERSION = 1;
+
+	private static final int SALT_LENGTH = 16;
+
+	private static final int IV_LENGTH = 12;
+
+	private static final int TAG_LENGTH_BITS = 128;
+
+	private static final int KEY_LENGTH_BITS = 256;
+
+	private static final int ITERATIONS = 65536;
+
+	private final SecureRandom random = new SecureRandom();
+
+	private final Path location;
+
+	private final char[] password;
+
+	@Nullable
+	private byte[] salt;
+
+	@Nullable
+	private SecretKey key;
+
+	EncryptedFile(Path location, char[] password) {
+
+		Assert.notNull(location, "Location must not be null");
+		Assert.isTrue(password.length > 0, "Password must not be empty");
+
+		this.location = location;
+		this.password = password.clone();
+	}
+
+	Path getLocation() {
+		return this.location;
+	}
+
+	/**
+	 * Read and decrypt the file contents.
+	 * @return the decrypted contents or {@literal null} if the file does not exist.
+	 * @throws IOException if the file cannot be read.
+	 * @throws GeneralSecurityException if the file cannot be decrypted.
+	 */
+	@Nullable
+	synchronized byte[] read() throws IOException, GeneralSecurityException {
+
+		if (!Files.isRegularFile(this.location)) {
+			return null;
+		}
+
+		try {
+
+			ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(this.location));
+
+			if (buffer.get() != FORMAT_VERSION) {
+				throw new IOException("Unsupported format");
+			}
+
+			byte[] salt = new byte[SALT_LENGTH];
+			byte[] iv = new byte[IV_LENGTH];
+			byte[] encrypted = new byte[buffer.remaining() - SALT_LENGTH - IV_LENGTH];
+
+			buffer.get(salt).get(iv).get(encrypted);
+
+			this.salt = salt;
+			this.key = deriveKey(salt);
+
+			Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+			cipher.init(Cipher.DECRYPT_MODE, this.key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+
+			return cipher.doFinal(encrypted);
+		}
+		catch (IOException | GeneralSecurityException | RuntimeException e) {
+
+			this.salt = null;
+			this.key = null;
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Encrypt and write {@code contents} to the file.
+	 * @param contents the contents to write.
+	 * @throws IOException if the file cannot be written.
+	 * @throws GeneralSecurityException if the contents cannot be encrypted.
+	 */
+	synchronized void write(byte[] contents) throws IOException, GeneralSecurityException {
+
+		if (this.key == null) {
+
+			this.salt = new byte[SALT_LENGTH];
+			this.random.nextBytes(this.salt);
+			this.key = deriveKey(this.salt);
+		}
+
+		byte[] iv = new byte[IV_LENGTH];
+		this.random.nextBytes(iv);
+
+		Cipher cipher = Cipher.getInstance("AES/GCM/NoPadding");
+		cipher.init(Cipher.ENCRYPT_MODE, this.key, new GCMParameterSpec(TAG_LENGTH_BITS, iv));
+
+		byte[] encrypted = cipher.doFinal(contents);
+
+		ByteBuffer buffer = ByteBuffer.allocate(1 + SALT_LENGTH + IV_LENGTH + encrypted.length);
+		buffer.put(FORMAT_VERSION).put(this.salt).put(iv).put(encrypted);
+
+		Path parent = this.location.toAbsolutePath().getParent();
+		Files.createDirectories(parent);
+
+		// temporary files are created with owner-only permissions on POSIX file
+		// systems
+		Path temp = Files.createTempFile(parent, ".vault-", ".tmp");
+		Files.write(temp, buffer.array());
+		Files.move(temp, this.location, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private SecretKey deriveKey(byte[] salt) throws GeneralSecurityException {
+
+		PBEKeySpec spec = new PBEKeySpec(this.password, salt, ITERATIONS, KEY_LENGTH_BITS);
+
+		try {
+			SecretKeyFactory factory = SecretKeyFactory.getInstance("PBKDF2WithHmacSHA256");
+			return new SecretKeySpec(factory.generateSecret(spec).getEncoded(), "AES");
+		}
+		finally {
+			spec.clearPassword();
+		}
+	}
+
+}
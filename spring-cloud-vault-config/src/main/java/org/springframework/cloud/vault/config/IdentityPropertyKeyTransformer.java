@@ -0,0 +1,42 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Identity {@link PropertyKeyTransformer} that leaves property names unchanged.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+enum IdentityPropertyKeyTransformer implements PropertyKeyTransformer {
+
+	INSTANCE;
+
+	@Override
+	public String transformKey(String key) {
+		return key;
+	}
+
+	@Override
+	public Map<String, Object> transformProperties(Map<String, ? extends Object> input) {
+		return new LinkedHashMap<>(input);
+	}
+
+}
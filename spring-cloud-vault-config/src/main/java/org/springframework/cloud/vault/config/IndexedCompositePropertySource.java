@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.core.env.CompositePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * {@link CompositePropertySource} that merges properties of its
+ * {@link VaultPropertySource}s into a single precedence-resolved index. Property lookups
+ * cost a single hash probe regardless of the number of nested property sources instead
+ * of probing each nested property source in turn. The index retains the name of the
+ * property source that contributed each property for diagnostics.
+ * <p>
+ * The index is rebuilt when a nested property source is added or when the properties of
+ * a nested property source are replaced. Nested property sources increment a shared
+ * modification counter when replacing their properties so that lookups only compare the
+ * counter with the one the index was built for.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+class IndexedCompositePropertySource extends CompositePropertySource {
+
+	private final AtomicLong modifications = new AtomicLong();
+
+	private volatile VaultPropertySource[] propertySources = new VaultPropertySource[0];
+
+	@Nullable
+	private volatile Index index;
+
+	/**
+	 * Create a new {@link IndexedCompositePropertySource}.
+	 * @param name the name of the property source.
+	 */
+	IndexedCompositePropertySource(String name) {
+		super(name);
+	}
+
+	@Override
+	public void addPropertySource(PropertySource<?> propertySource) {
+
+		Assert.isInstanceOf(VaultPropertySource.class, propertySource);
+
+		super.addPropertySource(propertySource);
+		refreshPropertySources((VaultPropertySource) propertySource);
+	}
+
+	@Override
+	public void addFirstPropertySource(PropertySource<?> propertySource) {
+
+		Assert.isInstanceOf(VaultPropertySource.class, propertySource);
+
+		super.addFirstPropertySource(propertySource);
+		refreshPropertySources((VaultPropertySource) propertySource);
+	}
+
+	@Override
+	@Nullable
+	public Object getProperty(String name) {
+		return getIndex().properties.get(name);
+	}
+
+	@Override
+	public boolean containsProperty(String name) {
+		return getIndex().properties.containsKey(name);
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return getIndex().properties.getNames();
+	}
+
+	/**
+	 * Return the name of the nested property source that contributes the property
+	 * {@code name}.
+	 * @param name the property name.
+	 * @return the property source name or {@literal null} if the property is not
+	 * present.
+	 */
+	@Nullable
+	String getOrigin(String name) {
+		return (String) getIndex().origins.get(name);
+	}
+
+	private void refreshPropertySources(VaultPropertySource added) {
+
+		added.setModificationCounter(this.modifications);
+
+		this.propertySources = getPropertySources().toArray(new VaultPropertySource[0]);
+		this.modifications.incrementAndGet();
+	}
+
+	private Index getIndex() {
+
+		Index index = this.index;
+		long version = this.modifications.get();
+
+		if (index == null || index.version != version) {
+
+			// read the version before the nested properties to not miss concurrent changes
+			index = Index.create(this.propertySources, version);
+			this.index = index;
+		}
+
+		return index;
+	}
+
+	/**
+	 * Merged properties along with the nested properties they were created from.
+	 */
+	private static class Index {
+
+		private final long version;
+
+		private final CompactPropertyMap properties;
+
+		private final CompactPropertyMap origins;
+
+		private Index(long version, CompactPropertyMap properties, CompactPropertyMap origins) {
+			this.version = version;
+			this.properties = properties;
+			this.origins = origins;
+		}
+
+		static Index create(VaultPropertySource[] propertySources, long version) {
+
+			Map<String, Object> properties = new LinkedHashMap<>();
+			Map<String, Object> origins = new LinkedHashMap<>();
+
+			for (int i = 0; i < propertySources.length; i++) {
+
+				for (Map.Entry<String, Object> entry : propertySources[i].getProperties().entrySet()) {
+
+					// first non-null value wins, like CompositePropertySource
+					if (entry.getValue() != null && properties.putIfAbsent(entry.getKey(), entry.getValue()) == null) {
+						origins.put(entry.getKey(), propertySources[i].getName());
+					}
+				}
+			}
+
+			return new Index(version, CompactPropertyMap.from(properties), CompactPropertyMap.from(origins));
+		}
+
+	}
+
+}
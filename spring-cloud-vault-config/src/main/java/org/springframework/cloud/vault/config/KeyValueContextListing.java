@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.lang.Nullable;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.ReactiveVaultOperations;
+import org.springframework.vault.core.VaultOperations;
+
+/**
+ * Discovers existing Key-Value contexts by listing their parent folder. Each folder is
+ * listed once, also for concurrent callers ({@code LIST <mount>/<folder>} for unversioned and
+ * {@code LIST <mount>/metadata/<folder>} for versioned Key-Value secrets engines) so
+ * that reading contexts that do not exist can be skipped.
+ * <p>
+ * Paths outside of Key-Value secrets engines and paths whose folder cannot be listed
+ * (e.g. because of a policy that does not grant {@code list} capabilities) are
+ * considered existing so that they are read as usual.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see MountTableCache
+ */
+class KeyValueContextListing {
+
+	private static final Log log = LogFactory.getLog(KeyValueContextListing.class);
+
+	private final MountTableCache mountTableCache;
+
+	/**
+	 * Listed folders to their keys. An empty {@link Optional} denotes a folder that
+	 * cannot be listed.
+	 */
+	private final Map<String, Optional<Set<String>>> listings = new ConcurrentHashMap<>();
+
+	KeyValueContextListing(MountTableCache mountTableCache) {
+		this.mountTableCache = mountTableCache;
+	}
+
+	/**
+	 * Check whether the secret at {@code path} may exist.
+	 * @param vaultOperations the operations to use.
+	 * @param path the secret path.
+	 * @return {@literal false} if the listing of the parent folder does not contain
+	 * {@code path}.
+	 */
+	boolean exists(VaultOperations vaultOperations, String path) {
+
+		if (!this.mountTableCache.load(vaultOperations)) {
+			return true;
+		}
+
+		Folder folder = getFolder(path);
+
+		if (folder == null) {
+			return true;
+		}
+
+		Optional<Set<String>> keys = this.listings.computeIfAbsent(folder.path, it -> {
+
+			try {
+				return listed(folder, vaultOperations.list(folder.listPath));
+			}
+			catch (VaultException e) {
+				return unavailable(folder, e);
+			}
+		});
+
+		return keys.map(it -> it.contains(folder.key)).orElse(true);
+	}
+
+	@Nullable
+	private Folder getFolder(String path) {
+
+		String mountPath = this.mountTableCache.getMountPath(path);
+
+		if (mountPath == null) {
+			return null;
+		}
+
+		int version = this.mountTableCache.getKeyValueVersion(mountPath);
+		String relative = path.substring(Math.min(mountPath.length(), path.length()));
+
+		if (version == 0 || relative.isEmpty() || relative.endsWith("/")) {
+			return null;
+		}
+
+		int separator = relative.lastIndexOf('/');
+		String folder = separator == -1 ? "" : relative.substring(0, separator + 1);
+		String key = relative.substring(separator + 1);
+		String listPath = (version == 2 ? mountPath + "metadata/" : mountPath) + folder;
+
+		return new Folder(mountPath + folder, listPath, key);
+	}
+
+	private static Optional<Set<String>> listed(Folder folder, @Nullable Collection<String> keys) {
+
+		if (log.isDebugEnabled()) {
+			log.debug(String.format("Listed %s: %s", folder.listPath, keys));
+		}
+
+		return Optional.of(keys == null ? Collections.emptySet() : new HashSet<>(keys));
+	}
+
+	private static Optional<Set<String>> unavailable(Folder folder, VaultException e) {
+
+		log.debug(String.format("Cannot list %s: %s. Reading contexts without listing", folder.listPath,
+				e.getMessage()));
+
+		return Optional.empty();
+	}
+
+	private static class Folder {
+
+		final String path;
+
+		final String listPath;
+
+		final String key;
+
+		Folder(String path, String listPath, String key) {
+			this.path = path;
+			this.listPath = listPath;
+			this.key = key;
+		}
+
+	}
+
+	/**
+	 * Reactive {@link KeyValueContextListing} sharing folder listings with the blocking
+	 * listing. Isolated to not require Project Reactor on the class path.
+	 */
+	static class ReactiveListing {
+
+		private final KeyValueContextListing listing;
+
+		private final MountTableCache.ReactiveLoader mountTableLoader;
+
+		/**
+		 * Reactive folder listings shared by concurrent subscribers.
+		 */
+		private final Map<String, Mono<Optional<Set<String>>>> reactiveListings = new ConcurrentHashMap<>();
+
+		ReactiveListing(KeyValueContextListing listing, MountTableCache.ReactiveLoader mountTableLoader) {
+			this.listing = listing;
+			this.mountTableLoader = mountTableLoader;
+		}
+
+		/**
+		 * Check whether the secret at {@code path} may exist.
+		 * @param vaultOperations the operations to use.
+		 * @param path the secret path.
+		 * @return {@literal false} if the listing of the parent folder does not contain
+		 * {@code path}.
+		 */
+		Mono<Boolean> exists(ReactiveVaultOperations vaultOperations, String path) {
+
+			return this.mountTableLoader.load(vaultOperations).flatMap(available -> {
+
+				Folder folder = available ? this.listing.getFolder(path) : null;
+
+				if (folder == null) {
+					return Mono.just(true);
+				}
+
+				Optional<Set<String>> cached = this.listing.listings.get(folder.path);
+
+				Mono<Optional<Set<String>>> keys = cached != null ? Mono.just(cached)
+						: this.reactiveListings.computeIfAbsent(folder.path, it -> list(vaultOperations, folder));
+
+				return keys.map(it -> it.map(listed -> listed.contains(folder.key)).orElse(true));
+			});
+		}
+
+		private Mono<Optional<Set<String>>> list(ReactiveVaultOperations vaultOperations, Folder folder) {
+
+			return vaultOperations.list(folder.listPath).collectList().map(it -> listed(folder, it))
+					.onErrorResume(VaultException.class, e -> Mono.just(unavailable(folder, e)))
+					.doOnNext(it -> this.listing.listings.putIfAbsent(folder.path, it))
+					.doOnError(e -> this.reactiveListings.remove(folder.path)).cache();
+		}
+
+	}
+
+}
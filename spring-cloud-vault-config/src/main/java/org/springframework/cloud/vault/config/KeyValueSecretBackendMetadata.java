@@ -18,11 +18,8 @@ package org.springframework.cloud.vault.config;
 
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
 
 import org.springframework.util.Assert;
@@ -171,7 +168,7 @@ public class KeyValueSecretBackendMetadata extends SecretBackendMetadataSupport
 	/**
 	 * {@link PropertyTransformer} that strips a prefix from property names.
 	 */
-	static final class UnwrappingPropertyTransformer implements PropertyTransformer {
+	static final class UnwrappingPropertyTransformer implements PropertyKeyTransformer {
 
 		private final String prefixToStrip;
 
@@ -179,7 +176,7 @@ public class KeyValueSecretBackendMetadata extends SecretBackendMetadataSupport
 
 			Assert.notNull(prefixToStrip, "Property name prefix must not be null");
 
-			this.prefixToStrip = prefixToStrip;
+			this.prefixToStrip = prefixToStrip + ".";
 		}
 
 		/**
@@ -194,22 +191,20 @@ public class KeyValueSecretBackendMetadata extends SecretBackendMetadataSupport
 			return new UnwrappingPropertyTransformer(propertyNamePrefix);
 		}
 
+		/**
+		 * Transform a single property name by stripping the prefix.
+		 * @param key the property name.
+		 * @return the transformed property name.
+		 * @since 3.0.1
+		 */
 		@Override
-		public Map<String, Object> transformProperties(Map<String, ? extends Object> input) {
-
-			Map<String, Object> target = new LinkedHashMap<>(input.size(), 1);
-
-			for (Entry<String, ? extends Object> entry : input.entrySet()) {
+		public String transformKey(String key) {
 
-				if (entry.getKey().startsWith(this.prefixToStrip + ".")) {
-					target.put(entry.getKey().substring(this.prefixToStrip.length() + 1), entry.getValue());
-				}
-				else {
-					target.put(entry.getKey(), entry.getValue());
-				}
+			if (key.startsWith(this.prefixToStrip)) {
+				return key.substring(this.prefixToStrip.length());
 			}
 
-			return target;
+			return key;
 		}
 
 	}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.support.VaultResponse;
+
+/**
+ * Retrieves the current version of secrets stored in a versioned Key-Value secrets
+ * engine from its {@code metadata} endpoint. Metadata responses are considerably smaller
+ * than the secret itself and allow detecting whether a secret has changed without
+ * reading and transforming its data. Metadata paths to which Vault denies access are
+ * remembered and not read again.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see MountTableCache
+ */
+class KeyValueVersionTracker {
+
+	private static final Log logger = LogFactory.getLog(KeyValueVersionTracker.class);
+
+	private final VaultOperations vaultOperations;
+
+	private final MountTableCache mountTableCache;
+
+	private final Set<String> denied = ConcurrentHashMap.newKeySet();
+
+	KeyValueVersionTracker(VaultOperations vaultOperations, MountTableCache mountTableCache) {
+
+		Assert.notNull(vaultOperations, "VaultOperations must not be null");
+		Assert.notNull(mountTableCache, "MountTableCache must not be null");
+
+		this.vaultOperations = vaultOperations;
+		this.mountTableCache = mountTableCache;
+	}
+
+	/**
+	 * Return the current version of the secret at {@code path}.
+	 * @param path the secret path, either the plain secret path or the path including
+	 * the {@code data} segment.
+	 * @return the current version or {@literal null} if {@code path} is not located
+	 * within a versioned Key-Value secrets engine, the secret does not exist or access to
+	 * its metadata is denied.
+	 * @throws VaultException if the metadata cannot be read for other reasons.
+	 */
+	@Nullable
+	Integer getCurrentVersion(String path) {
+
+		String metadataPath = getMetadataPath(path);
+
+		if (metadataPath == null || this.denied.contains(metadataPath)) {
+			return null;
+		}
+
+		VaultResponse response;
+
+		try {
+			response = this.vaultOperations.read(metadataPath);
+		}
+		catch (VaultException e) {
+
+			if (!VaultPropertySource.isAccessDenied(e)) {
+				throw e;
+			}
+
+			logger.info(String.format("Access to %s denied, reading %s without version check", metadataPath, path));
+			this.denied.add(metadataPath);
+
+			return null;
+		}
+
+		if (response == null || response.getData() == null
+				|| !(response.getData().get("current_version") instanceof Number)) {
+			return null;
+		}
+
+		return ((Number) response.getRequiredData().get("current_version")).intValue();
+	}
+
+	/**
+	 * Create the metadata path for a secret.
+	 * @param path the secret path.
+	 * @return the metadata path or {@literal null} if {@code path} is not located within
+	 * a versioned Key-Value secrets engine.
+	 */
+	@Nullable
+	String getMetadataPath(String path) {
+
+		if (!this.mountTableCache.load(this.vaultOperations)) {
+			return null;
+		}
+
+		String mountPath = this.mountTableCache.getKeyValue2MountPath(path);
+
+		if (mountPath == null || path.length() <= mountPath.length()) {
+			return null;
+		}
+
+		String key = path.substring(mountPath.length());
+
+		if (key.startsWith("data/")) {
+			key = key.substring("data/".length());
+		}
+
+		return key.isEmpty() ? null : mountPath + "metadata/" + key;
+	}
+
+}
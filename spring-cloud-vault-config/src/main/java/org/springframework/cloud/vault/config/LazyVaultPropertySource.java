@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * {@link VaultPropertySource} that reads secrets on first access to
+ * {@link #getProperty(String)} or {@link #getPropertyNames()} instead of during
+ * {@link #init()}. Concurrent first access results in a single read. A read that fails
+ * with fail fast enabled is retried on the next access.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see VaultProperties.InitializationMode#LAZY
+ */
+class LazyVaultPropertySource extends VaultPropertySource {
+
+	private final Object monitor = new Object();
+
+	private volatile boolean initialized;
+
+	/**
+	 * Creates a new {@link LazyVaultPropertySource}.
+	 * @param operations must not be {@literal null}.
+	 * @param failFast fail if properties could not be read because of access errors.
+	 * @param secretBackendMetadata must not be {@literal null}.
+	 */
+	LazyVaultPropertySource(VaultConfigOperations operations, boolean failFast,
+			SecretBackendMetadata secretBackendMetadata) {
+		super(operations, failFast, secretBackendMetadata);
+	}
+
+	/**
+	 * Defer reading properties until first access.
+	 */
+	@Override
+	public void init() {
+	}
+
+	@Override
+	void initialize(@Nullable Secrets secrets) {
+
+		super.initialize(secrets);
+		this.initialized = true;
+	}
+
+	@Override
+	public Object getProperty(String name) {
+
+		initializeIfNecessary();
+		return super.getProperty(name);
+	}
+
+	@Override
+	public boolean containsProperty(String name) {
+
+		initializeIfNecessary();
+		return super.containsProperty(name);
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+
+		initializeIfNecessary();
+		return super.getPropertyNames();
+	}
+
+	/**
+	 * @return {@literal true} if properties were read from Vault.
+	 */
+	boolean isInitialized() {
+		return this.initialized;
+	}
+
+	private void initializeIfNecessary() {
+
+		if (this.initialized) {
+			return;
+		}
+
+		synchronized (this.monitor) {
+
+			if (!this.initialized) {
+
+				// propagates read failures only if fail fast is enabled
+				super.init();
+				this.initialized = true;
+			}
+		}
+	}
+
+}
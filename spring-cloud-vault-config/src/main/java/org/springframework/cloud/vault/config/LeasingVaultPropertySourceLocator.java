@@ -142,8 +142,11 @@ class LeasingVaultPropertySourceLocator extends VaultPropertySourceLocatorSuppor
 			((LeasingSecretBackendMetadata) accessor).beforeRegistration(secret, this.secretLeaseContainer);
 		}
 
-		LeaseAwareVaultPropertySource propertySource = new LeaseAwareVaultPropertySource(accessor.getName(),
-				this.secretLeaseContainer, secret, accessor.getPropertyTransformer());
+		PropertySource<?> propertySource = secret.getMode() == RequestedSecret.Mode.ROTATE
+				? new RotatingVaultPropertySource(accessor.getName(), this.secretLeaseContainer, secret,
+						accessor.getPropertyTransformer())
+				: new LeaseAwareVaultPropertySource(accessor.getName(), this.secretLeaseContainer, secret,
+						accessor.getPropertyTransformer());
 
 		if (accessor instanceof LeasingSecretBackendMetadata) {
 			((LeasingSecretBackendMetadata) accessor).afterRegistration(secret, this.secretLeaseContainer);
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.ReactiveVaultOperations;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.support.VaultResponse;
+
+/**
+ * Cache for the Vault mount table to determine whether a secret path is located within
+ * a versioned Key-Value (version 2) secrets engine. The cache is populated with a single
+ * {@code sys/internal/ui/mounts} listing and can be shared across
+ * {@link VaultConfigTemplate} and {@link ReactiveVaultConfigTemplate} instances. Reactive
+ * callers load the mount table through {@link ReactiveLoader}.
+ * <p>
+ * If the mount listing cannot be obtained (e.g. because of a restrictive policy), the
+ * cache reports itself as unavailable and callers fall back to per-path mount detection.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+class MountTableCache {
+
+	private static final Log log = LogFactory.getLog(MountTableCache.class);
+
+	static final String MOUNTS_PATH = "sys/internal/ui/mounts";
+
+	private final ApplicationStartup applicationStartup;
+
+	/**
+	 * Mount paths (with trailing slash) to Key-Value version. Version {@code 0} denotes
+	 * non Key-Value mounts. {@literal null} if not yet loaded.
+	 */
+	@Nullable
+	private volatile Map<String, Integer> mounts;
+
+	MountTableCache() {
+		this(ApplicationStartup.DEFAULT);
+	}
+
+	/**
+	 * Create a new {@link MountTableCache} recording the mount table retrieval as
+	 * {@link StartupStep}.
+	 * @param applicationStartup the application startup.
+	 */
+	MountTableCache(ApplicationStartup applicationStartup) {
+		this.applicationStartup = applicationStartup;
+	}
+
+	/**
+	 * Load the mount table using {@link VaultOperations} unless it is already loaded.
+	 * @param vaultOperations the operations to use.
+	 * @return {@literal true} if the mount table is available.
+	 */
+	boolean load(VaultOperations vaultOperations) {
+
+		Map<String, Integer> mounts = this.mounts;
+
+		if (mounts == null) {
+
+			synchronized (this) {
+
+				mounts = this.mounts;
+
+				if (mounts == null) {
+
+					StartupStep step = VaultStartupSteps.current(this.applicationStartup)
+							.start(VaultStartupSteps.MOUNTS);
+					long start = System.nanoTime();
+
+					try {
+						mounts = parse(vaultOperations.read(MOUNTS_PATH));
+					}
+					catch (VaultException e) {
+						mounts = unavailable(e);
+					}
+					finally {
+						step.tag("mounts", Integer.toString(mounts != null ? mounts.size() : 0));
+						VaultStartupSteps.end(step, start);
+					}
+
+					this.mounts = mounts;
+				}
+			}
+		}
+
+		return !mounts.isEmpty();
+	}
+
+	/**
+	 * @return {@literal true} if the mount table is loaded.
+	 */
+	boolean isLoaded() {
+		return this.mounts != null;
+	}
+
+	/**
+	 * @return {@literal true} if the mount table is loaded and available.
+	 */
+	boolean isAvailable() {
+
+		Map<String, Integer> mounts = this.mounts;
+
+		return mounts != null && !mounts.isEmpty();
+	}
+
+	/**
+	 * Initialize the mount table from a {@code sys/internal/ui/mounts} response unless
+	 * it is already loaded.
+	 * @param response the response, may be {@literal null}.
+	 * @return {@literal true} if the mount table is available.
+	 */
+	boolean initialize(@Nullable VaultResponse response) {
+		return initialize(parse(response));
+	}
+
+	/**
+	 * Initialize the mount table as unavailable unless it is already loaded.
+	 * @param e the error that prevented obtaining the mount table.
+	 * @return {@literal true} if the mount table is available.
+	 */
+	boolean initialize(VaultException e) {
+		return initialize(unavailable(e));
+	}
+
+	private synchronized boolean initialize(Map<String, Integer> mounts) {
+
+		if (this.mounts == null) {
+			this.mounts = mounts;
+		}
+
+		return !this.mounts.isEmpty();
+	}
+
+	/**
+	 * Return the mount path if {@code path} is located within a versioned Key-Value
+	 * secrets engine. Requires a loaded mount table.
+	 * @param path the secret path.
+	 * @return the mount path with a trailing slash or {@literal null} if {@code path} is
+	 * not located within a versioned Key-Value secrets engine.
+	 */
+	@Nullable
+	String getKeyValue2MountPath(String path) {
+
+		String mountPath = getMountPath(path);
+
+		return mountPath != null && getKeyValueVersion(mountPath) == 2 ? mountPath : null;
+	}
+
+	/**
+	 * Return the mount path of the secrets engine that contains {@code path}. Requires a
+	 * loaded mount table.
+	 * @param path the secret path.
+	 * @return the mount path with a trailing slash or {@literal null} if the mount is
+	 * not known.
+	 */
+	@Nullable
+	String getMountPath(String path) {
+
+		Map<String, Integer> mounts = this.mounts;
+
+		if (mounts == null) {
+			return null;
+		}
+
+		String candidate = path.endsWith("/") ? path : path + "/";
+		String mountPath = null;
+
+		for (String mount : mounts.keySet()) {
+
+			if (candidate.startsWith(mount) && (mountPath == null || mount.length() > mountPath.length())) {
+				mountPath = mount;
+			}
+		}
+
+		return mountPath;
+	}
+
+	/**
+	 * Return the Key-Value version of the secrets engine mounted at {@code mountPath}.
+	 * @param mountPath the mount path with a trailing slash.
+	 * @return {@code 1} or {@code 2} for Key-Value secrets engines, {@code 0} for other
+	 * or unknown secrets engines.
+	 */
+	int getKeyValueVersion(String mountPath) {
+
+		Map<String, Integer> mounts = this.mounts;
+
+		if (mounts == null) {
+			return 0;
+		}
+
+		return mounts.getOrDefault(mountPath, 0);
+	}
+
+	/**
+	 * Create the path to read data from a versioned Key-Value secrets engine.
+	 * @param mountPath the mount path with a trailing slash.
+	 * @param path the secret path.
+	 * @return the data path.
+	 */
+	static String getDataPath(String mountPath, String path) {
+		return mountPath + "data/" + path.substring(mountPath.length());
+	}
+
+	/**
+	 * Unwrap a versioned Key-Value response by replacing its {@code data} with the secret
+	 * data and its {@code metadata} with the secret metadata.
+	 * @param response the raw response.
+	 * @return the unwrapped response or {@literal null} if the response does not contain
+	 * secret data (e.g. because the secret version was deleted).
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	static VaultResponse unwrap(@Nullable VaultResponse response) {
+
+		if (response == null || response.getData() == null || !(response.getData().get("data") instanceof Map)) {
+			return null;
+		}
+
+		Map<String, Object> body = response.getRequiredData();
+
+		response.setData((Map<String, Object>) body.get("data"));
+
+		if (body.get("metadata") instanceof Map) {
+			response.setMetadata((Map<String, Object>) body.get("metadata"));
+		}
+
+		return response;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Map<String, Integer> parse(@Nullable VaultResponse response) {
+
+		if (response == null || response.getData() == null || !(response.getData().get("secret") instanceof Map)) {
+			return Collections.emptyMap();
+		}
+
+		Map<String, Object> secretMounts = (Map<String, Object>) response.getRequiredData().get("secret");
+		Map<String, Integer> mounts = new LinkedHashMap<>(secretMounts.size(), 1);
+
+		for (Entry<String, Object> entry : secretMounts.entrySet()) {
+
+			int version = 0;
+
+			if (entry.getValue() instanceof Map) {
+
+				Map<String, Object> mount = (Map<String, Object>) entry.getValue();
+
+				if ("kv".equals(mount.get("type"))) {
+
+					Object options = mount.get("options");
+					version = options instanceof Map && "2".equals(String.valueOf(((Map<?, ?>) options).get("version")))
+							? 2 : 1;
+				}
+			}
+
+			String mountPath = entry.getKey().endsWith("/") ? entry.getKey() : entry.getKey() + "/";
+			mounts.put(mountPath, version);
+		}
+
+		return Collections.unmodifiableMap(mounts);
+	}
+
+	private static Map<String, Integer> unavailable(VaultException e) {
+
+		log.debug(String.format("Cannot obtain mount table from %s: %s. Falling back to per-path mount detection",
+				MOUNTS_PATH, e.getMessage()));
+
+		return Collections.emptyMap();
+	}
+
+	/**
+	 * Loads a {@link MountTableCache} using {@link ReactiveVaultOperations}. Concurrent
+	 * subscribers share a single mount table retrieval. Isolated to not require Project
+	 * Reactor on the class path.
+	 */
+	static class ReactiveLoader {
+
+		private final MountTableCache cache;
+
+		/**
+		 * In-flight reactive mount table retrieval shared by concurrent subscribers.
+		 */
+		private final AtomicReference<Mono<Boolean>> loading = new AtomicReference<>();
+
+		ReactiveLoader(MountTableCache cache) {
+			this.cache = cache;
+		}
+
+		/**
+		 * @return the {@link MountTableCache} to load.
+		 */
+		MountTableCache getCache() {
+			return this.cache;
+		}
+
+		/**
+		 * Load the mount table using {@link ReactiveVaultOperations} unless it is already
+		 * loaded.
+		 * @param vaultOperations the operations to use.
+		 * @return {@literal true} if the mount table is available.
+		 */
+		Mono<Boolean> load(ReactiveVaultOperations vaultOperations) {
+
+			return Mono.defer(() -> {
+
+				if (this.cache.isLoaded()) {
+					return Mono.just(this.cache.isAvailable());
+				}
+
+				Mono<Boolean> loading = this.loading.get();
+
+				if (loading != null) {
+					return loading;
+				}
+
+				Mono<Boolean> retrieval = vaultOperations.read(MOUNTS_PATH).map(this.cache::initialize)
+						.onErrorResume(VaultException.class, e -> Mono.just(this.cache.initialize(e)))
+						.switchIfEmpty(Mono.fromSupplier(() -> this.cache.initialize((VaultResponse) null)))
+						.doOnError(e -> this.loading.set(null)).cache();
+
+				return this.loading.updateAndGet(current -> current != null ? current : retrieval);
+			});
+		}
+
+	}
+
+}
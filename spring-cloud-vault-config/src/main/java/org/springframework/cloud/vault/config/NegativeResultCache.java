@@ -0,0 +1,327 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Cache for secret paths that were not found in Vault ({@literal key not found}).
+ * Cached paths are considered absent until their time to live expires so that
+ * non-existent contexts (e.g. application/profile combinations) do not require a round
+ * trip to Vault on each startup or refresh.
+ * <p>
+ * Entries are scoped to the Vault server and namespace.
+ * <p>
+ * Cached paths can be persisted to a file to retain them between restarts and
+ * refreshes. The file is a properties file that maps scoped secret paths to their
+ * expiry timestamp in epoch milliseconds. Changes are written in the background, at most
+ * once per {@link #SAVE_DELAY}, and pending changes are written synchronously when the
+ * cache is {@link #destroy() destroyed}. Expired entries are discarded when loading the
+ * file.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see VaultProperties.NegativeCache
+ */
+class NegativeResultCache implements DisposableBean {
+
+	private static final Log log = LogFactory.getLog(NegativeResultCache.class);
+
+	/**
+	 * Delay to collect changes before writing the cache file.
+	 */
+	static final Duration SAVE_DELAY = Duration.ofSeconds(1);
+
+	private final Entries entries;
+
+	private final String scope;
+
+	private final Duration ttl;
+
+	/**
+	 * Create a new {@link NegativeResultCache}.
+	 * @param ttl time to live for cached paths, must not be {@literal null}.
+	 * @param location optional file to persist cached paths.
+	 * @param clock the clock, must not be {@literal null}.
+	 */
+	NegativeResultCache(Duration ttl, @Nullable Path location, Clock clock) {
+		this(new Entries(location, clock), "", ttl);
+	}
+
+	private NegativeResultCache(Entries entries, String scope, Duration ttl) {
+
+		Assert.notNull(ttl, "TTL must not be null");
+
+		this.entries = entries;
+		this.scope = scope;
+		this.ttl = ttl;
+	}
+
+	/**
+	 * Create a {@link NegativeResultCache} from {@link VaultProperties}.
+	 * @param properties the Vault properties.
+	 * @return the {@link NegativeResultCache} or {@literal null} if negative caching is
+	 * disabled.
+	 */
+	@Nullable
+	static NegativeResultCache create(VaultProperties properties) {
+
+		VaultProperties.NegativeCache negativeCache = properties.getConfig().getNegativeCache();
+
+		if (!negativeCache.isEnabled()) {
+			return null;
+		}
+
+		Path location = StringUtils.hasText(negativeCache.getLocation())
+				? Paths.get(negativeCache.getLocation()).toAbsolutePath().normalize() : null;
+
+		return new NegativeResultCache(new Entries(location, Clock.systemUTC()),
+				new VaultConfiguration(properties).getVaultScope(), negativeCache.getTtl());
+	}
+
+	/**
+	 * Check whether {@code path} was recorded as missing and its entry is not yet
+	 * expired.
+	 * @param path the secret path.
+	 * @return {@literal true} if {@code path} is known to be absent.
+	 */
+	boolean isMissing(String path) {
+		return this.entries.isMissing(this.scope + path);
+	}
+
+	/**
+	 * Record {@code path} as missing.
+	 * @param path the secret path.
+	 */
+	void recordMissing(String path) {
+		this.entries.put(this.scope + path, this.ttl);
+	}
+
+	/**
+	 * Record {@code path} as present, removing a previous cache entry.
+	 * @param path the secret path.
+	 */
+	void recordPresent(String path) {
+		this.entries.remove(this.scope + path);
+	}
+
+	/**
+	 * Write pending changes to the cache file.
+	 */
+	void flush() {
+		this.entries.save();
+	}
+
+	/**
+	 * Write pending changes to the cache file and stop background writes.
+	 */
+	@Override
+	public void destroy() {
+		this.entries.close();
+	}
+
+	/**
+	 * Cached entries along with their cache file.
+	 */
+	private static class Entries {
+
+		private final Map<String, Long> missing = new ConcurrentHashMap<>();
+
+		private final AtomicBoolean savePending = new AtomicBoolean();
+
+		@Nullable
+		private final Path location;
+
+		private final Clock clock;
+
+		@Nullable
+		private ScheduledExecutorService executor;
+
+		private boolean closed;
+
+		Entries(@Nullable Path location, Clock clock) {
+
+			Assert.notNull(clock, "Clock must not be null");
+
+			this.location = location;
+			this.clock = clock;
+
+			load();
+		}
+
+		boolean isMissing(String key) {
+
+			Long expiry = this.missing.get(key);
+
+			if (expiry == null) {
+				return false;
+			}
+
+			if (expiry > this.clock.millis()) {
+				return true;
+			}
+
+			this.missing.remove(key, expiry);
+			return false;
+		}
+
+		void put(String key, Duration ttl) {
+
+			this.missing.put(key, this.clock.millis() + ttl.toMillis());
+			scheduleSave();
+		}
+
+		void remove(String key) {
+
+			if (this.missing.remove(key) != null) {
+				scheduleSave();
+			}
+		}
+
+		private void scheduleSave() {
+
+			if (this.location == null || !this.savePending.compareAndSet(false, true)) {
+				return;
+			}
+
+			synchronized (this) {
+
+				if (this.closed) {
+					save();
+					return;
+				}
+
+				if (this.executor == null) {
+
+					CustomizableThreadFactory threadFactory = new CustomizableThreadFactory(
+							"Spring-Cloud-Vault-NegativeCache-");
+					threadFactory.setDaemon(true);
+
+					this.executor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+				}
+
+				this.executor.schedule(this::save, SAVE_DELAY.toMillis(), TimeUnit.MILLISECONDS);
+			}
+		}
+
+		synchronized void close() {
+
+			this.closed = true;
+
+			if (this.executor != null) {
+				this.executor.shutdownNow();
+				this.executor = null;
+			}
+
+			if (this.savePending.get()) {
+				save();
+			}
+		}
+
+		private void load() {
+
+			if (this.location == null || !Files.isRegularFile(this.location)) {
+				return;
+			}
+
+			Properties properties = new Properties();
+
+			try (InputStream is = Files.newInputStream(this.location)) {
+				properties.load(is);
+			}
+			catch (IOException e) {
+				log.warn(String.format("Cannot read negative cache from %s: %s", this.location, e.getMessage()));
+				return;
+			}
+
+			long now = this.clock.millis();
+
+			for (String key : properties.stringPropertyNames()) {
+
+				try {
+
+					long expiry = Long.parseLong(properties.getProperty(key));
+
+					if (expiry > now) {
+						this.missing.put(key, expiry);
+					}
+				}
+				catch (NumberFormatException e) {
+					log.debug(String.format("Ignoring invalid negative cache entry for %s", key));
+				}
+			}
+		}
+
+		synchronized void save() {
+
+			this.savePending.set(false);
+
+			if (this.location == null) {
+				return;
+			}
+
+			Properties properties = new Properties();
+			this.missing.forEach((key, expiry) -> properties.setProperty(key, Long.toString(expiry)));
+
+			try {
+
+				Path parent = this.location.toAbsolutePath().getParent();
+
+				if (parent != null) {
+					Files.createDirectories(parent);
+				}
+
+				Path temp = Files.createTempFile(parent, ".vault-negative-cache", ".tmp");
+
+				try (OutputStream os = Files.newOutputStream(temp)) {
+					properties.store(os, "Spring Cloud Vault negative cache");
+				}
+
+				Files.move(temp, this.location, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch (IOException e) {
+				log.warn(String.format("Cannot write negative cache to %s: %s", this.location, e.getMessage()));
+			}
+		}
+
+	}
+
+}
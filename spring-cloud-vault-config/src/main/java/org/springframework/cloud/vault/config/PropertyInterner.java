@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Interner that canonicalizes property names and immutable property values
+ * ({@link String}, {@link Number} and {@link Boolean}) so that equal names and values
+ * read by different property sources share a single instance. Canonical instances are
+ * weakly referenced and become eligible for garbage collection once no property source
+ * references them anymore.
+ * <p>
+ * Canonical instances are spread across lock stripes by their hash code so that
+ * property sources that are read concurrently rarely contend for the same lock.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+final class PropertyInterner {
+
+	private static final int STRIPES = 16;
+
+	private static final PropertyInterner SHARED = new PropertyInterner();
+
+	private final Map<Object, WeakReference<Object>>[] stripes;
+
+	@SuppressWarnings("unchecked")
+	PropertyInterner() {
+
+		this.stripes = new Map[STRIPES];
+
+		for (int i = 0; i < STRIPES; i++) {
+			this.stripes[i] = new WeakHashMap<>();
+		}
+	}
+
+	/**
+	 * Return the interner shared by all Vault property sources loaded by this class
+	 * loader.
+	 * @return the shared {@link PropertyInterner}.
+	 */
+	static PropertyInterner shared() {
+		return SHARED;
+	}
+
+	/**
+	 * Return the canonical instance for {@code value}. Values other than {@link String},
+	 * {@link Number} and {@link Boolean} are returned unchanged.
+	 * @param value the value to intern.
+	 * @param <T> value type.
+	 * @return the canonical instance equal to {@code value}.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	<T> T intern(@Nullable T value) {
+
+		if (!(value instanceof String || value instanceof Number || value instanceof Boolean)) {
+			return value;
+		}
+
+		int hash = value.hashCode();
+		Map<Object, WeakReference<Object>> stripe = this.stripes[(hash ^ (hash >>> 16)) & (STRIPES - 1)];
+
+		synchronized (stripe) {
+
+			WeakReference<Object> reference = stripe.get(value);
+			Object existing = reference != null ? reference.get() : null;
+
+			if (existing != null) {
+				return (T) existing;
+			}
+
+			stripe.put(value, new WeakReference<>(value));
+			return value;
+		}
+	}
+
+	/**
+	 * @return the number of canonical instances.
+	 */
+	int size() {
+
+		int size = 0;
+
+		for (Map<Object, WeakReference<Object>> stripe : this.stripes) {
+
+			synchronized (stripe) {
+				size += stripe.size();
+			}
+		}
+
+		return size;
+	}
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.vault.core.util.PropertyTransformer;
+
+/**
+ * {@link PropertyTransformer} that transforms each property name independently while
+ * retaining property values. Property key transformers can be
+ * {@link #compose(PropertyKeyTransformer...) composed}, also through
+ * {@link #andThen(PropertyTransformer)}, into a single transformer that rewrites each
+ * property name once and creates a single transformed {@link Map} instead of one
+ * {@link Map} per transformation step.
+ * <p>
+ * Property key transformers are applied while parsing secrets if
+ * {@link VaultProperties.Config#isStreaming() streaming} is enabled.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see PropertyNameTransformer
+ */
+@FunctionalInterface
+public interface PropertyKeyTransformer extends PropertyTransformer {
+
+	/**
+	 * Transform a single property name.
+	 * @param key the property name.
+	 * @return the transformed property name.
+	 */
+	String transformKey(String key);
+
+	@Override
+	default Map<String, Object> transformProperties(Map<String, ? extends Object> input) {
+
+		Map<String, Object> transformed = new LinkedHashMap<>(input.size(), 1);
+
+		for (Map.Entry<String, ? extends Object> entry : input.entrySet()) {
+			transformed.put(transformKey(entry.getKey()), entry.getValue());
+		}
+
+		return transformed;
+	}
+
+	/**
+	 * Return a composed {@link PropertyTransformer} that applies {@code after} to the
+	 * result of this transformer. Composing with another {@link PropertyKeyTransformer}
+	 * returns a {@link PropertyKeyTransformer} that rewrites each property name in a
+	 * single pass.
+	 * @param after the transformer to apply after this transformer, must not be
+	 * {@literal null}.
+	 * @return the composed {@link PropertyTransformer}.
+	 */
+	@Override
+	default PropertyTransformer andThen(PropertyTransformer after) {
+
+		if (after instanceof PropertyKeyTransformer) {
+			return andThen((PropertyKeyTransformer) after);
+		}
+
+		return PropertyTransformer.super.andThen(after);
+	}
+
+	/**
+	 * Return a composed {@link PropertyKeyTransformer} that applies {@code after} to
+	 * each property name transformed by this transformer.
+	 * @param after the transformer to apply after this transformer, must not be
+	 * {@literal null}.
+	 * @return the composed {@link PropertyKeyTransformer}.
+	 * @see #compose(PropertyKeyTransformer...)
+	 */
+	default PropertyKeyTransformer andThen(PropertyKeyTransformer after) {
+		return compose(this, after);
+	}
+
+	/**
+	 * Return a {@link PropertyKeyTransformer} that leaves property names unchanged.
+	 * @return the identity {@link PropertyKeyTransformer}.
+	 */
+	static PropertyKeyTransformer identity() {
+		return IdentityPropertyKeyTransformer.INSTANCE;
+	}
+
+	/**
+	 * Create a {@link PropertyKeyTransformer} that adds {@code prefix} in front of each
+	 * property name.
+	 * @param prefix the prefix to add, must not be {@literal null}.
+	 * @return the {@link PropertyKeyTransformer}.
+	 */
+	static PropertyKeyTransformer prefix(String prefix) {
+
+		Assert.notNull(prefix, "Prefix must not be null");
+
+		return prefix.isEmpty() ? identity() : key -> prefix.concat(key);
+	}
+
+	/**
+	 * Create a {@link PropertyKeyTransformer} that removes {@code prefix} from property
+	 * names starting with {@code prefix}. Other property names remain unchanged.
+	 * @param prefix the prefix to remove, must not be {@literal null}.
+	 * @return the {@link PropertyKeyTransformer}.
+	 */
+	static PropertyKeyTransformer strip(String prefix) {
+
+		Assert.notNull(prefix, "Prefix must not be null");
+
+		return prefix.isEmpty() ? identity() : key -> key.startsWith(prefix) ? key.substring(prefix.length()) : key;
+	}
+
+	/**
+	 * Create a {@link PropertyKeyTransformer} that renames property names according to
+	 * {@code mapping}. Property names without a mapping remain unchanged.
+	 * @param mapping source to target property names, must not be {@literal null}.
+	 * @return the {@link PropertyKeyTransformer}.
+	 */
+	static PropertyKeyTransformer mapping(Map<String, String> mapping) {
+
+		Assert.notNull(mapping, "Mapping must not be null");
+
+		Map<String, String> copy = new HashMap<>(mapping);
+
+		return copy.isEmpty() ? identity() : key -> copy.getOrDefault(key, key);
+	}
+
+	/**
+	 * Compose {@code transformers} into a single {@link PropertyKeyTransformer} that
+	 * applies each transformer in the given order to each property name.
+	 * @param transformers the transformers to compose, must not be {@literal null}.
+	 * @return the composed {@link PropertyKeyTransformer}.
+	 */
+	static PropertyKeyTransformer compose(PropertyKeyTransformer... transformers) {
+
+		Assert.noNullElements(transformers, "Transformers must not contain null elements");
+
+		List<PropertyKeyTransformer> steps = new ArrayList<>(transformers.length);
+
+		for (PropertyKeyTransformer transformer : transformers) {
+			if (transformer != identity()) {
+				steps.add(transformer);
+			}
+		}
+
+		if (steps.isEmpty()) {
+			return identity();
+		}
+
+		if (steps.size() == 1) {
+			return steps.get(0);
+		}
+
+		PropertyKeyTransformer[] chain = steps.toArray(new PropertyKeyTransformer[0]);
+
+		return key -> {
+
+			String result = key;
+
+			for (PropertyKeyTransformer transformer : chain) {
+				result = transformer.transformKey(result);
+			}
+
+			return result;
+		};
+	}
+
+}
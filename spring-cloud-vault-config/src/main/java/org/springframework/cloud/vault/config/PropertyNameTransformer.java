@@ -17,7 +17,6 @@
 package org.springframework.cloud.vault.config;
 
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.springframework.util.Assert;
@@ -33,7 +32,7 @@ import org.springframework.vault.core.util.PropertyTransformer;
  *
  * @author Mark Paluch
  */
-public class PropertyNameTransformer implements PropertyTransformer {
+public class PropertyNameTransformer implements PropertyKeyTransformer {
 
 	private final Map<String, String> nameMapping = new HashMap<>();
 
@@ -57,23 +56,15 @@ public class PropertyNameTransformer implements PropertyTransformer {
 		this.nameMapping.put(sourceKeyName, targetKeyName);
 	}
 
+	/**
+	 * Transform a single property name by applying key name translation.
+	 * @param key the property name.
+	 * @return the transformed property name.
+	 * @since 3.0.1
+	 */
 	@Override
-	public Map<String, Object> transformProperties(Map<String, ? extends Object> input) {
-
-		Map<String, Object> transformed = new LinkedHashMap<>(input.size(), 1);
-
-		for (String key : input.keySet()) {
-
-			String translatedKey = key;
-
-			if (this.nameMapping.containsKey(key)) {
-				translatedKey = this.nameMapping.get(key);
-			}
-
-			transformed.put(translatedKey, input.get(key));
-		}
-
-		return transformed;
+	public String transformKey(String key) {
+		return this.nameMapping.getOrDefault(key, key);
 	}
 
 }
@@ -36,6 +36,7 @@ import org.springframework.core.Ordered;
 import org.springframework.core.annotation.Order;
 import org.springframework.vault.client.ReactiveVaultEndpointProvider;
 import org.springframework.vault.client.VaultEndpointProvider;
+import org.springframework.vault.client.WebClientCustomizer;
 import org.springframework.vault.core.ReactiveVaultOperations;
 import org.springframework.web.reactive.function.client.WebClient;
 
@@ -59,9 +60,12 @@ public class ReactiveDiscoveryClientVaultBootstrapConfiguration {
 
 	private final VaultConfiguration configuration;
 
+	private final VaultEndpointSelector endpointSelector;
+
 	public ReactiveDiscoveryClientVaultBootstrapConfiguration(VaultProperties vaultProperties) {
 		this.vaultProperties = vaultProperties;
 		this.configuration = new VaultConfiguration(vaultProperties);
+		this.endpointSelector = new VaultEndpointSelector(vaultProperties.getDiscovery().getLoadBalancing());
 	}
 
 	@Bean
@@ -76,13 +80,11 @@ public class ReactiveDiscoveryClientVaultBootstrapConfiguration {
 		if (reactiveDiscoveryClient != null) {
 			ReacvtiveDiscoveryClientVaultServiceInstanceProvider instanceProvider = new ReacvtiveDiscoveryClientVaultServiceInstanceProvider(
 					reactiveDiscoveryClient);
+			VaultProperties.Discovery discovery = this.vaultProperties.getDiscovery();
 
-			return () -> Mono.defer(() -> {
-
-				String serviceId = this.vaultProperties.getDiscovery().getServiceId();
-
-				return instanceProvider.getVaultServerInstance(serviceId).map(this.configuration::createVaultEndpoint);
-			});
+			return new CachingReactiveVaultEndpointProvider(discovery.getServiceId(),
+					() -> instanceProvider.getVaultServerInstances(discovery.getServiceId()),
+					this.configuration::createVaultEndpoint, discovery.getTtl(), this.endpointSelector);
 		}
 
 		VaultEndpointProvider endpointProvider = endpointProviders.getObject();
@@ -90,4 +92,15 @@ public class ReactiveDiscoveryClientVaultBootstrapConfiguration {
 		return () -> Mono.fromSupplier(endpointProvider::getVaultEndpoint).subscribeOn(Schedulers.boundedElastic());
 	}
 
+	/**
+	 * @return the {@link WebClientCustomizer} tracking outstanding requests to
+	 * discovered Vault instances for {@code least-outstanding} load balancing.
+	 * @since 3.0.1
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "spring.cloud.vault.discovery.load-balancing", havingValue = "least-outstanding")
+	public WebClientCustomizer vaultOutstandingRequestsWebClientCustomizer() {
+		return CachingReactiveVaultEndpointProvider.webClientCustomizer(this.endpointSelector);
+	}
+
 }
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.vault.core.ReactiveVaultOperations;
+
+/**
+ * Interface that specified a basic set of reactive Vault operations, implemented by
+ * {@link ReactiveVaultConfigTemplate}. Reactive counterpart of
+ * {@link VaultConfigOperations}.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see ReactiveVaultConfigTemplate
+ * @see VaultConfigOperations
+ * @see Secrets
+ */
+public interface ReactiveVaultConfigOperations {
+
+	/**
+	 * Read secrets from a secret backend encapsulated within a
+	 * {@link SecretBackendMetadata}. Reading data using this method is suitable for
+	 * secret backends that do not require a request body.
+	 * @param secretBackendMetadata must not be {@literal null}.
+	 * @return the configuration data. Completes empty if the secret backend does not
+	 * contain secrets. Emits {@link IllegalStateException} if reading fails and
+	 * {@link VaultProperties#failFast} is enabled.
+	 */
+	Mono<Secrets> read(SecretBackendMetadata secretBackendMetadata);
+
+	/**
+	 * @return the underlying {@link ReactiveVaultOperations}.
+	 */
+	ReactiveVaultOperations getVaultOperations();
+
+}
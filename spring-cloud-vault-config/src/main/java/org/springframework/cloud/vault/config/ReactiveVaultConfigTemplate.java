@@ -0,0 +1,213 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.core.ReactiveVaultOperations;
+import org.springframework.vault.support.VaultResponse;
+
+/**
+ * Central class to retrieve configuration from Vault using {@link ReactiveVaultOperations}.
+ * Reactive counterpart of {@link VaultConfigTemplate}.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see ReactiveVaultOperations
+ * @see VaultConfigTemplate
+ */
+public class ReactiveVaultConfigTemplate implements ReactiveVaultConfigOperations {
+
+	private static final Log log = LogFactory.getLog(ReactiveVaultConfigTemplate.class);
+
+	private final ReactiveVaultOperations vaultOperations;
+
+	private final VaultProperties properties;
+
+	@Nullable
+	private final MountTableCache.ReactiveLoader mountTableLoader;
+
+	@Nullable
+	private final NegativeResultCache negativeResultCache;
+
+	@Nullable
+	private final KeyValueContextListing.ReactiveListing contextListing;
+
+	/**
+	 * Create a new {@link ReactiveVaultConfigTemplate} given
+	 * {@link ReactiveVaultOperations}.
+	 * @param vaultOperations must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 */
+	public ReactiveVaultConfigTemplate(ReactiveVaultOperations vaultOperations, VaultProperties properties) {
+		this(vaultOperations, properties, null, null);
+	}
+
+	/**
+	 * Create a new {@link ReactiveVaultConfigTemplate} given
+	 * {@link ReactiveVaultOperations} and shared caches.
+	 * @param vaultOperations must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 * @param mountTableCache the mount table cache, can be {@literal null} to detect
+	 * versioned Key-Value mounts for each path.
+	 * @param negativeResultCache cache for secret paths that were not found, can be
+	 * {@literal null} to read each path.
+	 */
+	ReactiveVaultConfigTemplate(ReactiveVaultOperations vaultOperations, VaultProperties properties,
+			@Nullable MountTableCache mountTableCache, @Nullable NegativeResultCache negativeResultCache) {
+
+		Assert.notNull(vaultOperations, "ReactiveVaultOperations must not be null!");
+		Assert.notNull(properties, "VaultProperties must not be null!");
+
+		this.vaultOperations = vaultOperations;
+		this.properties = properties;
+		this.mountTableLoader = mountTableCache != null ? new MountTableCache.ReactiveLoader(mountTableCache) : null;
+		this.negativeResultCache = negativeResultCache;
+		this.contextListing = this.mountTableLoader != null && properties.getConfig().isListContexts()
+				? new KeyValueContextListing.ReactiveListing(new KeyValueContextListing(mountTableCache),
+						this.mountTableLoader)
+				: null;
+	}
+
+	@Override
+	public Mono<Secrets> read(SecretBackendMetadata secretBackendMetadata) {
+
+		Assert.notNull(secretBackendMetadata, "SecureBackendAccessor must not be null!");
+
+		String path = secretBackendMetadata.getPath();
+
+		return Mono.defer(() -> {
+
+			if (this.negativeResultCache != null && this.negativeResultCache.isMissing(path)) {
+
+				log.debug(String.format("Skipping config from Vault at: %s (cached as not found)", path));
+				return Mono.empty();
+			}
+
+			if (this.contextListing != null && secretBackendMetadata instanceof KeyValueSecretBackendMetadata) {
+
+				return this.contextListing.exists(this.vaultOperations, path).flatMap(exists -> {
+
+					if (exists) {
+						return doRead(secretBackendMetadata);
+					}
+
+					log.debug(String.format("Skipping config from Vault at: %s (not listed)", path));
+					return Mono.empty();
+				});
+			}
+
+			return doRead(secretBackendMetadata);
+		}).onErrorResume(e -> {
+
+			if (this.properties.isFailFast()) {
+				return Mono.error(new IllegalStateException(
+						"Could not locate PropertySource and the fail fast property is set, failing.", e));
+			}
+
+			log.warn(String.format("Could not locate PropertySource: %s", e.getMessage()));
+			return Mono.empty();
+		});
+	}
+
+	private Mono<Secrets> doRead(SecretBackendMetadata secretBackendMetadata) {
+
+		String path = secretBackendMetadata.getPath();
+
+		log.info(String.format("Fetching config from Vault at: %s", path));
+
+		return getKeyValue2MountPath(path).map(Optional::of).defaultIfEmpty(Optional.empty())
+				.flatMap(mountPath -> mountPath.isPresent() ? readVersioned(mountPath.get(), path)
+						: this.vaultOperations.read(path))
+				.map(response -> {
+
+					if (this.negativeResultCache != null) {
+						this.negativeResultCache.recordPresent(path);
+					}
+
+					return VaultConfigTemplate.deduplicate(
+							VaultConfigTemplate.createSecrets(secretBackendMetadata, response), this.properties);
+				}).switchIfEmpty(Mono.fromRunnable(() -> {
+
+					log.info(String.format("Could not locate PropertySource: %s", "key not found"));
+
+					if (this.negativeResultCache != null) {
+						this.negativeResultCache.recordMissing(path);
+					}
+				}));
+	}
+
+	/**
+	 * Determine the mount path if {@code path} is located within a versioned Key-Value
+	 * (version 2) secrets engine.
+	 * @param path the secret path.
+	 * @return the mount path. Completes empty if {@code path} is not located within a
+	 * versioned Key-Value secrets engine or if the mount cannot be determined.
+	 */
+	private Mono<String> getKeyValue2MountPath(String path) {
+
+		if (this.mountTableLoader == null) {
+			return getKeyValue2MountPathForPath(path);
+		}
+
+		MountTableCache.ReactiveLoader mountTableLoader = this.mountTableLoader;
+
+		return mountTableLoader.load(this.vaultOperations).flatMap(available -> {
+
+			if (available) {
+				return Mono.justOrEmpty(mountTableLoader.getCache().getKeyValue2MountPath(path));
+			}
+
+			return getKeyValue2MountPathForPath(path);
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private Mono<String> getKeyValue2MountPathForPath(String path) {
+
+		return this.vaultOperations.read("sys/internal/ui/mounts/" + path).flatMap(response -> {
+
+			Map<String, Object> data = response.getData();
+
+			if (data == null || !(data.get("options") instanceof Map) || !(data.get("path") instanceof String)) {
+				return Mono.empty();
+			}
+
+			Object version = ((Map<String, Object>) data.get("options")).get("version");
+
+			return "2".equals(String.valueOf(version)) ? Mono.just((String) data.get("path")) : Mono.empty();
+		}).onErrorResume(e -> Mono.empty());
+	}
+
+	private Mono<VaultResponse> readVersioned(String mountPath, String path) {
+		return this.vaultOperations.read(MountTableCache.getDataPath(mountPath, path))
+				.flatMap(response -> Mono.justOrEmpty(MountTableCache.unwrap(response)));
+	}
+
+	@Override
+	public ReactiveVaultOperations getVaultOperations() {
+		return this.vaultOperations;
+	}
+
+}
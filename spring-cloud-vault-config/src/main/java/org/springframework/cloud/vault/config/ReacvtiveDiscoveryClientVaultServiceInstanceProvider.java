@@ -16,6 +16,8 @@
 
 package org.springframework.cloud.vault.config;
 
+import java.util.List;
+
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import reactor.core.publisher.Mono;
@@ -39,6 +41,13 @@ class ReacvtiveDiscoveryClientVaultServiceInstanceProvider {
 		this.client = client;
 	}
 
+	Mono<List<ServiceInstance>> getVaultServerInstances(String serviceId) {
+
+		log.debug("Locating Vault server (" + serviceId + ") via discovery");
+
+		return this.client.getInstances(serviceId).collectList();
+	}
+
 	Mono<ServiceInstance> getVaultServerInstance(String serviceId) {
 
 		log.debug("Locating Vault server (" + serviceId + ") via discovery");
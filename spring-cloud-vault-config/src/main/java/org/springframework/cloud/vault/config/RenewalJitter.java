@@ -0,0 +1,194 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.authentication.LifecycleAwareSessionManagerSupport.RefreshTrigger;
+import org.springframework.vault.authentication.LoginToken;
+
+/**
+ * Jitter that schedules lease renewals and token refreshes earlier by an offset of up
+ * to a configured maximum to avoid synchronized renewals across application instances.
+ * The offset is either random per renewal or, if an instance identifier is configured,
+ * derived from a hash of the instance identifier. Renewals are never moved by more than
+ * half of their remaining delay so that a renewal is not scheduled immediately after
+ * obtaining a lease or token.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+class RenewalJitter {
+
+	private final long maxOffsetMillis;
+
+	private final long instanceOffsetMillis;
+
+	private final boolean random;
+
+	RenewalJitter(Duration jitter, @Nullable String instanceId) {
+
+		Assert.notNull(jitter, "Jitter must not be null");
+		Assert.isTrue(!jitter.isNegative(), "Jitter must not be negative");
+
+		this.maxOffsetMillis = jitter.toMillis();
+		this.random = !StringUtils.hasText(instanceId);
+		this.instanceOffsetMillis = this.random ? 0 : spread(instanceId, this.maxOffsetMillis);
+	}
+
+	/**
+	 * Create {@link RenewalJitter} for lease renewal.
+	 * @param lifecycle the lease lifecycle properties.
+	 * @return the {@link RenewalJitter} or {@literal null} if jitter is not configured.
+	 */
+	@Nullable
+	static RenewalJitter create(VaultProperties.ConfigLifecycle lifecycle) {
+		return create(lifecycle.getJitter(), lifecycle.getInstanceId());
+	}
+
+	/**
+	 * Create {@link RenewalJitter} for token refresh.
+	 * @param lifecycle the session lifecycle properties.
+	 * @return the {@link RenewalJitter} or {@literal null} if jitter is not configured.
+	 */
+	@Nullable
+	static RenewalJitter create(VaultProperties.SessionLifecycle lifecycle) {
+		return create(lifecycle.getJitter(), lifecycle.getInstanceId());
+	}
+
+	@Nullable
+	private static RenewalJitter create(@Nullable Duration jitter, @Nullable String instanceId) {
+
+		if (jitter == null || jitter.isZero() || jitter.isNegative()) {
+			return null;
+		}
+
+		return new RenewalJitter(jitter, instanceId);
+	}
+
+	private static long spread(String instanceId, long maxOffsetMillis) {
+
+		long hash = instanceId.hashCode() * 0x9E3779B97F4A7C15L;
+		return Math.floorMod(hash ^ (hash >>> 32), maxOffsetMillis + 1);
+	}
+
+	/**
+	 * Apply jitter to a scheduled execution time.
+	 * @param executionTime the scheduled execution time, can be {@literal null}.
+	 * @return the execution time with jitter applied.
+	 */
+	@Nullable
+	Date apply(@Nullable Date executionTime) {
+
+		if (executionTime == null) {
+			return null;
+		}
+
+		long delay = executionTime.getTime() - System.currentTimeMillis();
+
+		if (delay <= 1) {
+			return executionTime;
+		}
+
+		long offset = this.random ? ThreadLocalRandom.current().nextLong(this.maxOffsetMillis + 1)
+				: this.instanceOffsetMillis;
+
+		return new Date(executionTime.getTime() - Math.min(offset, delay / 2));
+	}
+
+	/**
+	 * Decorate a {@link TaskScheduler} to apply jitter to trigger-based and one-time
+	 * tasks.
+	 * @param taskScheduler the task scheduler.
+	 * @return the decorated {@link TaskScheduler}.
+	 */
+	TaskScheduler decorate(TaskScheduler taskScheduler) {
+		return new JitteredTaskScheduler(taskScheduler);
+	}
+
+	/**
+	 * Decorate a {@link RefreshTrigger} to apply jitter to token refreshes.
+	 * @param refreshTrigger the refresh trigger.
+	 * @return the decorated {@link RefreshTrigger}.
+	 */
+	RefreshTrigger decorate(RefreshTrigger refreshTrigger) {
+
+		return new RefreshTrigger() {
+
+			@Override
+			@Nullable
+			public Date nextExecutionTime(LoginToken loginToken) {
+				return apply(refreshTrigger.nextExecutionTime(loginToken));
+			}
+
+			@Override
+			public Duration getValidTtlThreshold(LoginToken loginToken) {
+				return refreshTrigger.getValidTtlThreshold(loginToken);
+			}
+		};
+	}
+
+	private class JitteredTaskScheduler implements TaskScheduler {
+
+		private final TaskScheduler delegate;
+
+		JitteredTaskScheduler(TaskScheduler delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		@Nullable
+		public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+			return this.delegate.schedule(task, triggerContext -> apply(trigger.nextExecutionTime(triggerContext)));
+		}
+
+		@Override
+		public ScheduledFuture<?> schedule(Runnable task, Date startTime) {
+			return this.delegate.schedule(task, apply(startTime));
+		}
+
+		@Override
+		public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Date startTime, long period) {
+			return this.delegate.scheduleAtFixedRate(task, startTime, period);
+		}
+
+		@Override
+		public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long period) {
+			return this.delegate.scheduleAtFixedRate(task, period);
+		}
+
+		@Override
+		public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Date startTime, long delay) {
+			return this.delegate.scheduleWithFixedDelay(task, startTime, delay);
+		}
+
+		@Override
+		public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long delay) {
+			return this.delegate.scheduleWithFixedDelay(task, delay);
+		}
+
+	}
+
+}
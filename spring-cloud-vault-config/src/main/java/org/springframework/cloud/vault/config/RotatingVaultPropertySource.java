@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.LeaseErrorListener;
+import org.springframework.vault.core.lease.event.LeaseListener;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseEvent;
+import org.springframework.vault.core.lease.event.SecretNotFoundEvent;
+import org.springframework.vault.core.util.PropertyTransformer;
+import org.springframework.vault.support.JsonMapFlattener;
+
+/**
+ * {@link EnumerablePropertySource} for a {@link RequestedSecret} managed by a
+ * {@link SecretLeaseContainer}. Properties are held in an immutable
+ * {@link CompactPropertyMap} snapshot that is replaced through a single volatile write
+ * when the secret is rotated. Expiry of the lease retains the snapshot until the
+ * rotated secret arrives. Readers observe either the previous or the new secret
+ * completely (e.g. username and password of the same credential pair) without acquiring
+ * locks.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see org.springframework.vault.core.env.LeaseAwareVaultPropertySource
+ */
+class RotatingVaultPropertySource extends EnumerablePropertySource<SecretLeaseContainer> {
+
+	private static final Log log = LogFactory.getLog(RotatingVaultPropertySource.class);
+
+	private final RequestedSecret requestedSecret;
+
+	private final PropertyTransformer propertyTransformer;
+
+	private final LeaseListener leaseListener = this::handleLeaseEvent;
+
+	private final LeaseErrorListener leaseErrorListener = this::handleLeaseErrorEvent;
+
+	private volatile CompactPropertyMap properties = CompactPropertyMap.EMPTY;
+
+	/**
+	 * Create a new {@link RotatingVaultPropertySource} and register {@code secret} with
+	 * {@link SecretLeaseContainer}.
+	 * @param name name of the property source, must not be {@literal null}.
+	 * @param secretLeaseContainer the lease container, must not be {@literal null}.
+	 * @param requestedSecret the requested secret, must not be {@literal null}.
+	 * @param propertyTransformer the property transformer, must not be {@literal null}.
+	 */
+	RotatingVaultPropertySource(String name, SecretLeaseContainer secretLeaseContainer,
+			RequestedSecret requestedSecret, PropertyTransformer propertyTransformer) {
+
+		super(name, secretLeaseContainer);
+
+		Assert.notNull(secretLeaseContainer, "SecretLeaseContainer must not be null");
+		Assert.notNull(requestedSecret, "RequestedSecret must not be null");
+		Assert.notNull(propertyTransformer, "PropertyTransformer must not be null");
+
+		this.requestedSecret = requestedSecret;
+		this.propertyTransformer = propertyTransformer;
+
+		secretLeaseContainer.addLeaseListener(this.leaseListener);
+		secretLeaseContainer.addErrorListener(this.leaseErrorListener);
+		secretLeaseContainer.addRequestedSecret(requestedSecret);
+	}
+
+	RequestedSecret getRequestedSecret() {
+		return this.requestedSecret;
+	}
+
+	@Override
+	@Nullable
+	public Object getProperty(String name) {
+		return this.properties.get(name);
+	}
+
+	@Override
+	public boolean containsProperty(String name) {
+		return this.properties.containsKey(name);
+	}
+
+	@Override
+	public String[] getPropertyNames() {
+		return this.properties.getNames();
+	}
+
+	/**
+	 * @return the current property snapshot.
+	 */
+	CompactPropertyMap getProperties() {
+		return this.properties;
+	}
+
+	private void handleLeaseEvent(SecretLeaseEvent leaseEvent) {
+
+		if (leaseEvent.getSource() != this.requestedSecret) {
+			return;
+		}
+
+		if (leaseEvent instanceof SecretLeaseCreatedEvent) {
+
+			SecretLeaseCreatedEvent created = (SecretLeaseCreatedEvent) leaseEvent;
+
+			this.properties = CompactPropertyMap
+					.from(this.propertyTransformer.transformProperties(JsonMapFlattener.flatten(created.getSecrets())));
+			return;
+		}
+
+		if (leaseEvent instanceof SecretNotFoundEvent) {
+			log.warn(String.format("Secret at %s not found", this.requestedSecret.getPath()));
+		}
+	}
+
+	private void handleLeaseErrorEvent(SecretLeaseEvent leaseEvent, Exception exception) {
+
+		if (leaseEvent.getSource() != this.requestedSecret) {
+			return;
+		}
+
+		log.warn(String.format("Lease error for secret at %s: %s", this.requestedSecret.getPath(),
+				exception.getMessage()));
+	}
+
+}
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Date;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+
+import org.springframework.cloud.vault.config.VaultSecretLeaseContainer.RevocationOutcome;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.AfterSecretLeaseRenewedEvent;
+import org.springframework.vault.core.lease.event.AfterSecretLeaseRevocationEvent;
+import org.springframework.vault.core.lease.event.LeaseErrorListener;
+import org.springframework.vault.core.lease.event.LeaseListener;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseExpiredEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseRotatedEvent;
+import org.springframework.vault.core.lease.event.SecretNotFoundEvent;
+
+/**
+ * {@link LeaseListener} and {@link LeaseErrorListener} that publishes Micrometer metrics
+ * for secrets managed by a {@link SecretLeaseContainer}:
+ * <ul>
+ * <li>{@code spring.cloud.vault.lease.active}: number of active leases per backend.</li>
+ * <li>{@code spring.cloud.vault.lease.expiry}: seconds until a lease expires.</li>
+ * <li>{@code spring.cloud.vault.lease.renewal}: lease renewal latency.</li>
+ * <li>{@code spring.cloud.vault.lease.rotation}: secret rotation latency.</li>
+ * <li>{@code spring.cloud.vault.lease.expired}: number of expired leases.</li>
+ * <li>{@code spring.cloud.vault.lease.failures}: number of lease errors.</li>
+ * <li>{@code spring.cloud.vault.lease.revocations}: number of lease revocations on
+ * shutdown by outcome.</li>
+ * </ul>
+ * Lease events are captured from the time the container is created. Meters are
+ * published to each {@link MeterRegistry} this binder is bound to. Renewal and rotation
+ * latency is measured for tasks scheduled through a {@link #decorate(TaskScheduler)
+ * decorated} {@link TaskScheduler}.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+class SecretLeaseMetrics implements LeaseListener, LeaseErrorListener, MeterBinder {
+
+	private final CompositeMeterRegistry registry = new CompositeMeterRegistry();
+
+	private final ThreadLocal<Long> taskStart = new ThreadLocal<>();
+
+	private final Map<String, ActiveLease> leases = new ConcurrentHashMap<>();
+
+	private final Set<String> backends = ConcurrentHashMap.newKeySet();
+
+	private final Set<String> paths = ConcurrentHashMap.newKeySet();
+
+	/**
+	 * Register this listener with {@link SecretLeaseContainer}.
+	 * @param container the secret lease container.
+	 */
+	void register(SecretLeaseContainer container) {
+
+		container.addLeaseListener(this);
+		container.addErrorListener(this);
+
+		if (container instanceof VaultSecretLeaseContainer) {
+			((VaultSecretLeaseContainer) container).addRevocationListener(this::onRevocation);
+		}
+	}
+
+	/**
+	 * Decorate a {@link TaskScheduler} to measure the latency of lease renewals and
+	 * secret rotations.
+	 * @param taskScheduler the task scheduler.
+	 * @return the decorated {@link TaskScheduler}.
+	 */
+	TaskScheduler decorate(TaskScheduler taskScheduler) {
+		return new TimingTaskScheduler(taskScheduler);
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		this.registry.add(registry);
+	}
+
+	@Override
+	public void onLeaseEvent(SecretLeaseEvent leaseEvent) {
+
+		RequestedSecret secret = leaseEvent.getSource();
+		Lease lease = leaseEvent.getLease();
+		String backend = getBackend(secret);
+
+		if (leaseEvent instanceof SecretLeaseRotatedEvent) {
+			recordLatency("spring.cloud.vault.lease.rotation", backend);
+		}
+
+		if (leaseEvent instanceof AfterSecretLeaseRenewedEvent) {
+			recordLatency("spring.cloud.vault.lease.renewal", backend);
+		}
+
+		if (leaseEvent instanceof SecretLeaseCreatedEvent || leaseEvent instanceof AfterSecretLeaseRenewedEvent) {
+
+			if (lease != null && StringUtils.hasText(lease.getLeaseId())) {
+				activate(secret, backend, lease);
+			}
+			else {
+				this.leases.remove(secret.getPath());
+			}
+			return;
+		}
+
+		if (leaseEvent instanceof SecretLeaseExpiredEvent) {
+			this.registry.counter("spring.cloud.vault.lease.expired", "backend", backend).increment();
+			this.leases.remove(secret.getPath());
+			return;
+		}
+
+		if (leaseEvent instanceof AfterSecretLeaseRevocationEvent || leaseEvent instanceof SecretNotFoundEvent) {
+			this.leases.remove(secret.getPath());
+		}
+	}
+
+	@Override
+	public void onLeaseError(SecretLeaseEvent leaseEvent, Exception exception) {
+
+		this.registry.counter("spring.cloud.vault.lease.failures", "backend", getBackend(leaseEvent.getSource()),
+				"exception", exception.getClass().getSimpleName()).increment();
+	}
+
+	/**
+	 * Record the outcome of a lease revocation on shutdown.
+	 * @param secret the requested secret.
+	 * @param outcome the revocation outcome.
+	 */
+	void onRevocation(RequestedSecret secret, RevocationOutcome outcome) {
+
+		this.registry.counter("spring.cloud.vault.lease.revocations", "backend", getBackend(secret), "outcome",
+				outcome.name().toLowerCase(Locale.ROOT)).increment();
+	}
+
+	/**
+	 * @param backend the backend name.
+	 * @return the number of active leases of {@code backend}.
+	 */
+	int getActiveLeases(String backend) {
+
+		int count = 0;
+
+		for (ActiveLease lease : this.leases.values()) {
+			if (lease.backend.equals(backend)) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * @param path the secret path.
+	 * @return seconds until the lease for {@code path} expires or {@link Double#NaN} if
+	 * there is no active lease.
+	 */
+	double getSecondsToExpiry(String path) {
+
+		ActiveLease lease = this.leases.get(path);
+
+		if (lease == null) {
+			return Double.NaN;
+		}
+
+		return Math.max(0, lease.expiresAt - System.currentTimeMillis()) / 1000d;
+	}
+
+	private void activate(RequestedSecret secret, String backend, Lease lease) {
+
+		this.leases.put(secret.getPath(),
+				new ActiveLease(backend, System.currentTimeMillis() + lease.getLeaseDuration().toMillis()));
+
+		if (this.backends.add(backend)) {
+			Gauge.builder("spring.cloud.vault.lease.active", this, metrics -> metrics.getActiveLeases(backend))
+					.description("Number of active leases").tag("backend", backend).register(this.registry);
+		}
+
+		if (this.paths.add(secret.getPath())) {
+			Gauge.builder("spring.cloud.vault.lease.expiry", this,
+					metrics -> metrics.getSecondsToExpiry(secret.getPath())).description("Seconds until lease expiry")
+					.baseUnit("seconds").tags(Tags.of("backend", backend, "path", secret.getPath()))
+					.register(this.registry);
+		}
+	}
+
+	private void recordLatency(String name, String backend) {
+
+		Long start = this.taskStart.get();
+
+		if (start != null) {
+			this.registry.timer(name, "backend", backend).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+		}
+	}
+
+	private static String getBackend(RequestedSecret secret) {
+
+		String path = secret.getPath();
+		int separator = path.indexOf('/');
+
+		return separator > 0 ? path.substring(0, separator) : path;
+	}
+
+	private static class ActiveLease {
+
+		private final String backend;
+
+		private final long expiresAt;
+
+		ActiveLease(String backend, long expiresAt) {
+			this.backend = backend;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+	/**
+	 * {@link TaskScheduler} that captures the start time of scheduled tasks so lease
+	 * events published by a task can be correlated with the task start.
+	 */
+	private class TimingTaskScheduler implements TaskScheduler {
+
+		private final TaskScheduler delegate;
+
+		TimingTaskScheduler(TaskScheduler delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		@Nullable
+		public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+			return this.delegate.schedule(timed(task), trigger);
+		}
+
+		@Override
+		public ScheduledFuture<?> schedule(Runnable task, Date startTime) {
+			return this.delegate.schedule(timed(task), startTime);
+		}
+
+		@Override
+		public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Date startTime, long period) {
+			return this.delegate.scheduleAtFixedRate(task, startTime, period);
+		}
+
+		@Override
+		public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long period) {
+			return this.delegate.scheduleAtFixedRate(task, period);
+		}
+
+		@Override
+		public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Date startTime, long delay) {
+			return this.delegate.scheduleWithFixedDelay(task, startTime, delay);
+		}
+
+		@Override
+		public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long delay) {
+			return this.delegate.scheduleWithFixedDelay(task, delay);
+		}
+
+		private Runnable timed(Runnable task) {
+
+			return () -> {
+
+				SecretLeaseMetrics.this.taskStart.set(System.nanoTime());
+
+				try {
+					task.run();
+				}
+				finally {
+					SecretLeaseMetrics.this.taskStart.remove();
+				}
+			};
+		}
+
+	}
+
+}
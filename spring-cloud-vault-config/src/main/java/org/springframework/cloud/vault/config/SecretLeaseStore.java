@@ -0,0 +1,260 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.vault.core.lease.domain.Lease;
+
+/**
+ * Encrypted on-disk store of renewable leases and their secrets. Stored leases allow
+ * reusing dynamic credentials across application restarts instead of requesting new
+ * credentials on each startup. Leases are stored in an {@link EncryptedFile}.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see VaultProperties.LeaseStore
+ */
+class SecretLeaseStore {
+
+	private static final Log log = LogFactory.getLog(SecretLeaseStore.class);
+
+	private static final TypeReference<Map<String, StoredLease>> STORE_TYPE = new TypeReference<Map<String, StoredLease>>() {
+	};
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final EncryptedFile file;
+
+	private final Map<String, StoredLease> leases = new LinkedHashMap<>();
+
+	SecretLeaseStore(Path location, char[] password) {
+
+		this.file = new EncryptedFile(location, password);
+
+		load();
+	}
+
+	/**
+	 * Create a {@link SecretLeaseStore} from {@link VaultProperties}.
+	 * @param properties the Vault properties.
+	 * @return the {@link SecretLeaseStore}.
+	 */
+	static SecretLeaseStore create(VaultProperties properties) {
+
+		VaultProperties.LeaseStore leaseStore = properties.getConfig().getLifecycle().getLeaseStore();
+
+		Assert.hasText(leaseStore.getLocation(), "Lease store location "
+				+ "(spring.cloud.vault.config.lifecycle.lease-store.location) must not be empty when enabled");
+		Assert.hasText(leaseStore.getPassword(), "Lease store password "
+				+ "(spring.cloud.vault.config.lifecycle.lease-store.password) must not be empty when enabled");
+
+		return new SecretLeaseStore(Paths.get(leaseStore.getLocation()), leaseStore.getPassword().toCharArray());
+	}
+
+	/**
+	 * Return the lease stored for a secret path.
+	 * @param path the secret path.
+	 * @return the stored lease or {@literal null} if the store does not contain a lease
+	 * for {@code path}.
+	 */
+	@Nullable
+	synchronized StoredLease get(String path) {
+		return this.leases.get(path);
+	}
+
+	/**
+	 * Store a lease with its secrets.
+	 * @param path the secret path.
+	 * @param lease the lease, must have a lease identifier.
+	 * @param data the secrets.
+	 */
+	synchronized void put(String path, Lease lease, Map<String, Object> data) {
+
+		Assert.hasText(lease.getLeaseId(), "Lease must have a lease identifier");
+
+		this.leases.put(path, new StoredLease(lease.getLeaseId(), lease.getLeaseDuration().getSeconds(),
+				lease.isRenewable(), expiresAt(lease), data));
+		save();
+	}
+
+	/**
+	 * Update the lease of a stored secret after renewal.
+	 * @param path the secret path.
+	 * @param lease the renewed lease.
+	 */
+	synchronized void update(String path, Lease lease) {
+
+		StoredLease stored = this.leases.get(path);
+
+		if (stored == null || !stored.getLeaseId().equals(lease.getLeaseId())) {
+			return;
+		}
+
+		this.leases.put(path, new StoredLease(stored.getLeaseId(), lease.getLeaseDuration().getSeconds(),
+				lease.isRenewable(), expiresAt(lease), stored.getData()));
+		save();
+	}
+
+	/**
+	 * Remove the lease stored for a secret path.
+	 * @param path the secret path.
+	 */
+	synchronized void remove(String path) {
+
+		if (this.leases.remove(path) != null) {
+			save();
+		}
+	}
+
+	/**
+	 * Check whether {@code leaseId} is stored for {@code path}.
+	 * @param path the secret path.
+	 * @param leaseId the lease identifier.
+	 * @return {@literal true} if the lease is stored.
+	 */
+	synchronized boolean contains(String path, @Nullable String leaseId) {
+
+		StoredLease stored = this.leases.get(path);
+		return stored != null && stored.getLeaseId().equals(leaseId);
+	}
+
+	private static long expiresAt(Lease lease) {
+		return System.currentTimeMillis() + lease.getLeaseDuration().toMillis();
+	}
+
+	private void load() {
+
+		try {
+
+			byte[] contents = this.file.read();
+
+			if (contents != null) {
+				this.leases.putAll(this.objectMapper.readValue(contents, STORE_TYPE));
+			}
+		}
+		catch (IOException | GeneralSecurityException | RuntimeException e) {
+			log.warn(String.format("Cannot read lease store %s: %s", this.file.getLocation(), e.getMessage()));
+		}
+	}
+
+	private void save() {
+
+		try {
+			this.file.write(this.objectMapper.writeValueAsBytes(this.leases));
+		}
+		catch (IOException | GeneralSecurityException e) {
+			log.warn(String.format("Cannot write lease store %s: %s", this.file.getLocation(), e.getMessage()));
+		}
+	}
+
+	/**
+	 * A stored lease along with its secrets.
+	 */
+	static class StoredLease {
+
+		private String leaseId;
+
+		private long leaseDuration;
+
+		private boolean renewable;
+
+		private long expiresAt;
+
+		private Map<String, Object> data;
+
+		StoredLease() {
+		}
+
+		StoredLease(String leaseId, long leaseDuration, boolean renewable, long expiresAt, Map<String, Object> data) {
+			this.leaseId = leaseId;
+			this.leaseDuration = leaseDuration;
+			this.renewable = renewable;
+			this.expiresAt = expiresAt;
+			this.data = data;
+		}
+
+		public String getLeaseId() {
+			return this.leaseId;
+		}
+
+		public void setLeaseId(String leaseId) {
+			this.leaseId = leaseId;
+		}
+
+		public long getLeaseDuration() {
+			return this.leaseDuration;
+		}
+
+		public void setLeaseDuration(long leaseDuration) {
+			this.leaseDuration = leaseDuration;
+		}
+
+		public boolean isRenewable() {
+			return this.renewable;
+		}
+
+		public void setRenewable(boolean renewable) {
+			this.renewable = renewable;
+		}
+
+		public long getExpiresAt() {
+			return this.expiresAt;
+		}
+
+		public void setExpiresAt(long expiresAt) {
+			this.expiresAt = expiresAt;
+		}
+
+		public Map<String, Object> getData() {
+			return this.data;
+		}
+
+		public void setData(Map<String, Object> data) {
+			this.data = data;
+		}
+
+		/**
+		 * @return the remaining time until the lease expires.
+		 */
+		Duration getRemaining() {
+			return Duration.ofMillis(Math.max(0, this.expiresAt - System.currentTimeMillis()));
+		}
+
+		/**
+		 * @return the {@link Lease} with its remaining duration.
+		 */
+		Lease toLease() {
+			return Lease.of(this.leaseId, getRemaining(), this.renewable);
+		}
+
+	}
+
+}
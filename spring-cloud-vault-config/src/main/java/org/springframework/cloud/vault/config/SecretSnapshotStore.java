@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.GeneralSecurityException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Encrypted on-disk snapshot of property sources read from Vault. The snapshot maps
+ * property source names, scoped to the Vault server and namespace, to their properties
+ * and allows serving property sources on startup without waiting for Vault, and during
+ * Vault outages.
+ * <p>
+ * The snapshot file is encrypted using AES-GCM with a key derived from a password
+ * through PBKDF2. Each write uses a new initialization vector. The file is replaced
+ * atomically and is not readable without the password.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see VaultProperties.Snapshot
+ */
+class SecretSnapshotStore {
+
+	private static final Log log = LogFactory.getLog(SecretSnapshotStore.class);
+
+	private static final TypeReference<Map<String, Map<String, Object>>> SNAPSHOT_TYPE = new TypeReference<Map<String, Map<String, Object>>>() {
+	};
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final EncryptedFile file;
+
+	private final String scope;
+
+	private final Map<String, Map<String, Object>> snapshot = new LinkedHashMap<>();
+
+	private final ThreadPoolExecutor revalidationExecutor;
+
+	SecretSnapshotStore(Path location, char[] password) {
+		this(location, password, "");
+	}
+
+	/**
+	 * Create a new {@link SecretSnapshotStore} whose entries are scoped to a Vault server
+	 * and namespace.
+	 * @param location the snapshot file.
+	 * @param password the password to encrypt the snapshot file.
+	 * @param scope the Vault server and namespace identifier.
+	 */
+	SecretSnapshotStore(Path location, char[] password, String scope) {
+
+		this.file = new EncryptedFile(location, password);
+		this.scope = scope;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("Spring-Cloud-Vault-Snapshot-");
+		threadFactory.setDaemon(true);
+
+		this.revalidationExecutor = new ThreadPoolExecutor(1, 1, 10, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+				threadFactory);
+		this.revalidationExecutor.allowCoreThreadTimeOut(true);
+
+		load();
+	}
+
+	/**
+	 * Create a {@link SecretSnapshotStore} from {@link VaultProperties}.
+	 * @param properties the Vault properties.
+	 * @return the {@link SecretSnapshotStore}.
+	 */
+	static SecretSnapshotStore create(VaultProperties properties) {
+
+		VaultProperties.Snapshot snapshot = properties.getConfig().getSnapshot();
+
+		Assert.hasText(snapshot.getLocation(), "Snapshot location (spring.cloud.vault.config.snapshot.location) "
+				+ "must not be empty when the snapshot is enabled");
+		Assert.hasText(snapshot.getPassword(), "Snapshot password (spring.cloud.vault.config.snapshot.password) "
+				+ "must not be empty when the snapshot is enabled");
+
+		return new SecretSnapshotStore(Paths.get(snapshot.getLocation()), snapshot.getPassword().toCharArray(),
+				new VaultConfiguration(properties).getVaultScope());
+	}
+
+	/**
+	 * Return the properties stored for a property source.
+	 * @param name the property source name.
+	 * @return the properties or {@literal null} if the snapshot does not contain the
+	 * property source.
+	 */
+	@Nullable
+	synchronized Map<String, Object> get(String name) {
+		return this.snapshot.get(this.scope + name);
+	}
+
+	/**
+	 * Store properties of a property source and write the snapshot file.
+	 * @param name the property source name.
+	 * @param properties the properties.
+	 */
+	synchronized void put(String name, Map<String, Object> properties) {
+
+		Map<String, Object> previous = this.snapshot.put(this.scope + name, Collections.unmodifiableMap(properties));
+
+		if (!properties.equals(previous)) {
+			save();
+		}
+	}
+
+	/**
+	 * Remove the properties of a property source and write the snapshot file.
+	 * @param name the property source name.
+	 */
+	synchronized void remove(String name) {
+
+		if (this.snapshot.remove(this.scope + name) != null) {
+			save();
+		}
+	}
+
+	/**
+	 * @return the {@link Executor} to revalidate property sources served from the
+	 * snapshot.
+	 */
+	Executor getRevalidationExecutor() {
+		return this.revalidationExecutor;
+	}
+
+	private void load() {
+
+		try {
+
+			byte[] contents = this.file.read();
+
+			if (contents != null) {
+				this.snapshot.putAll(this.objectMapper.readValue(contents, SNAPSHOT_TYPE));
+			}
+		}
+		catch (IOException | GeneralSecurityException | RuntimeException e) {
+			log.warn(String.format("Cannot read snapshot %s: %s", this.file.getLocation(), e.getMessage()));
+		}
+	}
+
+	private void save() {
+
+		try {
+			this.file.write(this.objectMapper.writeValueAsBytes(this.snapshot));
+		}
+		catch (IOException | GeneralSecurityException e) {
+			log.warn(String.format("Cannot write snapshot %s: %s", this.file.getLocation(), e.getMessage()));
+		}
+	}
+
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.vault.client.VaultResponses;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.util.PropertyTransformer;
+import org.springframework.vault.core.util.PropertyTransformers;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResponseExtractor;
+
+/**
+ * Utility to read {@link Secrets} by streaming the JSON response body. Secret data is
+ * flattened while parsing and property names are transformed as they are emitted so
+ * that reading a secret materializes a single property map instead of intermediate
+ * response, flattened and transformed maps.
+ * <p>
+ * Property names are transformed in the same pass if the {@link PropertyTransformer} is a
+ * {@link PropertyKeyTransformer}. Other {@link PropertyTransformer}s are applied to the
+ * flattened properties. Property names and values are canonicalized while creating the
+ * property map if a {@link PropertyInterner} is given.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+final class StreamingSecretReader {
+
+	private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+	private StreamingSecretReader() {
+	}
+
+	/**
+	 * Read {@link Secrets} from {@code path}.
+	 * @param vaultOperations the Vault operations.
+	 * @param path the path to read from.
+	 * @param versioned whether {@code path} is the data path of a versioned Key-Value
+	 * secret whose data is nested in a {@code data} object.
+	 * @param propertyTransformer the property transformer.
+	 * @param interner the interner to canonicalize property names and values, may be
+	 * {@literal null}.
+	 * @return the secrets or {@literal null} if the secret was not found.
+	 */
+	@Nullable
+	static Secrets read(VaultOperations vaultOperations, String path, boolean versioned,
+			PropertyTransformer propertyTransformer, @Nullable PropertyInterner interner) {
+
+		return vaultOperations.doWithSession(restOperations -> {
+
+			ResponseExtractor<Secrets> extractor = response -> parse(response.getBody(), versioned,
+					propertyTransformer, interner);
+
+			try {
+				return restOperations.execute(path, HttpMethod.GET, null, extractor);
+			}
+			catch (HttpStatusCodeException e) {
+
+				if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+					return null;
+				}
+
+				throw VaultResponses.buildException(e, path);
+			}
+		});
+	}
+
+	/**
+	 * Parse {@link Secrets} from a Vault JSON response.
+	 * @param body the response body.
+	 * @param versioned whether secret data is nested in a {@code data} object.
+	 * @param propertyTransformer the property transformer.
+	 * @param interner the interner to canonicalize property names and values, may be
+	 * {@literal null}.
+	 * @return the secrets or {@literal null} if the response does not contain secret
+	 * data.
+	 * @throws IOException if the response cannot be read.
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	static Secrets parse(InputStream body, boolean versioned, PropertyTransformer propertyTransformer,
+			@Nullable PropertyInterner interner) throws IOException {
+
+		UnaryOperator<String> keyMapper = getKeyMapper(propertyTransformer);
+
+		try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+
+			if (parser.nextToken() != JsonToken.START_OBJECT) {
+				return null;
+			}
+
+			Secrets secrets = new Secrets();
+			Map<String, Object> data = null;
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+				String field = parser.getCurrentName();
+				JsonToken token = parser.nextToken();
+
+				switch (field) {
+				case "data":
+					if (token != JsonToken.START_OBJECT) {
+						parser.skipChildren();
+						break;
+					}
+					if (versioned) {
+						data = parseVersioned(parser, secrets, keyMapper);
+					}
+					else {
+						data = new LinkedHashMap<>();
+						flatten(parser, "", data, keyMapper);
+					}
+					break;
+				case "request_id":
+					secrets.setRequestId(parser.getValueAsString());
+					break;
+				case "lease_id":
+					secrets.setLeaseId(parser.getValueAsString());
+					break;
+				case "lease_duration":
+					secrets.setLeaseDuration(parser.getValueAsLong());
+					break;
+				case "renewable":
+					secrets.setRenewable(parser.getValueAsBoolean());
+					break;
+				case "warnings":
+					secrets.setWarnings((List<String>) readValue(parser));
+					break;
+				case "wrap_info":
+					secrets.setWrapInfo((Map<String, String>) readValue(parser));
+					break;
+				case "auth":
+					secrets.setAuth((Map<String, Object>) readValue(parser));
+					break;
+				default:
+					parser.skipChildren();
+				}
+			}
+
+			if (data == null) {
+				return null;
+			}
+
+			if (keyMapper == null) {
+				data = propertyTransformer.transformProperties(data);
+			}
+
+			secrets.setData(CompactPropertyMap.from(data, interner));
+
+			return secrets;
+		}
+	}
+
+	/**
+	 * Return a function to transform property names one by one if
+	 * {@link PropertyTransformer} transforms property names independently.
+	 * @param propertyTransformer the property transformer.
+	 * @return the key mapping function or {@literal null} if the transformer must be
+	 * applied to the flattened properties.
+	 */
+	@Nullable
+	static UnaryOperator<String> getKeyMapper(PropertyTransformer propertyTransformer) {
+
+		if (propertyTransformer == PropertyTransformers.noop()) {
+			return UnaryOperator.identity();
+		}
+
+		if (propertyTransformer instanceof PropertyKeyTransformer) {
+			return ((PropertyKeyTransformer) propertyTransformer)::transformKey;
+		}
+
+		return null;
+	}
+
+	@Nullable
+	@SuppressWarnings("unchecked")
+	private static Map<String, Object> parseVersioned(JsonParser parser, Secrets secrets,
+			@Nullable UnaryOperator<String> keyMapper) throws IOException {
+
+		Map<String, Object> data = null;
+
+		while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+			String field = parser.getCurrentName();
+			JsonToken token = parser.nextToken();
+
+			if ("data".equals(field) && token == JsonToken.START_OBJECT) {
+				data = new LinkedHashMap<>();
+				flatten(parser, "", data, keyMapper);
+			}
+			else if ("metadata".equals(field) && token == JsonToken.START_OBJECT) {
+				secrets.setMetadata((Map<String, Object>) readValue(parser));
+			}
+			else {
+				parser.skipChildren();
+			}
+		}
+
+		return data;
+	}
+
+	/**
+	 * Flatten the current JSON value using the same naming as
+	 * {@link org.springframework.vault.support.JsonMapFlattener}: nested object properties
+	 * are separated with {@code .} and array elements use {@code [index]}.
+	 */
+	private static void flatten(JsonParser parser, String prefix, Map<String, Object> target,
+			@Nullable UnaryOperator<String> keyMapper) throws IOException {
+
+		JsonToken token = parser.currentToken();
+
+		if (token == JsonToken.START_OBJECT) {
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+				String name = parser.getCurrentName();
+				parser.nextToken();
+				flatten(parser, prefix.isEmpty() ? name : prefix + "." + name, target, keyMapper);
+			}
+
+			return;
+		}
+
+		if (token == JsonToken.START_ARRAY) {
+
+			int index = 0;
+
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				flatten(parser, prefix + "[" + index++ + "]", target, keyMapper);
+			}
+
+			return;
+		}
+
+		target.put(keyMapper != null ? keyMapper.apply(prefix) : prefix, readScalar(parser));
+	}
+
+	@Nullable
+	private static Object readValue(JsonParser parser) throws IOException {
+
+		JsonToken token = parser.currentToken();
+
+		if (token == JsonToken.START_OBJECT) {
+
+			Map<String, Object> map = new LinkedHashMap<>();
+
+			while (parser.nextToken() == JsonToken.FIELD_NAME) {
+
+				String name = parser.getCurrentName();
+				parser.nextToken();
+				map.put(name, readValue(parser));
+			}
+
+			return map;
+		}
+
+		if (token == JsonToken.START_ARRAY) {
+
+			List<Object> list = new ArrayList<>();
+
+			while (parser.nextToken() != JsonToken.END_ARRAY) {
+				list.add(readValue(parser));
+			}
+
+			return list;
+		}
+
+		return readScalar(parser);
+	}
+
+	@Nullable
+	private static Object readScalar(JsonParser parser) throws IOException {
+
+		switch (parser.currentToken()) {
+		case VALUE_STRING:
+			return parser.getText();
+		case VALUE_NUMBER_INT:
+			return parser.getNumberValue();
+		case VALUE_NUMBER_FLOAT:
+			return parser.getDoubleValue();
+		case VALUE_TRUE:
+			return Boolean.TRUE;
+		case VALUE_FALSE:
+			return Boolean.FALSE;
+		case VALUE_EMBEDDED_OBJECT:
+			return parser.getEmbeddedObject();
+		default:
+			return null;
+		}
+	}
+
+}
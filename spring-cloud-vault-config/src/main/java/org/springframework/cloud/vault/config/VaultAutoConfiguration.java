@@ -46,7 +46,6 @@ import org.springframework.vault.client.RestTemplateBuilder;
 import org.springframework.vault.client.RestTemplateCustomizer;
 import org.springframework.vault.client.RestTemplateFactory;
 import org.springframework.vault.client.RestTemplateRequestCustomizer;
-import org.springframework.vault.client.SimpleVaultEndpointProvider;
 import org.springframework.vault.client.VaultEndpointProvider;
 import org.springframework.vault.config.AbstractVaultConfiguration.ClientFactoryWrapper;
 import org.springframework.vault.core.VaultOperations;
@@ -92,7 +91,7 @@ public class VaultAutoConfiguration {
 		VaultEndpointProvider provider = endpointProvider.getIfAvailable();
 
 		if (provider == null) {
-			provider = SimpleVaultEndpointProvider.of(this.configuration.createVaultEndpoint());
+			provider = this.configuration.createVaultEndpointProvider();
 		}
 
 		this.endpointProvider = provider;
@@ -179,7 +178,7 @@ public class VaultAutoConfiguration {
 	@ConditionalOnMissingBean(TaskSchedulerWrapper.class)
 	public TaskSchedulerWrapper vaultTaskScheduler() {
 
-		ThreadPoolTaskScheduler threadPoolTaskScheduler = VaultConfiguration.createScheduler();
+		ThreadPoolTaskScheduler threadPoolTaskScheduler = VaultConfiguration.createScheduler(this.vaultProperties);
 
 		// This is to destroy bootstrap resources
 		// otherwise, the bootstrap context is not shut down cleanly
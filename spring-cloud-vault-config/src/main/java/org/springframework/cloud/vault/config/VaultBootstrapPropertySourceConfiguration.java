@@ -17,7 +17,9 @@
 package org.springframework.cloud.vault.config;
 
 import java.util.Collection;
+import java.util.function.UnaryOperator;
 
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.ObjectFactory;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -52,12 +54,17 @@ import static org.springframework.cloud.vault.config.VaultAutoConfiguration.Task
 @EnableConfigurationProperties(VaultKeyValueBackendProperties.class)
 @Order(Ordered.LOWEST_PRECEDENCE - 10)
 @Deprecated
-public class VaultBootstrapPropertySourceConfiguration implements InitializingBean {
+public class VaultBootstrapPropertySourceConfiguration implements InitializingBean, DisposableBean {
 
 	private final VaultConfiguration configuration;
 
 	private final ConfigurableApplicationContext applicationContext;
 
+	private final MountTableCache mountTableCache;
+
+	@Nullable
+	private final NegativeResultCache negativeResultCache;
+
 	@Nullable
 	private Collection<VaultSecretBackendDescriptor> vaultSecretBackendDescriptors;
 
@@ -68,6 +75,8 @@ public class VaultBootstrapPropertySourceConfiguration implements InitializingBe
 			ConfigurableApplicationContext applicationContext) {
 		this.configuration = new VaultConfiguration(vaultProperties);
 		this.applicationContext = applicationContext;
+		this.mountTableCache = new MountTableCache(applicationContext.getApplicationStartup());
+		this.negativeResultCache = NegativeResultCache.create(vaultProperties);
 	}
 
 	@Override
@@ -81,6 +90,14 @@ public class VaultBootstrapPropertySourceConfiguration implements InitializingBe
 				.values();
 	}
 
+	@Override
+	public void destroy() {
+
+		if (this.negativeResultCache != null) {
+			this.negativeResultCache.destroy();
+		}
+	}
+
 	@Bean
 	public PropertySourceLocator vaultPropertySourceLocator(VaultOperations operations, VaultProperties vaultProperties,
 			VaultKeyValueBackendProperties kvBackendProperties,
@@ -89,7 +106,9 @@ public class VaultBootstrapPropertySourceConfiguration implements InitializingBe
 		Assert.state(this.vaultSecretBackendDescriptors != null, "VaultSecretBackendDescriptors must not be null");
 		Assert.state(this.factories != null, "SecretBackendMetadataFactories must not be null");
 
-		VaultConfigTemplate vaultConfigTemplate = new VaultConfigTemplate(operations, vaultProperties);
+		VaultConfigTemplate vaultConfigTemplate = new VaultConfigTemplate(operations, vaultProperties,
+				this.mountTableCache, this.negativeResultCache);
+		vaultConfigTemplate.setApplicationStartup(this.applicationContext.getApplicationStartup());
 
 		Collection<VaultConfigurer> vaultConfigurers = this.applicationContext.getBeansOfType(VaultConfigurer.class)
 				.values();
@@ -113,7 +132,11 @@ public class VaultBootstrapPropertySourceConfiguration implements InitializingBe
 			return new LeasingVaultPropertySourceLocator(vaultProperties, configuration, secretLeaseContainer);
 		}
 
-		return new VaultPropertySourceLocator(vaultConfigTemplate, vaultProperties, configuration);
+		VaultPropertySourceLocator locator = new VaultPropertySourceLocator(vaultConfigTemplate, vaultProperties,
+				configuration);
+		locator.setApplicationStartup(this.applicationContext.getApplicationStartup());
+
+		return locator;
 	}
 
 	/**
@@ -128,7 +151,8 @@ public class VaultBootstrapPropertySourceConfiguration implements InitializingBe
 	@ConditionalOnMissingBean
 	public SecretLeaseContainer secretLeaseContainer(VaultOperations vaultOperations,
 			TaskSchedulerWrapper taskSchedulerWrapper) {
-		return this.configuration.createSecretLeaseContainer(vaultOperations, taskSchedulerWrapper::getTaskScheduler);
+		return this.configuration.createSecretLeaseContainer(vaultOperations, taskSchedulerWrapper::getTaskScheduler,
+				UnaryOperator.identity(), this.mountTableCache);
 	}
 
 }
@@ -0,0 +1,622 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.vault.config;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.client.AbstractClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadFactory;
+import org.springframework.util.StreamUtils;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.client.VaultEndpointProvider;
+import org.springframework.vault.client.WebClientCustomizer;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * {@link VaultEndpointProvider} for a Vault cluster consisting of multiple nodes. The
+ * provider probes {@code sys/health} of each node to determine the active node and
+ * performance standby nodes. {@link #getVaultEndpoint()} returns the active node.
+ * Secret reads ({@code GET} requests to configured
+ * {@link VaultProperties.Cluster#getStandbyReadPaths() standby read paths} or, if none
+ * are configured, to Key-Value secrets engines known to the {@link MountTableCache})
+ * are routed to performance standby nodes in turn through the
+ * {@link #createRequestFactory(ClientHttpRequestFactory) request factory} of imperative
+ * clients and the {@link ReactiveSupport#webClientCustomizer(VaultClusterEndpointProvider)
+ * WebClient customizer} of reactive clients. Other requests are sent to the active node.
+ * Reads that fail with an I/O error on a performance standby node are retried on the
+ * active node.
+ * <p>
+ * Node roles are probed in the background on first use through the
+ * {@link #setRequestFactory(ClientHttpRequestFactory) request factory} of the
+ * imperative client or, if none is set, a request factory that is created for health
+ * checks only. Requests are sent to the first node until the probe completes. Roles are
+ * refreshed in the background after the health check interval.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see VaultProperties.Cluster
+ */
+class VaultClusterEndpointProvider implements VaultEndpointProvider, DisposableBean {
+
+	private static final Log log = LogFactory.getLog(VaultClusterEndpointProvider.class);
+
+	private static final String HEALTH_PATH = "sys/health?standbyok=true&perfstandbyok=true";
+
+	private final List<VaultEndpoint> nodes;
+
+	private final Duration healthCheckInterval;
+
+	private final boolean standbyReads;
+
+	private final List<String> standbyReadPaths;
+
+	private final AtomicBoolean probing = new AtomicBoolean();
+
+	private final AtomicInteger counter = new AtomicInteger();
+
+	@Nullable
+	private final Supplier<ClientHttpRequestFactory> healthRequestFactory;
+
+	@Nullable
+	private volatile RestTemplate healthClient;
+
+	@Nullable
+	private ClientHttpRequestFactory ownedRequestFactory;
+
+	@Nullable
+	private volatile MountTableCache mountTableCache;
+
+	@Nullable
+	private volatile ClusterState state;
+
+	@Nullable
+	private ExecutorService executor;
+
+	VaultClusterEndpointProvider(List<VaultEndpoint> nodes, Duration healthCheckInterval, boolean standbyReads) {
+		this(nodes, healthCheckInterval, standbyReads, Collections.emptyList(), null);
+	}
+
+	/**
+	 * Create a new {@link VaultClusterEndpointProvider}.
+	 * @param nodes the cluster nodes, must not be empty.
+	 * @param healthCheckInterval interval to refresh node roles, must not be
+	 * {@literal null}.
+	 * @param standbyReads whether to route secret reads to performance standby nodes.
+	 * @param standbyReadPaths path prefixes of secrets to read from performance standby
+	 * nodes. Reads from Key-Value secrets engines known to the
+	 * {@link #setMountTableCache(MountTableCache) mount table} are routed if empty.
+	 * @param healthRequestFactory supplier of a request factory to probe node health if
+	 * no request factory is {@link #setRequestFactory(ClientHttpRequestFactory) set},
+	 * may be {@literal null}.
+	 */
+	VaultClusterEndpointProvider(List<VaultEndpoint> nodes, Duration healthCheckInterval, boolean standbyReads,
+			List<String> standbyReadPaths, @Nullable Supplier<ClientHttpRequestFactory> healthRequestFactory) {
+
+		Assert.notEmpty(nodes, "Nodes must not be empty");
+		Assert.notNull(healthCheckInterval, "Health check interval must not be null");
+		Assert.notNull(standbyReadPaths, "Standby read paths must not be null");
+
+		this.nodes = Collections.unmodifiableList(new ArrayList<>(nodes));
+		this.healthCheckInterval = healthCheckInterval;
+		this.standbyReads = standbyReads;
+		this.standbyReadPaths = new ArrayList<>(standbyReadPaths.size());
+
+		for (String standbyReadPath : standbyReadPaths) {
+			this.standbyReadPaths.add(standbyReadPath.startsWith("/") ? standbyReadPath.substring(1) : standbyReadPath);
+		}
+
+		this.healthRequestFactory = healthRequestFactory;
+	}
+
+	/**
+	 * Create a {@link VaultClusterEndpointProvider} from {@link VaultProperties}.
+	 * @param vaultProperties the Vault properties.
+	 * @return the {@link VaultClusterEndpointProvider}.
+	 */
+	static VaultClusterEndpointProvider create(VaultProperties vaultProperties) {
+
+		VaultProperties.Cluster cluster = vaultProperties.getCluster();
+		List<VaultEndpoint> nodes = new ArrayList<>(cluster.getNodes().size());
+
+		for (String node : cluster.getNodes()) {
+			nodes.add(VaultEndpoint.from(URI.create(node)));
+		}
+
+		return new VaultClusterEndpointProvider(nodes, cluster.getHealthCheckInterval(), cluster.isStandbyReads(),
+				cluster.getStandbyReadPaths(),
+				() -> new VaultConfiguration(vaultProperties).createClientHttpRequestFactory());
+	}
+
+	/**
+	 * Set the {@link MountTableCache} to determine Key-Value secrets engines whose
+	 * secrets are read from performance standby nodes if no standby read paths are
+	 * configured.
+	 * @param mountTableCache the mount table cache.
+	 */
+	void setMountTableCache(MountTableCache mountTableCache) {
+		this.mountTableCache = mountTableCache;
+	}
+
+	/**
+	 * Set the {@link ClientHttpRequestFactory} to probe node health. The first request
+	 * factory is retained.
+	 * @param requestFactory the request factory.
+	 */
+	synchronized void setRequestFactory(ClientHttpRequestFactory requestFactory) {
+
+		if (this.healthClient == null) {
+			this.healthClient = new RestTemplate(requestFactory);
+		}
+	}
+
+	@Override
+	public VaultEndpoint getVaultEndpoint() {
+
+		ClusterState state = getState();
+
+		return state != null && state.active != null ? state.active : this.nodes.get(0);
+	}
+
+	/**
+	 * @return the endpoint to read secrets from or {@literal null} if no performance
+	 * standby node is available.
+	 */
+	@Nullable
+	VaultEndpoint getReadEndpoint() {
+
+		ClusterState state = getState();
+
+		if (!this.standbyReads || state == null || state.performanceStandbys.isEmpty()) {
+			return null;
+		}
+
+		List<VaultEndpoint> standbys = state.performanceStandbys;
+
+		return standbys.get(Math.floorMod(this.counter.getAndIncrement(), standbys.size()));
+	}
+
+	/**
+	 * Create a {@link ClientHttpRequestFactory} routing secret reads to performance
+	 * standby nodes. Routing happens after all interceptors have been applied to the
+	 * request so that a read retried on the active node carries the same headers and
+	 * body.
+	 * @param requestFactory the request factory to create requests with.
+	 * @return the routing {@link ClientHttpRequestFactory}.
+	 */
+	ClientHttpRequestFactory createRequestFactory(ClientHttpRequestFactory requestFactory) {
+		return new StandbyReadRequestFactory(requestFactory);
+	}
+
+	@Override
+	public synchronized void destroy() throws Exception {
+
+		if (this.executor != null) {
+			this.executor.shutdownNow();
+			this.executor = null;
+		}
+
+		if (this.ownedRequestFactory instanceof DisposableBean) {
+			((DisposableBean) this.ownedRequestFactory).destroy();
+		}
+
+		this.ownedRequestFactory = null;
+	}
+
+	@Nullable
+	private ClusterState getState() {
+
+		ClusterState state = this.state;
+
+		if (state == null) {
+
+			if (getHealthClient() != null) {
+				refreshInBackground();
+			}
+
+			return null;
+		}
+
+		if (state.isExpired(this.healthCheckInterval)) {
+			refreshInBackground();
+		}
+
+		return state;
+	}
+
+	private void refreshInBackground() {
+
+		if (this.probing.compareAndSet(false, true)) {
+			getExecutor().execute(this::refresh);
+		}
+	}
+
+	private void refresh() {
+
+		try {
+			probe();
+		}
+		finally {
+			this.probing.set(false);
+		}
+	}
+
+	@Nullable
+	private RestTemplate getHealthClient() {
+
+		RestTemplate healthClient = this.healthClient;
+
+		if (healthClient != null || this.healthRequestFactory == null) {
+			return healthClient;
+		}
+
+		synchronized (this) {
+
+			if (this.healthClient == null) {
+				this.ownedRequestFactory = this.healthRequestFactory.get();
+				this.healthClient = new RestTemplate(this.ownedRequestFactory);
+			}
+
+			return this.healthClient;
+		}
+	}
+
+	/**
+	 * Probe all nodes and update the cluster state.
+	 * @return the updated cluster state.
+	 */
+	ClusterState probe() {
+
+		RestTemplate healthClient = getHealthClient();
+		Assert.state(healthClient != null, "No ClientHttpRequestFactory configured");
+
+		VaultEndpoint active = null;
+		List<VaultEndpoint> performanceStandbys = new ArrayList<>();
+
+		for (VaultEndpoint node : this.nodes) {
+
+			NodeRole role = probe(healthClient, node);
+
+			if (role == NodeRole.ACTIVE && active == null) {
+				active = node;
+			}
+			else if (role == NodeRole.PERFORMANCE_STANDBY) {
+				performanceStandbys.add(node);
+			}
+		}
+
+		if (active == null) {
+			log.warn("No active Vault node found among " + this.nodes);
+		}
+
+		ClusterState state = new ClusterState(active, Collections.unmodifiableList(performanceStandbys));
+		this.state = state;
+
+		return state;
+	}
+
+	private static NodeRole probe(RestTemplate healthClient, VaultEndpoint node) {
+
+		try {
+
+			Map<?, ?> health = healthClient.getForObject(node.createUriString(HEALTH_PATH), Map.class);
+
+			if (health == null || Boolean.TRUE.equals(health.get("sealed"))
+					|| Boolean.FALSE.equals(health.get("initialized"))) {
+				return NodeRole.UNAVAILABLE;
+			}
+
+			if (Boolean.TRUE.equals(health.get("performance_standby"))) {
+				return NodeRole.PERFORMANCE_STANDBY;
+			}
+
+			return Boolean.TRUE.equals(health.get("standby")) ? NodeRole.STANDBY : NodeRole.ACTIVE;
+		}
+		catch (RestClientException e) {
+
+			log.debug(String.format("Cannot probe health of Vault node %s: %s", node, e.getMessage()));
+			return NodeRole.UNAVAILABLE;
+		}
+	}
+
+	private void invalidate(VaultEndpoint endpoint) {
+
+		ClusterState state = this.state;
+
+		if (state != null && state.performanceStandbys.contains(endpoint)) {
+
+			List<VaultEndpoint> performanceStandbys = new ArrayList<>(state.performanceStandbys);
+			performanceStandbys.remove(endpoint);
+
+			this.state = new ClusterState(state.active, Collections.unmodifiableList(performanceStandbys),
+					state.probedAt);
+		}
+	}
+
+	private synchronized ExecutorService getExecutor() {
+
+		if (this.executor == null) {
+
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("Spring-Cloud-Vault-Cluster-");
+			threadFactory.setDaemon(true);
+
+			this.executor = Executors.newSingleThreadExecutor(threadFactory);
+		}
+
+		return this.executor;
+	}
+
+	/**
+	 * Check whether a request is a secret read that can be served by a performance
+	 * standby node. Only {@code GET} requests to configured standby read paths or, if
+	 * none are configured, to Key-Value secrets engines of a loaded mount table are
+	 * considered secret reads. Other requests may create state on the active node (e.g.
+	 * credential generation) or read data that is not replicated to standby nodes.
+	 * @param method the HTTP method.
+	 * @param uri the request URI.
+	 * @param endpoint the endpoint the request is sent to.
+	 * @return {@literal true} if the request is a secret read.
+	 */
+	boolean isSecretRead(@Nullable HttpMethod method, URI uri, VaultEndpoint endpoint) {
+
+		if (method != HttpMethod.GET) {
+			return false;
+		}
+
+		String path = uri.getRawPath();
+		String prefix = "/" + endpoint.getPath() + "/";
+
+		if (path == null || !path.startsWith(prefix)) {
+			return false;
+		}
+
+		String relative = path.substring(prefix.length());
+
+		if (!this.standbyReadPaths.isEmpty()) {
+			return this.standbyReadPaths.stream().anyMatch(relative::startsWith);
+		}
+
+		MountTableCache mountTableCache = this.mountTableCache;
+
+		if (mountTableCache == null) {
+			return false;
+		}
+
+		String mountPath = mountTableCache.getMountPath(relative);
+
+		return mountPath != null && mountTableCache.getKeyValueVersion(mountPath) != 0;
+	}
+
+	private static URI withEndpoint(URI uri, VaultEndpoint endpoint) {
+		return UriComponentsBuilder.fromUri(uri).scheme(endpoint.getScheme()).host(endpoint.getHost())
+				.port(endpoint.getPort()).build(true).toUri();
+	}
+
+	enum NodeRole {
+
+		ACTIVE, PERFORMANCE_STANDBY, STANDBY, UNAVAILABLE
+
+	}
+
+	static class ClusterState {
+
+		@Nullable
+		private final VaultEndpoint active;
+
+		private final List<VaultEndpoint> performanceStandbys;
+
+		private final long probedAt;
+
+		ClusterState(@Nullable VaultEndpoint active, List<VaultEndpoint> performanceStandbys) {
+			this(active, performanceStandbys, System.nanoTime());
+		}
+
+		ClusterState(@Nullable VaultEndpoint active, List<VaultEndpoint> performanceStandbys, long probedAt) {
+			this.active = active;
+			this.performanceStandbys = performanceStandbys;
+			this.probedAt = probedAt;
+		}
+
+		@Nullable
+		VaultEndpoint getActive() {
+			return this.active;
+		}
+
+		List<VaultEndpoint> getPerformanceStandbys() {
+			return this.performanceStandbys;
+		}
+
+		boolean isExpired(Duration interval) {
+			return System.nanoTime() - this.probedAt >= interval.toNanos();
+		}
+
+	}
+
+	/**
+	 * {@link ClientHttpRequestFactory} routing secret reads to a performance standby
+	 * node.
+	 */
+	private class StandbyReadRequestFactory implements ClientHttpRequestFactory {
+
+		private final ClientHttpRequestFactory delegate;
+
+		StandbyReadRequestFactory(ClientHttpRequestFactory delegate) {
+			this.delegate = delegate;
+		}
+
+		@Override
+		public ClientHttpRequest createRequest(URI uri, HttpMethod httpMethod) throws IOException {
+
+			if (!isSecretRead(httpMethod, uri, getVaultEndpoint())) {
+				return this.delegate.createRequest(uri, httpMethod);
+			}
+
+			VaultEndpoint standby = getReadEndpoint();
+
+			if (standby == null) {
+				return this.delegate.createRequest(uri, httpMethod);
+			}
+
+			return new StandbyReadRequest(this.delegate, uri, httpMethod, standby);
+		}
+
+	}
+
+	/**
+	 * Request that is sent to a performance standby node and retried on the active node
+	 * with the same headers and body if the standby node cannot be reached.
+	 */
+	private class StandbyReadRequest extends AbstractClientHttpRequest {
+
+		private final ClientHttpRequestFactory requestFactory;
+
+		private final URI uri;
+
+		private final HttpMethod method;
+
+		private final VaultEndpoint standby;
+
+		private final ByteArrayOutputStream body = new ByteArrayOutputStream(0);
+
+		StandbyReadRequest(ClientHttpRequestFactory requestFactory, URI uri, HttpMethod method,
+				VaultEndpoint standby) {
+			this.requestFactory = requestFactory;
+			this.uri = uri;
+			this.method = method;
+			this.standby = standby;
+		}
+
+		@Override
+		public String getMethodValue() {
+			return this.method.name();
+		}
+
+		@Override
+		public URI getURI() {
+			return this.uri;
+		}
+
+		@Override
+		protected OutputStream getBodyInternal(HttpHeaders headers) {
+			return this.body;
+		}
+
+		@Override
+		protected ClientHttpResponse executeInternal(HttpHeaders headers) throws IOException {
+
+			try {
+				return execute(withEndpoint(this.uri, this.standby), headers);
+			}
+			catch (IOException e) {
+
+				log.debug(String.format("Cannot read from Vault node %s, retrying on active node: %s", this.standby,
+						e.getMessage()));
+				invalidate(this.standby);
+
+				return execute(this.uri, headers);
+			}
+		}
+
+		private ClientHttpResponse execute(URI uri, HttpHeaders headers) throws IOException {
+
+			ClientHttpRequest request = this.requestFactory.createRequest(uri, this.method);
+			request.getHeaders().putAll(headers);
+
+			if (this.body.size() > 0) {
+				StreamUtils.copy(this.body.toByteArray(), request.getBody());
+			}
+
+			return request.execute();
+		}
+
+	}
+
+	/**
+	 * Support for reactive Vault clients. Isolated to not require Spring WebFlux on the
+	 * class path.
+	 */
+	static class ReactiveSupport {
+
+		/**
+		 * Create a {@link WebClientCustomizer} routing secret reads to performance
+		 * standby nodes. Reads that fail to connect to a performance standby node are
+		 * retried on the active node through the remaining filter chain.
+		 * @param provider the cluster endpoint provider.
+		 * @return the {@link WebClientCustomizer}.
+		 */
+		static WebClientCustomizer webClientCustomizer(VaultClusterEndpointProvider provider) {
+
+			ExchangeFilterFunction filter = (request, next) -> Mono.defer(() -> {
+
+				URI uri = request.url();
+
+				if (!uri.isAbsolute() || !provider.isSecretRead(request.method(), uri, provider.getVaultEndpoint())) {
+					return next.exchange(request);
+				}
+
+				VaultEndpoint standby = provider.getReadEndpoint();
+
+				if (standby == null) {
+					return next.exchange(request);
+				}
+
+				ClientRequest standbyRequest = ClientRequest.from(request).url(withEndpoint(uri, standby)).build();
+
+				return next.exchange(standbyRequest).onErrorResume(WebClientRequestException.class, e -> {
+
+					log.debug(String.format("Cannot read from Vault node %s, retrying on active node: %s", standby,
+							e.getMessage()));
+					provider.invalidate(standby);
+
+					return next.exchange(request);
+				});
+			});
+
+			return builder -> builder.filter(filter);
+		}
+
+	}
+
+}
@@ -17,11 +17,24 @@
 package org.springframework.cloud.vault.config;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+import reactor.util.function.Tuples;
 
 import org.springframework.beans.factory.BeanFactory;
 import org.springframework.boot.BootstrapContext;
@@ -36,8 +49,12 @@ import org.springframework.cloud.vault.config.VaultAutoConfiguration.TaskSchedul
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.GenericApplicationContext;
 import org.springframework.core.env.PropertySource;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
@@ -48,8 +65,8 @@ import org.springframework.vault.authentication.ReactiveSessionManager;
 import org.springframework.vault.authentication.SessionManager;
 import org.springframework.vault.authentication.VaultTokenSupplier;
 import org.springframework.vault.client.RestTemplateBuilder;
+import org.springframework.vault.client.RestTemplateCustomizer;
 import org.springframework.vault.client.RestTemplateFactory;
-import org.springframework.vault.client.SimpleVaultEndpointProvider;
 import org.springframework.vault.client.VaultEndpointProvider;
 import org.springframework.vault.client.WebClientBuilder;
 import org.springframework.vault.client.WebClientFactory;
@@ -83,6 +100,8 @@ import static org.springframework.vault.config.AbstractVaultConfiguration.Client
  */
 public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocation> {
 
+	private static final Log log = LogFactory.getLog(VaultConfigDataLoader.class);
+
 	private final static boolean FLUX_AVAILABLE = ClassUtils.isPresent("reactor.core.publisher.Flux",
 			VaultConfigDataLoader.class.getClassLoader());
 
@@ -91,6 +110,9 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 
 	private final static boolean REGISTER_REACTIVE_INFRASTRUCTURE = FLUX_AVAILABLE && WEBCLIENT_AVAILABLE;
 
+	private final static boolean MICROMETER_AVAILABLE = ClassUtils
+			.isPresent("io.micrometer.core.instrument.MeterRegistry", VaultConfigDataLoader.class.getClassLoader());
+
 	@Override
 	public ConfigData load(ConfigDataLoaderContext context, VaultConfigLocation location)
 			throws IOException, ConfigDataLocationNotFoundException {
@@ -100,7 +122,16 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 
 		if (vaultProperties.getSession().getLifecycle().isEnabled()
 				|| vaultProperties.getConfig().getLifecycle().isEnabled()) {
-			registerVaultTaskScheduler(bootstrap);
+			registerVaultTaskScheduler(bootstrap, vaultProperties);
+		}
+
+		bootstrap.registerIfAbsent(MountTableCache.class,
+				ctx -> new MountTableCache(VaultStartupSteps.getApplicationStartup(ctx)));
+
+		if (vaultProperties.getConfig().getNegativeCache().isEnabled()) {
+			registerIfAbsent(bootstrap, "vaultNegativeResultCache", NegativeResultCache.class,
+					() -> NegativeResultCache.create(vaultProperties),
+					ConfigurableApplicationContext::registerShutdownHook);
 		}
 
 		registerImperativeInfrastructure(bootstrap, vaultProperties);
@@ -112,7 +143,26 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 		registerVaultConfigTemplate(bootstrap, vaultProperties);
 
 		if (vaultProperties.getConfig().getLifecycle().isEnabled()) {
+
+			if (MICROMETER_AVAILABLE) {
+				LeaseMetricsSupport.registerSecretLeaseMetrics(bootstrap);
+			}
+
 			registerSecretLeaseContainer(bootstrap, new VaultConfiguration(vaultProperties));
+
+			if (vaultProperties.getConfig().getSnapshot().isEnabled()) {
+				log.warn("Secret snapshot is enabled but not used because config lifecycle management is enabled. "
+						+ "Set spring.cloud.vault.config.lifecycle.enabled=false to use the snapshot.");
+			}
+		}
+		else if (vaultProperties.getConfig().getSnapshot().isEnabled()) {
+			bootstrap.registerIfAbsent(SecretSnapshotStore.class, ctx -> SecretSnapshotStore.create(vaultProperties));
+		}
+
+		if (vaultProperties.getConfig().getInitializationMode() == VaultProperties.InitializationMode.ASYNC) {
+			int parallelism = vaultProperties.getConfig().getParallelism();
+			bootstrap.registerIfAbsent(AsyncVaultPropertySource.BackgroundExecutor.class,
+					ctx -> new AsyncVaultPropertySource.BackgroundExecutor(parallelism));
 		}
 
 		return loadConfigData(location, bootstrap, vaultProperties);
@@ -121,25 +171,117 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 	private ConfigData loadConfigData(VaultConfigLocation location, ConfigurableBootstrapContext bootstrap,
 			VaultProperties vaultProperties) {
 
+		if (bootstrap.isRegistered(SecretSnapshotStore.class)) {
+
+			VaultPropertySource propertySource = new VaultPropertySource(bootstrap.get(VaultConfigTemplate.class),
+					vaultProperties.isFailFast(), location.getSecretBackendMetadata());
+			propertySource.setSnapshotStore(bootstrap.get(SecretSnapshotStore.class));
+
+			if (propertySource.initializeFromSnapshot()) {
+				return new ConfigData(Collections.singleton(propertySource));
+			}
+		}
+
+		if (bootstrap.isRegistered(VaultConfigPrefetch.class) && isEager(vaultProperties)) {
+
+			PropertySource<?> propertySource = bootstrap.get(VaultConfigPrefetch.class).getPropertySource(location,
+					locations -> prefetch(locations, bootstrap, vaultProperties));
+
+			if (propertySource != null) {
+				return new ConfigData(Collections.singleton(propertySource));
+			}
+		}
+
+		return createConfigData(() -> createPropertySource(location, bootstrap, vaultProperties));
+	}
+
+	private PropertySource<?> createPropertySource(VaultConfigLocation location,
+			ConfigurableBootstrapContext bootstrap, VaultProperties vaultProperties) {
+
 		if (vaultProperties.getConfig().getLifecycle().isEnabled()) {
 
 			RequestedSecret secret = getRequestedSecret(location.getSecretBackendMetadata());
 
-			if (vaultProperties.isFailFast()) {
-				return new ConfigData(Collections.singleton(createLeasingPropertySourceFailFast(
-						bootstrap.get(SecretLeaseContainer.class), secret, location.getSecretBackendMetadata())));
+			StartupStep step = VaultStartupSteps.getApplicationStartup(bootstrap)
+					.start(VaultStartupSteps.LEASE_REGISTRATION).tag("path", secret.getPath())
+					.tag("mode", secret.getMode().name());
+			long start = System.nanoTime();
+
+			try {
+
+				if (vaultProperties.isFailFast()) {
+					return createLeasingPropertySourceFailFast(bootstrap.get(SecretLeaseContainer.class), secret,
+							location.getSecretBackendMetadata());
+				}
+
+				return createLeasingPropertySource(bootstrap.get(SecretLeaseContainer.class), secret,
+						location.getSecretBackendMetadata());
+			}
+			finally {
+				VaultStartupSteps.end(step, start);
 			}
+		}
+
+		VaultConfigTemplate configTemplate = bootstrap.get(VaultConfigTemplate.class);
 
-			return createConfigData(() -> createLeasingPropertySource(bootstrap.get(SecretLeaseContainer.class), secret,
-					location.getSecretBackendMetadata()));
+		if (vaultProperties.getConfig().getInitializationMode() == VaultProperties.InitializationMode.ASYNC) {
+
+			AsyncVaultPropertySource propertySource = new AsyncVaultPropertySource(configTemplate,
+					vaultProperties.isFailFast(), location.getSecretBackendMetadata(),
+					bootstrap.get(AsyncVaultPropertySource.BackgroundExecutor.class),
+					vaultProperties.getConfig().getTimeout());
+			propertySource.setSnapshotStore(bootstrap.getOrElse(SecretSnapshotStore.class, null));
+			propertySource.init();
+			return propertySource;
 		}
 
-		return createConfigData(() -> {
-			VaultConfigTemplate configTemplate = bootstrap.get(VaultConfigTemplate.class);
+		return createVaultPropertySource(configTemplate, vaultProperties.isFailFast(),
+				location.getSecretBackendMetadata(), bootstrap.getOrElse(SecretSnapshotStore.class, null));
+	}
 
-			return createVaultPropertySource(configTemplate, vaultProperties.isFailFast(),
-					location.getSecretBackendMetadata());
-		});
+	/**
+	 * Create property sources for all {@code locations} by reading secrets
+	 * concurrently.
+	 * @param locations the locations to load.
+	 * @param bootstrap the bootstrap context.
+	 * @param vaultProperties the Vault properties.
+	 * @return property sources by location. Omits locations that could not be loaded
+	 * within the configured timeout.
+	 */
+	private Map<VaultConfigLocation, PropertySource<?>> prefetch(List<VaultConfigLocation> locations,
+			ConfigurableBootstrapContext bootstrap, VaultProperties vaultProperties) {
+
+		// resolve infrastructure on the calling thread before reading secrets concurrently
+		if (vaultProperties.getConfig().getLifecycle().isEnabled()) {
+			bootstrap.get(SecretLeaseContainer.class);
+		}
+		else if (REGISTER_REACTIVE_INFRASTRUCTURE) {
+			return new ReactiveInfrastructure(bootstrap, vaultProperties).prefetch(locations, vaultProperties);
+		}
+		else {
+			bootstrap.get(VaultConfigTemplate.class);
+		}
+
+		List<String> names = new ArrayList<>(locations.size());
+		List<Supplier<PropertySource<?>>> tasks = new ArrayList<>(locations.size());
+
+		for (VaultConfigLocation location : locations) {
+			names.add(location.getSecretBackendMetadata().getName());
+			tasks.add(() -> createPropertySource(location, bootstrap, vaultProperties));
+		}
+
+		List<PropertySource<?>> propertySources = VaultPropertySourceInitializer.invokeAll(names, tasks,
+				vaultProperties, VaultStartupSteps.getApplicationStartup(bootstrap));
+		Map<VaultConfigLocation, PropertySource<?>> prefetched = new LinkedHashMap<>(locations.size(), 1);
+
+		for (int i = 0; i < locations.size(); i++) {
+
+			if (propertySources.get(i) != null) {
+				prefetched.put(locations.get(i), propertySources.get(i));
+			}
+		}
+
+		return prefetched;
 	}
 
 	private void registerImperativeInfrastructure(ConfigurableBootstrapContext bootstrap,
@@ -195,6 +337,8 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 					ctx -> new ReactiveVaultTemplate(bootstrap.get(WebClientBuilder.class),
 							bootstrap.get(ReactiveSessionManager.class)));
 		}
+
+		reactiveInfrastructure.registerReactiveVaultConfigTemplate(vaultProperties);
 	}
 
 	static ConfigData createConfigData(Supplier<PropertySource<?>> propertySourceSupplier) {
@@ -202,14 +346,20 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 	}
 
 	private void registerVaultConfigTemplate(ConfigurableBootstrapContext bootstrap, VaultProperties vaultProperties) {
-		bootstrap.registerIfAbsent(VaultConfigTemplate.class,
-				ctx -> new VaultConfigTemplate(ctx.get(VaultTemplate.class), vaultProperties));
+		bootstrap.registerIfAbsent(VaultConfigTemplate.class, ctx -> {
+
+			VaultConfigTemplate template = new VaultConfigTemplate(ctx.get(VaultTemplate.class), vaultProperties,
+					ctx.get(MountTableCache.class), ctx.getOrElse(NegativeResultCache.class, null));
+			template.setApplicationStartup(VaultStartupSteps.getApplicationStartup(ctx));
+
+			return template;
+		});
 	}
 
-	private void registerVaultTaskScheduler(ConfigurableBootstrapContext bootstrap) {
+	private void registerVaultTaskScheduler(ConfigurableBootstrapContext bootstrap, VaultProperties vaultProperties) {
 		registerIfAbsent(bootstrap, "vaultTaskScheduler", TaskSchedulerWrapper.class, () -> {
 
-			ThreadPoolTaskScheduler scheduler = VaultConfiguration.createScheduler();
+			ThreadPoolTaskScheduler scheduler = VaultConfiguration.createScheduler(vaultProperties);
 
 			scheduler.afterPropertiesSet();
 
@@ -222,8 +372,11 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 			VaultConfiguration vaultConfiguration) {
 		registerIfAbsent(bootstrap, "secretLeaseContainer", SecretLeaseContainer.class, ctx -> {
 
-			SecretLeaseContainer container = vaultConfiguration.createSecretLeaseContainer(ctx.get(VaultTemplate.class),
-					() -> ctx.get(TaskSchedulerWrapper.class).getTaskScheduler());
+			Supplier<TaskScheduler> taskScheduler = () -> ctx.get(TaskSchedulerWrapper.class).getTaskScheduler();
+			SecretLeaseContainer container = MICROMETER_AVAILABLE
+					? LeaseMetricsSupport.createSecretLeaseContainer(ctx, vaultConfiguration, taskScheduler)
+					: vaultConfiguration.createSecretLeaseContainer(ctx.get(VaultTemplate.class), taskScheduler,
+							UnaryOperator.identity(), ctx.get(MountTableCache.class));
 
 			try {
 				container.afterPropertiesSet();
@@ -238,13 +391,25 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 	}
 
 	private PropertySource<?> createVaultPropertySource(VaultConfigOperations configOperations, boolean failFast,
-			SecretBackendMetadata accessor) {
+			SecretBackendMetadata accessor, @Nullable SecretSnapshotStore snapshotStore) {
 
 		VaultPropertySource vaultPropertySource = new VaultPropertySource(configOperations, failFast, accessor);
+		vaultPropertySource.setSnapshotStore(snapshotStore);
 		vaultPropertySource.init();
 		return vaultPropertySource;
 	}
 
+	/**
+	 * Lazy initialization is not applied to ConfigData property sources as Spring Boot
+	 * binds {@code spring.config.*} properties from each imported property source right
+	 * after loading it, which would read secrets immediately without prefetching.
+	 * @param vaultProperties the Vault properties.
+	 * @return {@literal true} if property sources are initialized when loading them.
+	 */
+	private static boolean isEager(VaultProperties vaultProperties) {
+		return vaultProperties.getConfig().getInitializationMode() != VaultProperties.InitializationMode.ASYNC;
+	}
+
 	private PropertySource<?> createLeasingPropertySource(SecretLeaseContainer secretLeaseContainer,
 			RequestedSecret secret, SecretBackendMetadata accessor) {
 
@@ -252,8 +417,11 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 			((LeasingSecretBackendMetadata) accessor).beforeRegistration(secret, secretLeaseContainer);
 		}
 
-		LeaseAwareVaultPropertySource propertySource = new LeaseAwareVaultPropertySource(accessor.getName(),
-				secretLeaseContainer, secret, accessor.getPropertyTransformer());
+		PropertySource<?> propertySource = secret.getMode() == RequestedSecret.Mode.ROTATE
+				? new RotatingVaultPropertySource(accessor.getName(), secretLeaseContainer, secret,
+						accessor.getPropertyTransformer())
+				: new LeaseAwareVaultPropertySource(accessor.getName(), secretLeaseContainer, secret,
+						accessor.getPropertyTransformer());
 
 		if (accessor instanceof LeasingSecretBackendMetadata) {
 			((LeasingSecretBackendMetadata) accessor).afterRegistration(secret, secretLeaseContainer);
@@ -342,6 +510,56 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 		});
 	}
 
+	/**
+	 * Support class to register Micrometer lease metrics. Isolated to not require
+	 * Micrometer on the class path.
+	 */
+	static class LeaseMetricsSupport {
+
+		static void registerSecretLeaseMetrics(ConfigurableBootstrapContext bootstrap) {
+			registerIfAbsent(bootstrap, "vaultSecretLeaseMetrics", SecretLeaseMetrics.class, SecretLeaseMetrics::new);
+		}
+
+		static SecretLeaseContainer createSecretLeaseContainer(BootstrapContext bootstrap,
+				VaultConfiguration vaultConfiguration, Supplier<TaskScheduler> taskScheduler) {
+
+			SecretLeaseMetrics metrics = bootstrap.get(SecretLeaseMetrics.class);
+			SecretLeaseContainer container = vaultConfiguration.createSecretLeaseContainer(
+					bootstrap.get(VaultTemplate.class), taskScheduler, metrics::decorate,
+					bootstrap.get(MountTableCache.class));
+
+			metrics.register(container);
+
+			return container;
+		}
+
+	}
+
+	/**
+	 * Obtain the {@link VaultEndpointProvider} shared by imperative and reactive
+	 * infrastructure so that both route requests using the same cluster state.
+	 * @param bootstrap the bootstrap context.
+	 * @param vaultProperties the Vault properties.
+	 * @return the {@link VaultEndpointProvider}.
+	 */
+	static VaultEndpointProvider getVaultEndpointProvider(ConfigurableBootstrapContext bootstrap,
+			VaultProperties vaultProperties) {
+
+		// not a bean
+		bootstrap.registerIfAbsent(VaultEndpointProvider.class, ctx -> {
+
+			VaultEndpointProvider provider = new VaultConfiguration(vaultProperties).createVaultEndpointProvider();
+
+			if (provider instanceof VaultClusterEndpointProvider) {
+				((VaultClusterEndpointProvider) provider).setMountTableCache(ctx.get(MountTableCache.class));
+			}
+
+			return provider;
+		});
+
+		return bootstrap.get(VaultEndpointProvider.class);
+	}
+
 	/**
 	 * Support class to register imperative infrastructure bootstrap instances and beans.
 	 *
@@ -361,7 +579,7 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 			this.bootstrap = bootstrap;
 			this.vaultProperties = vaultProperties;
 			this.configuration = new VaultConfiguration(vaultProperties);
-			this.endpointProvider = SimpleVaultEndpointProvider.of(this.configuration.createVaultEndpoint());
+			this.endpointProvider = getVaultEndpointProvider(bootstrap, vaultProperties);
 		}
 
 		void registerClientHttpRequestFactoryWrapper() {
@@ -386,7 +604,7 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 			this.bootstrap.registerIfAbsent(RestTemplateBuilder.class,
 					ctx -> this.configuration.createRestTemplateBuilder(
 							ctx.get(ClientFactoryWrapper.class).getClientHttpRequestFactory(), this.endpointProvider,
-							Collections.emptyList(), Collections.emptyList()));
+							getRestTemplateCustomizers(ctx), Collections.emptyList()));
 		}
 
 		void registerVaultRestTemplateFactory() {
@@ -394,7 +612,27 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 					ctx -> new DefaultRestTemplateFactory(
 							ctx.get(ClientFactoryWrapper.class).getClientHttpRequestFactory(),
 							requestFactory -> this.configuration.createRestTemplateBuilder(requestFactory,
-									this.endpointProvider, Collections.emptyList(), Collections.emptyList())));
+									this.endpointProvider, getRestTemplateCustomizers(ctx), Collections.emptyList())));
+		}
+
+		private List<RestTemplateCustomizer> getRestTemplateCustomizers(BootstrapContext bootstrap) {
+
+			ApplicationStartup applicationStartup = VaultStartupSteps.getApplicationStartup(bootstrap);
+
+			if (applicationStartup == ApplicationStartup.DEFAULT) {
+				return Collections.emptyList();
+			}
+
+			// not a bean, record requests only until the bootstrap context is closed
+			this.bootstrap.registerIfAbsent(VaultStartupSteps.HttpRequestSteps.class, ctx -> {
+
+				VaultStartupSteps.HttpRequestSteps steps = VaultStartupSteps.httpRequests(applicationStartup);
+				this.bootstrap.addCloseListener(event -> steps.stop());
+
+				return steps;
+			});
+
+			return Collections.singletonList(bootstrap.get(VaultStartupSteps.HttpRequestSteps.class));
 		}
 
 		void registerClientAuthentication() {
@@ -414,7 +652,9 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 
 		void registerVaultSessionManager() {
 			registerIfAbsent(this.bootstrap, "vaultSessionManager", SessionManager.class,
-					ctx -> this.configuration.createSessionManager(ctx.get(ClientAuthentication.class),
+					ctx -> this.configuration.createSessionManager(
+							VaultStartupSteps.login(ctx.get(ClientAuthentication.class),
+									VaultStartupSteps.getApplicationStartup(ctx)),
 							() -> ctx.get(TaskSchedulerWrapper.class).getTaskScheduler(),
 							ctx.get(RestTemplateFactory.class)));
 		}
@@ -436,8 +676,7 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 		ReactiveInfrastructure(ConfigurableBootstrapContext bootstrap, VaultProperties vaultProperties) {
 			this.bootstrap = bootstrap;
 			this.configuration = new VaultReactiveConfiguration(vaultProperties);
-			this.endpointProvider = SimpleVaultEndpointProvider
-					.of(new VaultConfiguration(vaultProperties).createVaultEndpoint());
+			this.endpointProvider = getVaultEndpointProvider(bootstrap, vaultProperties);
 		}
 
 		void registerClientHttpConnector() {
@@ -481,7 +720,9 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 		void registerReactiveSessionManager() {
 
 			registerIfAbsent(this.bootstrap, "reactiveVaultSessionManager", ReactiveSessionManager.class,
-					ctx -> this.configuration.createReactiveSessionManager(ctx.get(VaultTokenSupplier.class),
+					ctx -> this.configuration.createReactiveSessionManager(
+							VaultStartupSteps.ReactiveSupport.login(ctx.get(VaultTokenSupplier.class),
+									VaultStartupSteps.getApplicationStartup(ctx)),
 							() -> ctx.get(TaskSchedulerWrapper.class).getTaskScheduler(),
 							ctx.get(WebClientFactory.class)));
 		}
@@ -491,6 +732,85 @@ public class VaultConfigDataLoader implements ConfigDataLoader<VaultConfigLocati
 					ctx -> this.configuration.createSessionManager(ctx.get(ReactiveSessionManager.class)));
 		}
 
+		void registerReactiveVaultConfigTemplate(VaultProperties vaultProperties) {
+			// not a bean
+			this.bootstrap.registerIfAbsent(ReactiveVaultConfigTemplate.class,
+					ctx -> new ReactiveVaultConfigTemplate(ctx.get(ReactiveVaultTemplate.class),
+							vaultProperties, ctx.get(MountTableCache.class),
+							ctx.getOrElse(NegativeResultCache.class, null)));
+		}
+
+		/**
+		 * Read secrets for all {@code locations} using {@link ReactiveVaultConfigTemplate}
+		 * with bounded concurrency. Blocks only on the assembled result.
+		 * @param locations the locations to load.
+		 * @param vaultProperties the Vault properties.
+		 * @return property sources by location. Omits locations that could not be loaded
+		 * within the configured timeout.
+		 */
+		Map<VaultConfigLocation, PropertySource<?>> prefetch(List<VaultConfigLocation> locations,
+				VaultProperties vaultProperties) {
+
+			ReactiveVaultConfigOperations operations = this.bootstrap.get(ReactiveVaultConfigTemplate.class);
+			VaultConfigOperations configOperations = this.bootstrap.get(VaultConfigTemplate.class);
+			SecretSnapshotStore snapshotStore = this.bootstrap.getOrElse(SecretSnapshotStore.class, null);
+			VaultProperties.Config config = vaultProperties.getConfig();
+			VaultStartupSteps.ConcurrentSteps steps = VaultStartupSteps
+					.concurrent(VaultStartupSteps.getApplicationStartup(this.bootstrap), locations.size());
+
+			Flux<Tuple2<VaultConfigLocation, Optional<Secrets>>> reads = Flux.merge(Flux.fromIterable(locations)
+					.map(location -> read(operations, location.getSecretBackendMetadata(), steps).map(Optional::of)
+							.defaultIfEmpty(Optional.empty()).map(secrets -> Tuples.of(location, secrets))),
+					config.getParallelism());
+
+			Map<VaultConfigLocation, Optional<Secrets>> secrets;
+
+			try {
+				secrets = reads.take(config.getTimeout()).collectMap(Tuple2::getT1, Tuple2::getT2).block();
+			}
+			finally {
+				steps.end();
+			}
+
+			if (secrets == null || secrets.size() < locations.size()) {
+
+				String message = String.format("Could not read properties from Vault for all locations within %s",
+						config.getTimeout());
+
+				if (vaultProperties.isFailFast()) {
+					throw new IllegalStateException(message + " and the fail fast property is set, failing.");
+				}
+
+				log.warn(message);
+			}
+
+			Map<VaultConfigLocation, PropertySource<?>> prefetched = new LinkedHashMap<>(locations.size(), 1);
+
+			for (VaultConfigLocation location : locations) {
+
+				Optional<Secrets> result = secrets != null ? secrets.get(location) : null;
+
+				if (result == null) {
+					continue;
+				}
+
+				VaultPropertySource propertySource = new VaultPropertySource(configOperations,
+						vaultProperties.isFailFast(), location.getSecretBackendMetadata());
+				propertySource.setSnapshotStore(snapshotStore);
+				propertySource.initialize(result.orElse(null));
+
+				prefetched.put(location, propertySource);
+			}
+
+			return prefetched;
+		}
+
+		private static Mono<Secrets> read(ReactiveVaultConfigOperations operations,
+				SecretBackendMetadata secretBackendMetadata, ApplicationStartup applicationStartup) {
+			return VaultStartupSteps.ReactiveSupport.read(operations.read(secretBackendMetadata),
+					secretBackendMetadata.getPath(), applicationStartup);
+		}
+
 	}
 
 	/**
@@ -35,6 +35,7 @@ import org.springframework.boot.context.properties.bind.Binder;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.annotation.MergedAnnotations;
 import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ReflectionUtils;
 
@@ -103,6 +104,25 @@ public class VaultConfigDataLocationResolver implements ConfigDataLocationResolv
 
 		registerVaultProperties(context);
 
+		StartupStep step = VaultStartupSteps.getApplicationStartup(context.getBootstrapContext())
+				.start(VaultStartupSteps.RESOLVE).tag("location", location.getValue());
+		long start = System.nanoTime();
+
+		try {
+
+			List<VaultConfigLocation> locations = resolveLocations(context, location, profiles);
+			step.tag("locations", Integer.toString(locations.size()));
+
+			return registerForPrefetch(context, locations);
+		}
+		finally {
+			VaultStartupSteps.end(step, start);
+		}
+	}
+
+	private List<VaultConfigLocation> resolveLocations(ConfigDataLocationResolverContext context,
+			ConfigDataLocation location, Profiles profiles) {
+
 		if (location.getValue().equals(VaultConfigLocation.VAULT_PREFIX)
 				|| location.getValue().equals(VaultConfigLocation.VAULT_PREFIX + "//")) {
 			List<SecretBackendMetadata> sorted = getSecretBackends(context, profiles);
@@ -119,6 +139,27 @@ public class VaultConfigDataLocationResolver implements ConfigDataLocationResolv
 		return Collections.singletonList(new VaultConfigLocation(contextPath, location.isOptional()));
 	}
 
+	/**
+	 * Register resolved locations with {@link VaultConfigPrefetch} if concurrent
+	 * retrieval is enabled so that {@link VaultConfigDataLoader} can retrieve all
+	 * locations in a single batch.
+	 * @param context the resolver context.
+	 * @param locations the resolved locations.
+	 * @return {@code locations}.
+	 */
+	private static List<VaultConfigLocation> registerForPrefetch(ConfigDataLocationResolverContext context,
+			List<VaultConfigLocation> locations) {
+
+		ConfigurableBootstrapContext bootstrapContext = context.getBootstrapContext();
+
+		if (bootstrapContext.get(VaultProperties.class).getConfig().getParallelism() > 1) {
+			bootstrapContext.registerIfAbsent(VaultConfigPrefetch.class, ignore -> new VaultConfigPrefetch());
+			bootstrapContext.get(VaultConfigPrefetch.class).addLocations(locations);
+		}
+
+		return locations;
+	}
+
 	private static void registerVaultProperties(ConfigDataLocationResolverContext context) {
 
 		context.getBootstrapContext().registerIfAbsent(VaultProperties.class, ignore -> {
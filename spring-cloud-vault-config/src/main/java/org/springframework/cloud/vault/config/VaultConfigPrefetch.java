@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import org.springframework.boot.ConfigurableBootstrapContext;
+import org.springframework.core.env.PropertySource;
+import org.springframework.lang.Nullable;
+
+/**
+ * Bootstrap-scoped registry of {@link VaultConfigLocation locations} resolved by
+ * {@link VaultConfigDataLocationResolver} and {@link PropertySource property sources}
+ * that were prefetched for them. The first {@link VaultConfigDataLoader#load load}
+ * request retrieves all pending locations in a single batch so that subsequent load
+ * requests can be served without a further round trip to Vault.
+ * <p>
+ * Registered in the {@link ConfigurableBootstrapContext} when
+ * {@link VaultProperties.Config#getParallelism()} is greater than {@code 1}.
+ *
+ * @author agent
+ * @since 3.0.1
+ * @see VaultConfigDataLoader
+ * @see VaultConfigDataLocationResolver
+ */
+class VaultConfigPrefetch {
+
+	private final Set<VaultConfigLocation> pending = new LinkedHashSet<>();
+
+	private final Map<VaultConfigLocation, PropertySource<?>> prefetched = new HashMap<>();
+
+	/**
+	 * Register resolved locations for prefetching.
+	 * @param locations the resolved locations.
+	 */
+	synchronized void addLocations(Collection<VaultConfigLocation> locations) {
+
+		for (VaultConfigLocation location : locations) {
+			if (!this.prefetched.containsKey(location)) {
+				this.pending.add(location);
+			}
+		}
+	}
+
+	/**
+	 * Obtain the {@link PropertySource} for a {@link VaultConfigLocation}. Returns a
+	 * previously prefetched property source or retrieves all pending locations
+	 * (including {@code location}) through {@code loader}.
+	 * @param location the location to load.
+	 * @param loader function to load a batch of locations. The resulting map may omit
+	 * locations that could not be loaded.
+	 * @return the {@link PropertySource} for {@code location} or {@literal null} if
+	 * {@code loader} did not return a property source for {@code location}.
+	 */
+	@Nullable
+	synchronized PropertySource<?> getPropertySource(VaultConfigLocation location,
+			Function<List<VaultConfigLocation>, Map<VaultConfigLocation, PropertySource<?>>> loader) {
+
+		PropertySource<?> propertySource = this.prefetched.remove(location);
+
+		if (propertySource != null) {
+			return propertySource;
+		}
+
+		this.pending.add(location);
+
+		List<VaultConfigLocation> batch = new ArrayList<>(this.pending);
+		this.pending.clear();
+
+		this.prefetched.putAll(loader.apply(batch));
+
+		return this.prefetched.remove(location);
+	}
+
+}
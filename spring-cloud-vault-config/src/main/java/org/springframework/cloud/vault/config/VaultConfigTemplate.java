@@ -21,6 +21,9 @@ import java.util.Map;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 import org.springframework.vault.VaultException;
 import org.springframework.vault.core.VaultOperations;
@@ -45,12 +48,39 @@ public class VaultConfigTemplate implements VaultConfigOperations {
 
 	private final KeyValueDelegate keyValueDelegate;
 
+	@Nullable
+	private final MountTableCache mountTableCache;
+
+	@Nullable
+	private final NegativeResultCache negativeResultCache;
+
+	@Nullable
+	private final KeyValueContextListing contextListing;
+
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
 	/**
 	 * Create a new {@link VaultConfigTemplate} given {@link VaultOperations}.
 	 * @param vaultOperations must not be {@literal null}.
 	 * @param properties must not be {@literal null}.
 	 */
 	public VaultConfigTemplate(VaultOperations vaultOperations, VaultProperties properties) {
+		this(vaultOperations, properties, null, null);
+	}
+
+	/**
+	 * Create a new {@link VaultConfigTemplate} given {@link VaultOperations} and shared
+	 * caches.
+	 * @param vaultOperations must not be {@literal null}.
+	 * @param properties must not be {@literal null}.
+	 * @param mountTableCache the mount table cache, can be {@literal null} to detect
+	 * versioned Key-Value mounts for each path.
+	 * @param negativeResultCache cache for secret paths that were not found, can be
+	 * {@literal null} to read each path.
+	 * @since 3.0.1
+	 */
+	VaultConfigTemplate(VaultOperations vaultOperations, VaultProperties properties,
+			@Nullable MountTableCache mountTableCache, @Nullable NegativeResultCache negativeResultCache) {
 
 		Assert.notNull(vaultOperations, "VaultOperations must not be null!");
 		Assert.notNull(properties, "VaultProperties must not be null!");
@@ -58,6 +88,10 @@ public class VaultConfigTemplate implements VaultConfigOperations {
 		this.vaultOperations = vaultOperations;
 		this.properties = properties;
 		this.keyValueDelegate = new KeyValueDelegate(vaultOperations);
+		this.mountTableCache = mountTableCache;
+		this.negativeResultCache = negativeResultCache;
+		this.contextListing = mountTableCache != null && properties.getConfig().isListContexts()
+				? new KeyValueContextListing(mountTableCache) : null;
 	}
 
 	@Override
@@ -65,34 +99,68 @@ public class VaultConfigTemplate implements VaultConfigOperations {
 
 		Assert.notNull(secretBackendMetadata, "SecureBackendAccessor must not be null!");
 
-		log.info(String.format("Fetching config from Vault at: %s", secretBackendMetadata.getPath()));
+		StartupStep step = VaultStartupSteps.current(this.applicationStartup).start(VaultStartupSteps.READ)
+				.tag("path", secretBackendMetadata.getPath());
+		long start = System.nanoTime();
 
 		try {
+			return read(secretBackendMetadata, step);
+		}
+		finally {
+			VaultStartupSteps.end(step, start);
+		}
+	}
 
-			VaultResponse vaultResponse;
+	@Nullable
+	private Secrets read(SecretBackendMetadata secretBackendMetadata, StartupStep step) {
 
-			if (this.keyValueDelegate.isVersioned(secretBackendMetadata.getPath())) {
-				vaultResponse = this.keyValueDelegate.getSecret(secretBackendMetadata.getPath());
-			}
-			else {
-				vaultResponse = this.vaultOperations.read(secretBackendMetadata.getPath());
-			}
+		String path = secretBackendMetadata.getPath();
 
-			if (vaultResponse == null) {
+		if (this.negativeResultCache != null && this.negativeResultCache.isMissing(path)) {
+
+			log.debug(String.format("Skipping config from Vault at: %s (cached as not found)", path));
+			step.tag("status", "cached-not-found");
+			return null;
+		}
+
+		if (this.contextListing != null && secretBackendMetadata instanceof KeyValueSecretBackendMetadata
+				&& !this.contextListing.exists(this.vaultOperations, path)) {
+
+			log.debug(String.format("Skipping config from Vault at: %s (not listed)", path));
+			step.tag("status", "not-listed");
+			return null;
+		}
+
+		log.info(String.format("Fetching config from Vault at: %s", path));
+
+		try {
+
+			Secrets secrets = doRead(secretBackendMetadata);
+
+			if (secrets == null) {
 
 				log.info(String.format("Could not locate PropertySource: %s", "key not found"));
+				step.tag("status", "not-found");
+
+				if (this.negativeResultCache != null) {
+					this.negativeResultCache.recordMissing(path);
+				}
+
 				return null;
 			}
 
-			Map<String, Object> data = JsonMapFlattener.flatten(vaultResponse.getRequiredData());
-			PropertyTransformer propertyTransformer = secretBackendMetadata.getPropertyTransformer();
+			if (this.negativeResultCache != null) {
+				this.negativeResultCache.recordPresent(path);
+			}
 
-			data = propertyTransformer.transformProperties(data);
+			step.tag("status", "found").tag("properties", Integer.toString(secrets.getRequiredData().size()));
 
-			return createSecrets(vaultResponse, data);
+			return secrets;
 		}
 		catch (VaultException e) {
 
+			step.tag("status", "error");
+
 			if (this.properties.isFailFast()) {
 				throw new IllegalStateException(
 						"Could not locate PropertySource and the fail fast property is set, failing.", e);
@@ -105,7 +173,115 @@ public class VaultConfigTemplate implements VaultConfigOperations {
 		return null;
 	}
 
-	private Secrets createSecrets(VaultResponse vaultResponse, Map<String, Object> data) {
+	/**
+	 * Read secrets bypassing the negative cache and context listing, and without
+	 * suppressing errors. Used to revalidate secrets that were served from a snapshot.
+	 * @param secretBackendMetadata the secret backend metadata.
+	 * @return the secrets or {@literal null} if the secret backend does not contain
+	 * secrets.
+	 * @throws VaultException if the secrets cannot be read.
+	 * @since 3.0.1
+	 */
+	@Nullable
+	Secrets revalidate(SecretBackendMetadata secretBackendMetadata) {
+
+		return doRead(secretBackendMetadata);
+	}
+
+	@Nullable
+	private Secrets doRead(SecretBackendMetadata secretBackendMetadata) {
+
+		String path = secretBackendMetadata.getPath();
+
+		if (this.properties.getConfig().isStreaming() && this.mountTableCache != null
+				&& this.mountTableCache.load(this.vaultOperations)) {
+
+			String mountPath = this.mountTableCache.getKeyValue2MountPath(path);
+
+			if (mountPath != null) {
+				return StreamingSecretReader.read(this.vaultOperations, MountTableCache.getDataPath(mountPath, path),
+						true, secretBackendMetadata.getPropertyTransformer(), getInterner(this.properties));
+			}
+
+			return StreamingSecretReader.read(this.vaultOperations, path, false,
+					secretBackendMetadata.getPropertyTransformer(), getInterner(this.properties));
+		}
+
+		VaultResponse vaultResponse = doRead(path);
+
+		return vaultResponse != null ? deduplicate(createSecrets(secretBackendMetadata, vaultResponse), this.properties)
+				: null;
+	}
+
+	@Nullable
+	private VaultResponse doRead(String path) {
+
+		if (this.mountTableCache != null && this.mountTableCache.load(this.vaultOperations)) {
+
+			String mountPath = this.mountTableCache.getKeyValue2MountPath(path);
+
+			if (mountPath != null) {
+				return MountTableCache.unwrap(this.vaultOperations.read(MountTableCache.getDataPath(mountPath, path)));
+			}
+
+			return this.vaultOperations.read(path);
+		}
+
+		if (this.keyValueDelegate.isVersioned(path)) {
+			return this.keyValueDelegate.getSecret(path);
+		}
+
+		return this.vaultOperations.read(path);
+	}
+
+	/**
+	 * Create {@link Secrets} from a {@link VaultResponse} by flattening and transforming
+	 * its data using the {@link SecretBackendMetadata#getPropertyTransformer() property
+	 * transformer}.
+	 * @param secretBackendMetadata the secret backend metadata.
+	 * @param vaultResponse the response.
+	 * @return the {@link Secrets}.
+	 */
+	static Secrets createSecrets(SecretBackendMetadata secretBackendMetadata, VaultResponse vaultResponse) {
+
+		Map<String, Object> data = JsonMapFlattener.flatten(vaultResponse.getRequiredData());
+		PropertyTransformer propertyTransformer = secretBackendMetadata.getPropertyTransformer();
+
+		return createSecrets(vaultResponse, propertyTransformer.transformProperties(data));
+	}
+
+	/**
+	 * Canonicalize property names and values of {@link Secrets} across all property
+	 * sources if {@link VaultProperties.Config#isDeduplicate() deduplication} is
+	 * enabled.
+	 * @param secrets the secrets.
+	 * @param properties the Vault properties.
+	 * @return the {@link Secrets}.
+	 */
+	static Secrets deduplicate(Secrets secrets, VaultProperties properties) {
+
+		PropertyInterner interner = getInterner(properties);
+
+		if (interner != null && secrets.getData() != null) {
+			secrets.setData(CompactPropertyMap.from(secrets.getRequiredData(), interner));
+		}
+
+		return secrets;
+	}
+
+	/**
+	 * Return the {@link PropertyInterner} to canonicalize property names and values
+	 * with.
+	 * @param properties the Vault properties.
+	 * @return the shared {@link PropertyInterner} or {@literal null} if
+	 * {@link VaultProperties.Config#isDeduplicate() deduplication} is disabled.
+	 */
+	@Nullable
+	static PropertyInterner getInterner(VaultProperties properties) {
+		return properties.getConfig().isDeduplicate() ? PropertyInterner.shared() : null;
+	}
+
+	private static Secrets createSecrets(VaultResponse vaultResponse, Map<String, Object> data) {
 
 		Secrets secrets = new Secrets();
 
@@ -123,6 +299,19 @@ public class VaultConfigTemplate implements VaultConfigOperations {
 		return secrets;
 	}
 
+	/**
+	 * Set the {@link ApplicationStartup} to record secret retrieval as
+	 * {@link StartupStep}s.
+	 * @param applicationStartup the application startup, must not be {@literal null}.
+	 * @since 3.0.1
+	 */
+	void setApplicationStartup(ApplicationStartup applicationStartup) {
+
+		Assert.notNull(applicationStartup, "ApplicationStartup must not be null");
+
+		this.applicationStartup = applicationStartup;
+	}
+
 	public VaultOperations getVaultOperations() {
 		return this.vaultOperations;
 	}
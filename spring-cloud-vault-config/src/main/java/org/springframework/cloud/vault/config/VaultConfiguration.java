@@ -20,6 +20,7 @@ import java.net.URI;
 import java.time.Duration;
 import java.util.List;
 import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import org.springframework.cloud.client.ServiceInstance;
 import org.springframework.cloud.vault.config.VaultProperties.Ssl;
@@ -37,6 +38,7 @@ import org.springframework.vault.client.RestTemplateBuilder;
 import org.springframework.vault.client.RestTemplateCustomizer;
 import org.springframework.vault.client.RestTemplateFactory;
 import org.springframework.vault.client.RestTemplateRequestCustomizer;
+import org.springframework.vault.client.SimpleVaultEndpointProvider;
 import org.springframework.vault.client.VaultEndpoint;
 import org.springframework.vault.client.VaultEndpointProvider;
 import org.springframework.vault.client.VaultHttpHeaders;
@@ -111,6 +113,21 @@ final class VaultConfiguration {
 		return ClientHttpRequestFactoryFactory.create(clientOptions, sslConfiguration);
 	}
 
+	/**
+	 * Create a {@link VaultEndpointProvider} from {@link VaultProperties}. Uses a
+	 * {@link VaultClusterEndpointProvider} if cluster nodes are configured.
+	 * @return the endpoint provider.
+	 * @since 3.0.1
+	 */
+	VaultEndpointProvider createVaultEndpointProvider() {
+
+		if (!this.vaultProperties.getCluster().getNodes().isEmpty()) {
+			return VaultClusterEndpointProvider.create(this.vaultProperties);
+		}
+
+		return SimpleVaultEndpointProvider.of(createVaultEndpoint());
+	}
+
 	/**
 	 * Create a {@link VaultEndpoint} from {@link VaultProperties}.
 	 * @return the endpoint.
@@ -129,6 +146,33 @@ final class VaultConfiguration {
 		return vaultEndpoint;
 	}
 
+	/**
+	 * Create an identifier of the configured Vault server and namespace to scope data that
+	 * is retained across bootstrap contexts or restarts.
+	 * @return the Vault server and namespace identifier.
+	 * @since 3.0.1
+	 */
+	String getVaultScope() {
+
+		String server;
+
+		if (!this.vaultProperties.getCluster().getNodes().isEmpty()) {
+			server = StringUtils.collectionToCommaDelimitedString(this.vaultProperties.getCluster().getNodes());
+		}
+		else if (this.vaultProperties.getDiscovery().isEnabled()) {
+			server = "discovery:" + this.vaultProperties.getDiscovery().getServiceId();
+		}
+		else {
+			VaultEndpoint endpoint = createVaultEndpoint();
+			server = String.format("%s://%s:%d/%s", endpoint.getScheme(), endpoint.getHost(), endpoint.getPort(),
+					endpoint.getPath());
+		}
+
+		String namespace = this.vaultProperties.getNamespace();
+
+		return server + "|" + (StringUtils.hasText(namespace) ? namespace : "") + "|";
+	}
+
 	VaultEndpoint createVaultEndpoint(ServiceInstance server) {
 		String fallbackScheme;
 
@@ -156,6 +200,13 @@ final class VaultConfiguration {
 		RestTemplateBuilder builder = RestTemplateBuilder.builder().requestFactory(requestFactory)
 				.endpointProvider(endpointProvider);
 
+		if (endpointProvider instanceof VaultClusterEndpointProvider) {
+
+			VaultClusterEndpointProvider cluster = (VaultClusterEndpointProvider) endpointProvider;
+			cluster.setRequestFactory(requestFactory);
+			builder.requestFactory(cluster.createRequestFactory(requestFactory));
+		}
+
 		customizers.forEach(builder::customizers);
 		requestCustomizers.forEach(builder::requestCustomizers);
 
@@ -173,6 +224,12 @@ final class VaultConfiguration {
 			RestTemplate restTemplate = restTemplateFactory.create();
 			LifecycleAwareSessionManagerSupport.RefreshTrigger trigger = new LifecycleAwareSessionManagerSupport.FixedTimeoutRefreshTrigger(
 					lifecycle.getRefreshBeforeExpiry(), lifecycle.getExpiryThreshold());
+			RenewalJitter jitter = RenewalJitter.create(lifecycle);
+
+			if (jitter != null) {
+				trigger = jitter.decorate(trigger);
+			}
+
 			return new LifecycleAwareSessionManager(clientAuthentication, taskSchedulerSupplier.get(), restTemplate,
 					trigger);
 		}
@@ -182,22 +239,50 @@ final class VaultConfiguration {
 
 	SecretLeaseContainer createSecretLeaseContainer(VaultOperations vaultOperations,
 			Supplier<TaskScheduler> taskSchedulerSupplier) {
+		return createSecretLeaseContainer(vaultOperations, taskSchedulerSupplier, UnaryOperator.identity(),
+				new MountTableCache());
+	}
+
+	SecretLeaseContainer createSecretLeaseContainer(VaultOperations vaultOperations,
+			Supplier<TaskScheduler> taskSchedulerSupplier, UnaryOperator<TaskScheduler> taskSchedulerDecorator,
+			MountTableCache mountTableCache) {
 
 		VaultProperties.ConfigLifecycle lifecycle = this.vaultProperties.getConfig().getLifecycle();
 
-		SecretLeaseContainer container = new SecretLeaseContainer(vaultOperations, taskSchedulerSupplier.get());
+		TaskScheduler taskScheduler = taskSchedulerSupplier.get();
+
+		if (lifecycle.getRenewalWindow() != null && !lifecycle.getRenewalWindow().isZero()) {
+			taskScheduler = new CoalescingTaskScheduler(taskScheduler, lifecycle.getRenewalWindow());
+		}
+
+		RenewalJitter jitter = RenewalJitter.create(lifecycle);
+
+		if (jitter != null) {
+			taskScheduler = jitter.decorate(taskScheduler);
+		}
+
+		VaultSecretLeaseContainer container = new VaultSecretLeaseContainer(vaultOperations,
+				taskSchedulerDecorator.apply(taskScheduler));
+
+		if (lifecycle.getLeaseStore().isEnabled()) {
+			container.setLeaseStore(SecretLeaseStore.create(this.vaultProperties));
+		}
+
+		container.setRevocationTimeout(lifecycle.getRevocationTimeout());
+		container.setRevocationThreshold(lifecycle.getRevocationThreshold());
+		container.setRevocationConcurrency(lifecycle.getRevocationConcurrency());
+
+		if (lifecycle.isVersionCheck()) {
+			container.setVersionTracker(new KeyValueVersionTracker(vaultOperations, mountTableCache));
+		}
 
 		customizeContainer(lifecycle, container);
 
 		return container;
 	}
 
-	static ThreadPoolTaskScheduler createScheduler() {
-		ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
-		threadPoolTaskScheduler.setPoolSize(2);
-		threadPoolTaskScheduler.setDaemon(true);
-		threadPoolTaskScheduler.setThreadNamePrefix("Spring-Cloud-Vault-");
-		return threadPoolTaskScheduler;
+	static ThreadPoolTaskScheduler createScheduler(VaultProperties vaultProperties) {
+		return VaultTaskScheduler.create(vaultProperties);
 	}
 
 	static void customizeContainer(VaultProperties.ConfigLifecycle lifecycle, SecretLeaseContainer container) {
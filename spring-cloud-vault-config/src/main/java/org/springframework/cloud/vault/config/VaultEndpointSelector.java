@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.cloud.vault.config.VaultProperties.Discovery.LoadBalancing;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.util.Assert;
+import org.springframework.vault.client.RestTemplateCustomizer;
+import org.springframework.vault.client.VaultEndpoint;
+
+/**
+ * Selects a {@link VaultEndpoint} from a list of discovered endpoints according to a
+ * {@link LoadBalancing} strategy. Selecting the endpoint with the least number of
+ * outstanding requests requires request tracking through
+ * {@link #restTemplateCustomizer()} or {@link #track(URI)}. Endpoints are tracked by
+ * host and port.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+class VaultEndpointSelector {
+
+	private final LoadBalancing loadBalancing;
+
+	private final AtomicInteger counter = new AtomicInteger();
+
+	private final Map<String, AtomicInteger> outstanding = new ConcurrentHashMap<>();
+
+	VaultEndpointSelector(LoadBalancing loadBalancing) {
+
+		Assert.notNull(loadBalancing, "LoadBalancing must not be null");
+
+		this.loadBalancing = loadBalancing;
+	}
+
+	/**
+	 * Select a {@link VaultEndpoint}.
+	 * @param endpoints the endpoints to select from, must not be empty.
+	 * @return the selected {@link VaultEndpoint}.
+	 */
+	VaultEndpoint select(List<VaultEndpoint> endpoints) {
+
+		Assert.notEmpty(endpoints, "Endpoints must not be empty");
+
+		if (endpoints.size() == 1 || this.loadBalancing == LoadBalancing.FIRST) {
+			return endpoints.get(0);
+		}
+
+		int offset = Math.floorMod(this.counter.getAndIncrement(), endpoints.size());
+
+		if (this.loadBalancing == LoadBalancing.ROUND_ROBIN) {
+			return endpoints.get(offset);
+		}
+
+		// start at the round-robin offset to spread ties evenly
+		VaultEndpoint selected = null;
+		int least = Integer.MAX_VALUE;
+
+		for (int i = 0; i < endpoints.size(); i++) {
+
+			VaultEndpoint endpoint = endpoints.get((offset + i) % endpoints.size());
+			int count = getOutstanding(endpoint);
+
+			if (count < least) {
+				selected = endpoint;
+				least = count;
+			}
+		}
+
+		return selected;
+	}
+
+	/**
+	 * @param endpoint the endpoint.
+	 * @return the number of outstanding requests to {@code endpoint}.
+	 */
+	int getOutstanding(VaultEndpoint endpoint) {
+
+		AtomicInteger count = this.outstanding.get(getKey(endpoint.getHost(), endpoint.getPort()));
+
+		return count != null ? count.get() : 0;
+	}
+
+	/**
+	 * @return {@link RestTemplateCustomizer} to track outstanding requests.
+	 */
+	RestTemplateCustomizer restTemplateCustomizer() {
+
+		ClientHttpRequestInterceptor interceptor = (request, body, execution) -> {
+
+			AtomicInteger count = track(request.getURI());
+
+			try {
+				return execution.execute(request, body);
+			}
+			finally {
+				count.decrementAndGet();
+			}
+		};
+
+		return restTemplate -> restTemplate.getInterceptors().add(interceptor);
+	}
+
+	/**
+	 * Track the start of a request to {@code uri}.
+	 * @param uri the request URI.
+	 * @return the outstanding request counter to decrement once the request completes.
+	 */
+	AtomicInteger track(URI uri) {
+
+		AtomicInteger count = this.outstanding.computeIfAbsent(getKey(uri.getHost(), uri.getPort()),
+				key -> new AtomicInteger());
+		count.incrementAndGet();
+
+		return count;
+	}
+
+	private static String getKey(String host, int port) {
+		return host + ":" + port;
+	}
+
+}
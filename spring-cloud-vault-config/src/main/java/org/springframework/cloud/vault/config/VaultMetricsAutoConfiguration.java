@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cloud.vault.config.VaultAutoConfiguration.TaskSchedulerWrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * {@link org.springframework.boot.autoconfigure.EnableAutoConfiguration
+ * Auto-configuration} publishing Micrometer metrics for Spring Cloud Vault
+ * infrastructure.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnClass(MeterBinder.class)
+@ConditionalOnProperty(name = "spring.cloud.vault.enabled", matchIfMissing = true)
+@AutoConfigureAfter(VaultAutoConfiguration.class)
+public class VaultMetricsAutoConfiguration {
+
+	/**
+	 * @param taskSchedulerWrapper the {@link TaskSchedulerWrapper}.
+	 * @return the {@link MeterBinder} for the Vault task scheduler.
+	 */
+	@Bean
+	@ConditionalOnBean(TaskSchedulerWrapper.class)
+	@ConditionalOnMissingBean(name = "vaultTaskSchedulerMetrics")
+	public MeterBinder vaultTaskSchedulerMetrics(TaskSchedulerWrapper taskSchedulerWrapper) {
+		return new VaultTaskSchedulerMetrics(taskSchedulerWrapper.getTaskScheduler());
+	}
+
+}
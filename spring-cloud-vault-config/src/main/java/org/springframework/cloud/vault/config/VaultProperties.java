@@ -18,6 +18,8 @@ package org.springframework.cloud.vault.config;
 
 import java.net.URI;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.DeprecatedConfigurationProperty;
@@ -130,6 +132,10 @@ public class VaultProperties implements EnvironmentAware {
 
 	private Session session = new Session();
 
+	private Scheduler scheduler = new Scheduler();
+
+	private Cluster cluster = new Cluster();
+
 	/**
 	 * Application name for AppId authentication.
 	 */
@@ -334,6 +340,22 @@ public class VaultProperties implements EnvironmentAware {
 		this.session = session;
 	}
 
+	public Scheduler getScheduler() {
+		return this.scheduler;
+	}
+
+	public void setScheduler(Scheduler scheduler) {
+		this.scheduler = scheduler;
+	}
+
+	public Cluster getCluster() {
+		return this.cluster;
+	}
+
+	public void setCluster(Cluster cluster) {
+		this.cluster = cluster;
+	}
+
 	public String getApplicationName() {
 		return this.applicationName;
 	}
@@ -359,6 +381,33 @@ public class VaultProperties implements EnvironmentAware {
 
 	}
 
+	/**
+	 * Enumeration of property source initialization modes.
+	 *
+	 * @since 3.0.1
+	 */
+	public enum InitializationMode {
+
+		/**
+		 * Read secrets when registering the property source.
+		 */
+		EAGER,
+
+		/**
+		 * Read secrets on first access to a property of the property source. Applies to
+		 * the Bootstrap Context only. ConfigData property sources are initialized
+		 * eagerly.
+		 */
+		LAZY,
+
+		/**
+		 * Start reading secrets in the background when registering the property source
+		 * and await the result on first access to a property of the property source.
+		 */
+		ASYNC;
+
+	}
+
 	/**
 	 * Discovery properties.
 	 */
@@ -380,6 +429,22 @@ public class VaultProperties implements EnvironmentAware {
 		 */
 		private String serviceId = DEFAULT_VAULT;
 
+		/**
+		 * Time to live of discovered Vault instances. Instances are refreshed in the
+		 * background once expired. Instances are looked up on each request if set to
+		 * zero.
+		 *
+		 * @since 3.0.1
+		 */
+		private Duration ttl = Duration.ofSeconds(30);
+
+		/**
+		 * Strategy to select a Vault instance from the discovered instances.
+		 *
+		 * @since 3.0.1
+		 */
+		private LoadBalancing loadBalancing = LoadBalancing.FIRST;
+
 		public boolean isEnabled() {
 			return this.enabled;
 		}
@@ -396,6 +461,46 @@ public class VaultProperties implements EnvironmentAware {
 			this.serviceId = serviceId;
 		}
 
+		public Duration getTtl() {
+			return this.ttl;
+		}
+
+		public void setTtl(Duration ttl) {
+			this.ttl = ttl;
+		}
+
+		public LoadBalancing getLoadBalancing() {
+			return this.loadBalancing;
+		}
+
+		public void setLoadBalancing(LoadBalancing loadBalancing) {
+			this.loadBalancing = loadBalancing;
+		}
+
+		/**
+		 * Strategies to select a Vault instance from discovered instances.
+		 *
+		 * @since 3.0.1
+		 */
+		public enum LoadBalancing {
+
+			/**
+			 * Use the first discovered instance.
+			 */
+			FIRST,
+
+			/**
+			 * Use discovered instances in turn.
+			 */
+			ROUND_ROBIN,
+
+			/**
+			 * Use the instance with the least number of outstanding requests.
+			 */
+			LEAST_OUTSTANDING
+
+		}
+
 	}
 
 	/**
@@ -1117,13 +1222,136 @@ public class VaultProperties implements EnvironmentAware {
 		 */
 		private int order = 0;
 
+		/**
+		 * Number of secret backends that are read concurrently when initializing
+		 * property sources. Secret backends are read sequentially when set to {@code 1}.
+		 *
+		 * @since 3.0.1
+		 */
+		private int parallelism = 1;
+
+		/**
+		 * Overall deadline for reading all secret backends concurrently. Applies only if
+		 * {@code parallelism} is greater than {@code 1} or when awaiting secrets of async
+		 * property sources.
+		 *
+		 * @since 3.0.1
+		 */
+		private Duration timeout = Duration.ofSeconds(30);
+
+		/**
+		 * Discover existing Key-Value contexts by listing their parent folder once and
+		 * read only contexts that exist. Requires {@code list} capabilities on the
+		 * listed folders.
+		 *
+		 * @since 3.0.1
+		 */
+		private boolean listContexts = false;
+
+		/**
+		 * Index properties of all Vault property sources in a single lookup table so
+		 * that each property lookup costs a single hash probe. Applies to the bootstrap
+		 * context with eager initialization.
+		 *
+		 * @since 3.0.1
+		 */
+		private boolean indexed = false;
+
+		/**
+		 * Read secrets by streaming the JSON response and flatten and transform
+		 * properties in a single pass instead of materializing intermediate maps.
+		 * Requires read access to the mount table ({@code sys/internal/ui/mounts}).
+		 *
+		 * @since 3.0.1
+		 */
+		private boolean streaming = false;
+
+		/**
+		 * Canonicalize property names and values so that equal names and values read
+		 * by different Vault property sources share a single instance within the
+		 * class loader.
+		 *
+		 * @since 3.0.1
+		 */
+		private boolean deduplicate = false;
+
+		/**
+		 * Initialization mode of property sources. Lazy property sources read secrets
+		 * on first access to one of their properties (Bootstrap Context only). Async
+		 * property sources read secrets in the background and await them on first access
+		 * (ConfigData API only).
+		 *
+		 * @since 3.0.1
+		 */
+		private InitializationMode initializationMode = InitializationMode.EAGER;
+
 		private ConfigLifecycle lifecycle = new ConfigLifecycle();
 
+		private NegativeCache negativeCache = new NegativeCache();
+
+		private Snapshot snapshot = new Snapshot();
+
 		@DeprecatedConfigurationProperty(reason = "Only required for deprecated Bootstrap Context usage")
 		public int getOrder() {
 			return this.order;
 		}
 
+		public int getParallelism() {
+			return this.parallelism;
+		}
+
+		public void setParallelism(int parallelism) {
+			this.parallelism = parallelism;
+		}
+
+		public Duration getTimeout() {
+			return this.timeout;
+		}
+
+		public void setTimeout(Duration timeout) {
+			this.timeout = timeout;
+		}
+
+		public boolean isListContexts() {
+			return this.listContexts;
+		}
+
+		public void setListContexts(boolean listContexts) {
+			this.listContexts = listContexts;
+		}
+
+		public boolean isIndexed() {
+			return this.indexed;
+		}
+
+		public void setIndexed(boolean indexed) {
+			this.indexed = indexed;
+		}
+
+		public boolean isStreaming() {
+			return this.streaming;
+		}
+
+		public void setStreaming(boolean streaming) {
+			this.streaming = streaming;
+		}
+
+		public boolean isDeduplicate() {
+			return this.deduplicate;
+		}
+
+		public void setDeduplicate(boolean deduplicate) {
+			this.deduplicate = deduplicate;
+		}
+
+		public InitializationMode getInitializationMode() {
+			return this.initializationMode;
+		}
+
+		public void setInitializationMode(InitializationMode initializationMode) {
+			this.initializationMode = initializationMode;
+		}
+
 		public ConfigLifecycle getLifecycle() {
 			return this.lifecycle;
 		}
@@ -1136,6 +1364,181 @@ public class VaultProperties implements EnvironmentAware {
 			this.lifecycle = lifecycle;
 		}
 
+		public NegativeCache getNegativeCache() {
+			return this.negativeCache;
+		}
+
+		public void setNegativeCache(NegativeCache negativeCache) {
+			this.negativeCache = negativeCache;
+		}
+
+		public Snapshot getSnapshot() {
+			return this.snapshot;
+		}
+
+		public void setSnapshot(Snapshot snapshot) {
+			this.snapshot = snapshot;
+		}
+
+	}
+
+	/**
+	 * Configuration to cache secret paths that were not found in Vault.
+	 *
+	 * @since 3.0.1
+	 */
+	public static class NegativeCache {
+
+		/**
+		 * Enable caching of secret paths that were not found. Cached paths are not read
+		 * again until their time to live expires.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * Time to live for a cached secret path that was not found.
+		 */
+		private Duration ttl = Duration.ofMinutes(5);
+
+		/**
+		 * File to persist cached secret paths between restarts. Cached paths are kept in
+		 * memory only if not set.
+		 */
+		@Nullable
+		private String location;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		public Duration getTtl() {
+			return this.ttl;
+		}
+
+		public void setTtl(Duration ttl) {
+			this.ttl = ttl;
+		}
+
+		@Nullable
+		public String getLocation() {
+			return this.location;
+		}
+
+		public void setLocation(@Nullable String location) {
+			this.location = location;
+		}
+
+	}
+
+	/**
+	 * Configuration for an encrypted on-disk snapshot of secrets read from Vault.
+	 *
+	 * @since 3.0.1
+	 */
+	public static class Snapshot {
+
+		/**
+		 * Enable the secret snapshot. Property sources are served from the snapshot on
+		 * startup and revalidated against Vault in the background.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * File to store the encrypted snapshot.
+		 */
+		@Nullable
+		private String location;
+
+		/**
+		 * Password to derive the snapshot encryption key from.
+		 */
+		@Nullable
+		private String password;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		@Nullable
+		public String getLocation() {
+			return this.location;
+		}
+
+		public void setLocation(@Nullable String location) {
+			this.location = location;
+		}
+
+		@Nullable
+		public String getPassword() {
+			return this.password;
+		}
+
+		public void setPassword(@Nullable String password) {
+			this.password = password;
+		}
+
+	}
+
+	/**
+	 * Configuration of the encrypted lease store to reuse leases across restarts.
+	 *
+	 * @since 3.0.1
+	 */
+	public static class LeaseStore {
+
+		/**
+		 * Enable the lease store. Renewable leases are stored and renewed on the next
+		 * startup instead of requesting new credentials. Stored leases are not revoked
+		 * on shutdown.
+		 */
+		private boolean enabled = false;
+
+		/**
+		 * File to store the encrypted leases.
+		 */
+		@Nullable
+		private String location;
+
+		/**
+		 * Password to derive the lease store encryption key from.
+		 */
+		@Nullable
+		private String password;
+
+		public boolean isEnabled() {
+			return this.enabled;
+		}
+
+		public void setEnabled(boolean enabled) {
+			this.enabled = enabled;
+		}
+
+		@Nullable
+		public String getLocation() {
+			return this.location;
+		}
+
+		public void setLocation(@Nullable String location) {
+			this.location = location;
+		}
+
+		@Nullable
+		public String getPassword() {
+			return this.password;
+		}
+
+		public void setPassword(@Nullable String password) {
+			this.password = password;
+		}
+
 	}
 
 	/**
@@ -1179,6 +1582,73 @@ public class VaultProperties implements EnvironmentAware {
 		@Nullable
 		private LeaseEndpoints leaseEndpoints;
 
+		/**
+		 * Window to coalesce lease renewals. Renewals that are due within the window
+		 * after the earliest pending renewal are executed together in a single scheduler
+		 * wake-up. Coalescing is disabled if not set.
+		 *
+		 * @since 3.0.1
+		 */
+		@Nullable
+		private Duration renewalWindow;
+
+		/**
+		 * Maximum random offset by which lease renewals are scheduled earlier to spread
+		 * renewals of multiple application instances over time. Jitter is disabled if
+		 * not set.
+		 *
+		 * @since 3.0.1
+		 */
+		@Nullable
+		private Duration jitter;
+
+		/**
+		 * Identifier of this application instance, for example the host name. If set,
+		 * the jitter offset is derived from the instance identifier instead of being
+		 * random so that instances spread evenly and retain their offset across
+		 * restarts.
+		 *
+		 * @since 3.0.1
+		 */
+		@Nullable
+		private String instanceId;
+
+		/**
+		 * Deadline for revoking leases on shutdown. Leases that are not revoked within
+		 * the deadline are left to expire. Revocation is not bounded if not set.
+		 *
+		 * @since 3.0.1
+		 */
+		@Nullable
+		private Duration revocationTimeout;
+
+		/**
+		 * Remaining lease duration below which leases are not revoked on shutdown but
+		 * left to expire. All leases are revoked if not set.
+		 *
+		 * @since 3.0.1
+		 */
+		@Nullable
+		private Duration revocationThreshold;
+
+		/**
+		 * Maximum number of leases to revoke concurrently on shutdown.
+		 *
+		 * @since 3.0.1
+		 */
+		private int revocationConcurrency = 4;
+
+		/**
+		 * Check the version of rotating secrets stored in a versioned Key-Value secrets
+		 * engine through the metadata endpoint and read the secret only if its version
+		 * changed.
+		 *
+		 * @since 3.0.1
+		 */
+		private boolean versionCheck;
+
+		private LeaseStore leaseStore = new LeaseStore();
+
 		public boolean isEnabled() {
 			return this.enabled;
 		}
@@ -1214,6 +1684,75 @@ public class VaultProperties implements EnvironmentAware {
 			this.leaseEndpoints = leaseEndpoints;
 		}
 
+		@Nullable
+		public Duration getRenewalWindow() {
+			return this.renewalWindow;
+		}
+
+		public void setRenewalWindow(@Nullable Duration renewalWindow) {
+			this.renewalWindow = renewalWindow;
+		}
+
+		@Nullable
+		public Duration getJitter() {
+			return this.jitter;
+		}
+
+		public void setJitter(@Nullable Duration jitter) {
+			this.jitter = jitter;
+		}
+
+		@Nullable
+		public String getInstanceId() {
+			return this.instanceId;
+		}
+
+		public void setInstanceId(@Nullable String instanceId) {
+			this.instanceId = instanceId;
+		}
+
+		@Nullable
+		public Duration getRevocationTimeout() {
+			return this.revocationTimeout;
+		}
+
+		public void setRevocationTimeout(@Nullable Duration revocationTimeout) {
+			this.revocationTimeout = revocationTimeout;
+		}
+
+		@Nullable
+		public Duration getRevocationThreshold() {
+			return this.revocationThreshold;
+		}
+
+		public void setRevocationThreshold(@Nullable Duration revocationThreshold) {
+			this.revocationThreshold = revocationThreshold;
+		}
+
+		public int getRevocationConcurrency() {
+			return this.revocationConcurrency;
+		}
+
+		public void setRevocationConcurrency(int revocationConcurrency) {
+			this.revocationConcurrency = revocationConcurrency;
+		}
+
+		public boolean isVersionCheck() {
+			return this.versionCheck;
+		}
+
+		public void setVersionCheck(boolean versionCheck) {
+			this.versionCheck = versionCheck;
+		}
+
+		public LeaseStore getLeaseStore() {
+			return this.leaseStore;
+		}
+
+		public void setLeaseStore(LeaseStore leaseStore) {
+			this.leaseStore = leaseStore;
+		}
+
 	}
 
 	/**
@@ -1261,6 +1800,27 @@ public class VaultProperties implements EnvironmentAware {
 		 */
 		private Duration expiryThreshold = Duration.ofSeconds(7);
 
+		/**
+		 * Maximum random offset by which token refreshes are scheduled earlier to spread
+		 * renewals of multiple application instances over time. Jitter is disabled if
+		 * not set.
+		 *
+		 * @since 3.0.1
+		 */
+		@Nullable
+		private Duration jitter;
+
+		/**
+		 * Identifier of this application instance, for example the host name. If set,
+		 * the jitter offset is derived from the instance identifier instead of being
+		 * random so that instances spread evenly and retain their offset across
+		 * restarts.
+		 *
+		 * @since 3.0.1
+		 */
+		@Nullable
+		private String instanceId;
+
 		public boolean isEnabled() {
 			return this.enabled;
 		}
@@ -1285,6 +1845,166 @@ public class VaultProperties implements EnvironmentAware {
 			this.expiryThreshold = expiryThreshold;
 		}
 
+		@Nullable
+		public Duration getJitter() {
+			return this.jitter;
+		}
+
+		public void setJitter(@Nullable Duration jitter) {
+			this.jitter = jitter;
+		}
+
+		@Nullable
+		public String getInstanceId() {
+			return this.instanceId;
+		}
+
+		public void setInstanceId(@Nullable String instanceId) {
+			this.instanceId = instanceId;
+		}
+
+	}
+
+	/**
+	 * Configuration of the task scheduler used for session and secret lease renewal.
+	 *
+	 * @since 3.0.1
+	 */
+	public static class Scheduler {
+
+		/**
+		 * Number of threads used to renew sessions and secret leases.
+		 */
+		private int poolSize = 2;
+
+		/**
+		 * Prefix for the names of scheduler threads.
+		 */
+		private String threadNamePrefix = "Spring-Cloud-Vault-";
+
+		/**
+		 * Whether scheduler threads are daemon threads.
+		 */
+		private boolean daemon = true;
+
+		/**
+		 * Whether cancelled renewal tasks are removed from the scheduler queue
+		 * immediately instead of remaining queued until their scheduled time.
+		 */
+		private boolean removeOnCancel = false;
+
+		/**
+		 * Whether to run scheduled tasks on virtual threads. Requires a Java runtime
+		 * that supports virtual threads, falls back to platform threads otherwise.
+		 */
+		private boolean virtualThreads = false;
+
+		public int getPoolSize() {
+			return this.poolSize;
+		}
+
+		public void setPoolSize(int poolSize) {
+			this.poolSize = poolSize;
+		}
+
+		public String getThreadNamePrefix() {
+			return this.threadNamePrefix;
+		}
+
+		public void setThreadNamePrefix(String threadNamePrefix) {
+			this.threadNamePrefix = threadNamePrefix;
+		}
+
+		public boolean isDaemon() {
+			return this.daemon;
+		}
+
+		public void setDaemon(boolean daemon) {
+			this.daemon = daemon;
+		}
+
+		public boolean isRemoveOnCancel() {
+			return this.removeOnCancel;
+		}
+
+		public void setRemoveOnCancel(boolean removeOnCancel) {
+			this.removeOnCancel = removeOnCancel;
+		}
+
+		public boolean isVirtualThreads() {
+			return this.virtualThreads;
+		}
+
+		public void setVirtualThreads(boolean virtualThreads) {
+			this.virtualThreads = virtualThreads;
+		}
+
+	}
+
+	/**
+	 * Configuration of Vault cluster nodes to route secret reads to performance standby
+	 * nodes.
+	 *
+	 * @since 3.0.1
+	 */
+	public static class Cluster {
+
+		/**
+		 * URIs of the Vault cluster nodes, for example {@code https://vault-1:8200}.
+		 * Cluster routing is disabled if empty.
+		 */
+		private List<String> nodes = new ArrayList<>();
+
+		/**
+		 * Interval to check the health and role of cluster nodes.
+		 */
+		private Duration healthCheckInterval = Duration.ofSeconds(10);
+
+		/**
+		 * Route secret reads to performance standby nodes. Writes, logins, and lease
+		 * operations are always routed to the active node.
+		 */
+		private boolean standbyReads = true;
+
+		/**
+		 * Path prefixes of secrets to read from performance standby nodes, for example
+		 * {@code secret/}. If empty, reads from Key-Value secrets engines of the mount
+		 * table are routed to performance standby nodes.
+		 */
+		private List<String> standbyReadPaths = new ArrayList<>();
+
+		public List<String> getNodes() {
+			return this.nodes;
+		}
+
+		public void setNodes(List<String> nodes) {
+			this.nodes = nodes;
+		}
+
+		public Duration getHealthCheckInterval() {
+			return this.healthCheckInterval;
+		}
+
+		public void setHealthCheckInterval(Duration healthCheckInterval) {
+			this.healthCheckInterval = healthCheckInterval;
+		}
+
+		public boolean isStandbyReads() {
+			return this.standbyReads;
+		}
+
+		public void setStandbyReads(boolean standbyReads) {
+			this.standbyReads = standbyReads;
+		}
+
+		public List<String> getStandbyReadPaths() {
+			return this.standbyReadPaths;
+		}
+
+		public void setStandbyReadPaths(List<String> standbyReadPaths) {
+			this.standbyReadPaths = standbyReadPaths;
+		}
+
 	}
 
 }
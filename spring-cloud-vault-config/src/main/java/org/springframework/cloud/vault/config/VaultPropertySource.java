@@ -16,16 +16,17 @@
 
 package org.springframework.cloud.vault.config;
 
-import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.http.HttpStatus;
 import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.web.client.HttpStatusCodeException;
 
 /**
  * A {@link EnumerablePropertySource} backed by {@link VaultConfigTemplate}.
@@ -41,10 +42,16 @@ class VaultPropertySource extends EnumerablePropertySource<VaultConfigOperations
 
 	private final SecretBackendMetadata secretBackendMetadata;
 
-	private final Map<String, Object> properties = new LinkedHashMap<>();
+	private volatile CompactPropertyMap properties = CompactPropertyMap.EMPTY;
 
 	@Nullable
-	private Secrets secrets;
+	private volatile Secrets secrets;
+
+	@Nullable
+	private SecretSnapshotStore snapshotStore;
+
+	@Nullable
+	private volatile AtomicLong modifications;
 
 	/**
 	 * Creates a new {@link VaultPropertySource}.
@@ -65,15 +72,14 @@ class VaultPropertySource extends EnumerablePropertySource<VaultConfigOperations
 	}
 
 	/**
-	 * Initialize property source and read properties from Vault.
+	 * Initialize property source and read properties from Vault. Properties are
+	 * published atomically so this method can be called from a thread other than the one
+	 * reading properties.
 	 */
 	public void init() {
 
 		try {
-			this.secrets = this.source.read(this.secretBackendMetadata);
-			if (this.secrets != null) {
-				this.properties.putAll(this.secrets.getRequiredData());
-			}
+			initialize(this.source.read(this.secretBackendMetadata));
 		}
 		catch (RuntimeException e) {
 
@@ -88,15 +94,157 @@ class VaultPropertySource extends EnumerablePropertySource<VaultConfigOperations
 		}
 	}
 
+	/**
+	 * Initialize property source from the {@link SecretSnapshotStore snapshot} and
+	 * revalidate properties against Vault in the background. Properties are discarded
+	 * from the property source and the snapshot if the secret no longer exists or access
+	 * to it is denied. Other errors retain the snapshot.
+	 * @return {@literal true} if the snapshot contained properties for this property
+	 * source; {@literal false} if the property source was not initialized.
+	 * @since 3.0.1
+	 */
+	boolean initializeFromSnapshot() {
+
+		SecretSnapshotStore snapshotStore = this.snapshotStore;
+		Map<String, Object> snapshot = snapshotStore != null ? snapshotStore.get(getName()) : null;
+
+		if (snapshotStore == null || snapshot == null) {
+			return false;
+		}
+
+		setProperties(CompactPropertyMap.from(snapshot));
+
+		snapshotStore.getRevalidationExecutor().execute(() -> revalidate(snapshotStore));
+
+		return true;
+	}
+
+	private void revalidate(SecretSnapshotStore snapshotStore) {
+
+		try {
+
+			Secrets secrets = this.source instanceof VaultConfigTemplate
+					? ((VaultConfigTemplate) this.source).revalidate(this.secretBackendMetadata)
+					: this.source.read(this.secretBackendMetadata);
+
+			if (secrets != null) {
+				initialize(secrets);
+				return;
+			}
+
+			log.warn(String.format("Properties for %s no longer exist in Vault, discarding snapshot", getName()));
+		}
+		catch (RuntimeException e) {
+
+			if (!isAccessDenied(e)) {
+				log.warn(String.format("Unable to revalidate properties from Vault for %s, retaining snapshot: %s",
+						getName(), e.getMessage()));
+				return;
+			}
+
+			log.warn(String.format("Access to properties for %s denied by Vault, discarding snapshot: %s", getName(),
+					e.getMessage()));
+		}
+
+		snapshotStore.remove(getName());
+		setProperties(CompactPropertyMap.EMPTY);
+		this.secrets = null;
+	}
+
+	/**
+	 * Return whether {@code e} was caused by Vault denying access ({@code 403}).
+	 * @param e the exception to inspect.
+	 * @return {@literal true} if access was denied.
+	 */
+	static boolean isAccessDenied(Throwable e) {
+
+		for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+
+			if (cause instanceof HttpStatusCodeException
+					&& ((HttpStatusCodeException) cause).getStatusCode() == HttpStatus.FORBIDDEN) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Set the {@link SecretSnapshotStore} to store properties after reading them from
+	 * Vault.
+	 * @param snapshotStore the snapshot store.
+	 * @since 3.0.1
+	 */
+	void setSnapshotStore(@Nullable SecretSnapshotStore snapshotStore) {
+		this.snapshotStore = snapshotStore;
+	}
+
+	/**
+	 * Initialize property source from {@link Secrets} that were already read from Vault.
+	 * @param secrets the secrets, may be {@literal null} if the secret backend does not
+	 * contain secrets.
+	 * @since 3.0.1
+	 */
+	void initialize(@Nullable Secrets secrets) {
+
+		if (secrets != null) {
+
+			CompactPropertyMap properties = CompactPropertyMap.from(secrets.getRequiredData());
+			setProperties(properties);
+
+			if (this.snapshotStore != null) {
+				this.snapshotStore.put(getName(), properties);
+			}
+		}
+
+		this.secrets = secrets;
+	}
+
+	/**
+	 * Set the counter to increment after replacing the properties of this property
+	 * source. Allows a composite property source to detect changes without comparing
+	 * the properties of each nested property source.
+	 * @param modifications the modification counter.
+	 * @since 3.0.1
+	 */
+	void setModificationCounter(@Nullable AtomicLong modifications) {
+		this.modifications = modifications;
+	}
+
+	private void setProperties(CompactPropertyMap properties) {
+
+		this.properties = properties;
+
+		AtomicLong modifications = this.modifications;
+
+		if (modifications != null) {
+			modifications.incrementAndGet();
+		}
+	}
+
 	@Override
 	public Object getProperty(String name) {
 		return this.properties.get(name);
 	}
 
+	/**
+	 * Return the current properties without initializing the property source. The
+	 * returned map is replaced, not modified, when properties change.
+	 * @return the current properties.
+	 * @since 3.0.1
+	 */
+	CompactPropertyMap getProperties() {
+		return this.properties;
+	}
+
+	@Override
+	public boolean containsProperty(String name) {
+		return this.properties.containsKey(name);
+	}
+
 	@Override
 	public String[] getPropertyNames() {
-		Set<String> strings = this.properties.keySet();
-		return strings.toArray(new String[0]);
+		return this.properties.getNames();
 	}
 
 }
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Utility to initialize {@link VaultPropertySource}s and to invoke other secret retrieval
+ * tasks. Property sources are initialized sequentially by default. Configuring
+ * {@link VaultProperties.Config#getParallelism()} with a value greater than {@code 1}
+ * reads secret backends concurrently, bounded by
+ * {@link VaultProperties.Config#getTimeout()}. The order of property sources is not
+ * affected by concurrent initialization. Concurrent tasks are recorded as
+ * {@link VaultStartupSteps#CONCURRENT_READ} step.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+final class VaultPropertySourceInitializer {
+
+	private static final Log log = LogFactory.getLog(VaultPropertySourceInitializer.class);
+
+	private VaultPropertySourceInitializer() {
+	}
+
+	/**
+	 * Initialize the given {@link VaultPropertySource}s.
+	 * @param propertySources the property sources to initialize.
+	 * @param properties the {@link VaultProperties}.
+	 * @param applicationStartup the application startup.
+	 */
+	static void initialize(List<? extends VaultPropertySource> propertySources, VaultProperties properties,
+			ApplicationStartup applicationStartup) {
+
+		List<String> names = new ArrayList<>(propertySources.size());
+		List<Supplier<Void>> tasks = new ArrayList<>(propertySources.size());
+
+		for (VaultPropertySource propertySource : propertySources) {
+
+			names.add(propertySource.getName());
+			tasks.add(() -> {
+				propertySource.init();
+				return null;
+			});
+		}
+
+		invokeAll(names, tasks, properties, applicationStartup);
+	}
+
+	/**
+	 * Invoke the given tasks either sequentially or concurrently and return their
+	 * results in the order of {@code tasks}. The result of a task that did not complete
+	 * within {@link VaultProperties.Config#getTimeout()} is {@literal null} unless
+	 * {@link VaultProperties#isFailFast()} is enabled, in which case this method throws
+	 * {@link IllegalStateException}.
+	 * @param names descriptive task names used for logging, must match {@code tasks} in
+	 * size.
+	 * @param tasks the tasks to invoke.
+	 * @param properties the {@link VaultProperties}.
+	 * @param applicationStartup the application startup.
+	 * @param <T> result type.
+	 * @return the task results.
+	 */
+	static <T> List<T> invokeAll(List<String> names, List<Supplier<T>> tasks, VaultProperties properties,
+			ApplicationStartup applicationStartup) {
+
+		int parallelism = Math.min(properties.getConfig().getParallelism(), tasks.size());
+		List<T> results = new ArrayList<>(tasks.size());
+
+		if (parallelism <= 1) {
+
+			for (Supplier<T> task : tasks) {
+				results.add(task.get());
+			}
+
+			return results;
+		}
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("Spring-Cloud-Vault-Config-");
+		threadFactory.setDaemon(true);
+
+		ExecutorService executor = Executors.newFixedThreadPool(parallelism, threadFactory);
+		VaultStartupSteps.ConcurrentSteps steps = VaultStartupSteps.concurrent(applicationStartup, tasks.size());
+
+		try {
+
+			List<Future<T>> futures = new ArrayList<>(tasks.size());
+
+			for (Supplier<T> task : tasks) {
+				Callable<T> callable = steps.wrap(task)::get;
+				futures.add(executor.submit(callable));
+			}
+
+			await(names, futures, results, properties);
+		}
+		finally {
+			executor.shutdownNow();
+			steps.end();
+		}
+
+		return results;
+	}
+
+	private static <T> void await(List<String> names, List<Future<T>> futures, List<T> results,
+			VaultProperties properties) {
+
+		Duration timeout = properties.getConfig().getTimeout();
+		long deadline = System.nanoTime() + timeout.toNanos();
+
+		for (int i = 0; i < futures.size(); i++) {
+
+			try {
+				results.add(futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+			}
+			catch (ExecutionException e) {
+
+				cancel(futures);
+
+				if (e.getCause() instanceof RuntimeException) {
+					throw (RuntimeException) e.getCause();
+				}
+
+				if (e.getCause() instanceof Error) {
+					throw (Error) e.getCause();
+				}
+
+				throw new IllegalStateException(e.getCause());
+			}
+			catch (TimeoutException e) {
+
+				String message = String.format("Could not read properties from Vault for %s within %s", names.get(i),
+						timeout);
+
+				if (properties.isFailFast()) {
+					cancel(futures);
+					throw new IllegalStateException(message + " and the fail fast property is set, failing.", e);
+				}
+
+				log.warn(message);
+				results.add(null);
+			}
+			catch (InterruptedException e) {
+
+				cancel(futures);
+				Thread.currentThread().interrupt();
+
+				throw new IllegalStateException("Interrupted while reading properties from Vault", e);
+			}
+		}
+	}
+
+	private static void cancel(List<? extends Future<?>> futures) {
+
+		for (Future<?> future : futures) {
+			future.cancel(true);
+		}
+	}
+
+}
@@ -16,10 +16,14 @@
 
 package org.springframework.cloud.vault.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.cloud.bootstrap.config.PropertySourceLocator;
 import org.springframework.core.PriorityOrdered;
 import org.springframework.core.env.CompositePropertySource;
 import org.springframework.core.env.PropertySource;
+import org.springframework.core.metrics.ApplicationStartup;
 import org.springframework.util.Assert;
 
 /**
@@ -36,6 +40,8 @@ class VaultPropertySourceLocator extends VaultPropertySourceLocatorSupport imple
 
 	private final VaultProperties properties;
 
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
 	/**
 	 * Creates a new {@link VaultPropertySourceLocator}.
 	 * @param operations must not be {@literal null}.
@@ -55,6 +61,18 @@ class VaultPropertySourceLocator extends VaultPropertySourceLocatorSupport imple
 		this.properties = properties;
 	}
 
+	/**
+	 * Set the {@link ApplicationStartup} to record concurrent secret retrieval.
+	 * @param applicationStartup the application startup, must not be {@literal null}.
+	 * @since 3.0.1
+	 */
+	void setApplicationStartup(ApplicationStartup applicationStartup) {
+
+		Assert.notNull(applicationStartup, "ApplicationStartup must not be null");
+
+		this.applicationStartup = applicationStartup;
+	}
+
 	@Override
 	public int getOrder() {
 		return this.properties.getConfig().getOrder();
@@ -62,14 +80,51 @@ class VaultPropertySourceLocator extends VaultPropertySourceLocatorSupport imple
 
 	/**
 	 * Initialize nested {@link PropertySource}s inside the
-	 * {@link CompositePropertySource}.
+	 * {@link CompositePropertySource}. Nested property sources are read concurrently if
+	 * {@link VaultProperties.Config#getParallelism()} is greater than {@code 1}. Lazy
+	 * property sources are not initialized.
 	 * @param propertySource the {@link CompositePropertySource} to initialize.
 	 */
 	protected void initialize(CompositePropertySource propertySource) {
 
+		if (this.properties.getConfig().getInitializationMode() == VaultProperties.InitializationMode.LAZY) {
+			return;
+		}
+
+		List<VaultPropertySource> propertySources = new ArrayList<>();
+
 		for (PropertySource<?> source : propertySource.getPropertySources()) {
-			((VaultPropertySource) source).init();
+			propertySources.add((VaultPropertySource) source);
+		}
+
+		VaultPropertySourceInitializer.initialize(propertySources, this.properties, this.applicationStartup);
+	}
+
+	/**
+	 * Create a {@link CompositePropertySource} given a {@link List} of
+	 * {@link PropertySource}s. Creates an {@link IndexedCompositePropertySource} if
+	 * {@link VaultProperties.Config#isIndexed() indexing} is enabled and property sources
+	 * are initialized eagerly.
+	 * @param propertySourceName the property source name.
+	 * @param propertySources the property sources.
+	 * @return the {@link CompositePropertySource} to use.
+	 */
+	@Override
+	protected CompositePropertySource doCreateCompositePropertySource(String propertySourceName,
+			List<PropertySource<?>> propertySources) {
+
+		if (!this.properties.getConfig().isIndexed()
+				|| this.properties.getConfig().getInitializationMode() == VaultProperties.InitializationMode.LAZY) {
+			return super.doCreateCompositePropertySource(propertySourceName, propertySources);
 		}
+
+		CompositePropertySource compositePropertySource = new IndexedCompositePropertySource(propertySourceName);
+
+		for (PropertySource<?> propertySource : propertySources) {
+			compositePropertySource.addPropertySource(propertySource);
+		}
+
+		return compositePropertySource;
 	}
 
 	/**
@@ -79,6 +134,11 @@ class VaultPropertySourceLocator extends VaultPropertySourceLocatorSupport imple
 	 * @return the {@link VaultPropertySource} to use.
 	 */
 	protected PropertySource<?> createVaultPropertySource(SecretBackendMetadata accessor) {
+
+		if (this.properties.getConfig().getInitializationMode() == VaultProperties.InitializationMode.LAZY) {
+			return new LazyVaultPropertySource(this.operations, this.properties.isFailFast(), accessor);
+		}
+
 		return new VaultPropertySource(this.operations, this.properties.isFailFast(), accessor);
 	}
 
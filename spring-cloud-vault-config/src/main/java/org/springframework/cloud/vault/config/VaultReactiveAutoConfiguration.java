@@ -48,7 +48,6 @@ import org.springframework.vault.authentication.ReactiveSessionManager;
 import org.springframework.vault.authentication.SessionManager;
 import org.springframework.vault.authentication.VaultTokenSupplier;
 import org.springframework.vault.client.ReactiveVaultEndpointProvider;
-import org.springframework.vault.client.SimpleVaultEndpointProvider;
 import org.springframework.vault.client.VaultEndpointProvider;
 import org.springframework.vault.client.WebClientBuilder;
 import org.springframework.vault.client.WebClientCustomizer;
@@ -111,8 +110,8 @@ public class VaultReactiveAutoConfiguration implements InitializingBean {
 		this.reactiveEndpointProvider = reactiveEndpointProvider.getIfAvailable();
 
 		if (this.reactiveEndpointProvider == null) {
-			this.endpointProvider = endpointProvider.getIfAvailable(() -> SimpleVaultEndpointProvider
-					.of(new VaultConfiguration(vaultProperties).createVaultEndpoint()));
+			this.endpointProvider = endpointProvider
+					.getIfAvailable(() -> new VaultConfiguration(vaultProperties).createVaultEndpointProvider());
 		}
 		else {
 			this.endpointProvider = null;
@@ -86,6 +86,11 @@ final class VaultReactiveConfiguration {
 		WebClientBuilder builder = WebClientBuilder.builder().httpConnector(connector)
 				.endpointProvider(endpointProvider);
 
+		if (endpointProvider instanceof VaultClusterEndpointProvider) {
+			builder.customizers(VaultClusterEndpointProvider.ReactiveSupport
+					.webClientCustomizer((VaultClusterEndpointProvider) endpointProvider));
+		}
+
 		return applyCustomizer(customizers, builder);
 	}
 
@@ -151,6 +156,12 @@ final class VaultReactiveConfiguration {
 			WebClient webClient = webClientFactory.create();
 			ReactiveLifecycleAwareSessionManager.RefreshTrigger trigger = new ReactiveLifecycleAwareSessionManager.FixedTimeoutRefreshTrigger(
 					lifecycle.getRefreshBeforeExpiry(), lifecycle.getExpiryThreshold());
+			RenewalJitter jitter = RenewalJitter.create(lifecycle);
+
+			if (jitter != null) {
+				trigger = jitter.decorate(trigger);
+			}
+
 			return new ReactiveLifecycleAwareSessionManager(vaultTokenSupplier, taskScheduler.get(), webClient,
 					trigger);
 		}
@@ -0,0 +1,568 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadFactory;
+import org.springframework.util.StringUtils;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.lease.LeaseEndpoints;
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.domain.RequestedSecret.Mode;
+import org.springframework.vault.core.lease.event.AfterSecretLeaseRenewedEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseExpiredEvent;
+import org.springframework.vault.core.lease.event.SecretNotFoundEvent;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+
+/**
+ * {@link SecretLeaseContainer} for Spring Cloud Vault. If configured with a
+ * {@link SecretLeaseStore}, the container stores renewable leases along with their
+ * secrets and reuses a stored lease on startup by renewing it instead of requesting new
+ * credentials. Stored leases are not revoked on shutdown so they can be reused by the
+ * next application start. Leases that cannot be renewed anymore are discarded and
+ * replaced with new credentials.
+ * <p>
+ * Leases are revoked concurrently on {@link #destroy() shutdown}. Revocation can be
+ * bounded by a {@link #setRevocationTimeout(Duration) deadline} and leases that expire
+ * within the {@link #setRevocationThreshold(Duration) revocation threshold} are left to
+ * expire instead of being revoked. Revocation outcomes are reported to
+ * {@link #addRevocationListener(BiConsumer) revocation listeners}.
+ * <p>
+ * If configured with a {@link KeyValueVersionTracker}, rotating secrets stored in a
+ * versioned Key-Value secrets engine are checked for changes through their metadata
+ * before reading the secret. Secrets whose version did not change are not read again and
+ * no rotation event is published for them.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+class VaultSecretLeaseContainer extends SecretLeaseContainer {
+
+	private static final Log logger = LogFactory.getLog(VaultSecretLeaseContainer.class);
+
+	private final VaultOperations operations;
+
+	private LeaseEndpoints leaseEndpoints = LeaseEndpoints.Legacy;
+
+	@Nullable
+	private SecretLeaseStore leaseStore;
+
+	@Nullable
+	private Duration revocationTimeout;
+
+	@Nullable
+	private Duration revocationThreshold;
+
+	private int revocationConcurrency = 4;
+
+	private final List<BiConsumer<RequestedSecret, RevocationOutcome>> revocationListeners =
+			new CopyOnWriteArrayList<>();
+
+	private final Map<RequestedSecret, Long> expiry = new ConcurrentHashMap<>();
+
+	private final List<PendingRevocation> pendingRevocations = new ArrayList<>();
+
+	private final ThreadLocal<PendingRevocation> currentRevocation = new ThreadLocal<>();
+
+	private volatile boolean destroying;
+
+	@Nullable
+	private KeyValueVersionTracker versionTracker;
+
+	private final Map<RequestedSecret, VersionedSecrets> versions = new ConcurrentHashMap<>();
+
+	VaultSecretLeaseContainer(VaultOperations operations, TaskScheduler taskScheduler) {
+
+		super(operations, taskScheduler);
+
+		this.operations = operations;
+
+		addLeaseListener(this::onLeaseEvent);
+		addErrorListener(this::onLeaseError);
+	}
+
+	/**
+	 * Set the {@link SecretLeaseStore} to store and reuse leases.
+	 * @param leaseStore the lease store, can be {@literal null}.
+	 */
+	void setLeaseStore(@Nullable SecretLeaseStore leaseStore) {
+		this.leaseStore = leaseStore;
+	}
+
+	/**
+	 * Set the deadline for revoking leases on shutdown. Revocation is not bounded if
+	 * {@literal null}.
+	 * @param revocationTimeout the revocation deadline, can be {@literal null}.
+	 */
+	void setRevocationTimeout(@Nullable Duration revocationTimeout) {
+		this.revocationTimeout = revocationTimeout;
+	}
+
+	/**
+	 * Set the remaining lease duration below which leases are left to expire instead of
+	 * being revoked on shutdown. All leases are revoked if {@literal null}.
+	 * @param revocationThreshold the revocation threshold, can be {@literal null}.
+	 */
+	void setRevocationThreshold(@Nullable Duration revocationThreshold) {
+		this.revocationThreshold = revocationThreshold;
+	}
+
+	/**
+	 * Set the maximum number of leases to revoke concurrently on shutdown.
+	 * @param revocationConcurrency the revocation concurrency, must be greater zero.
+	 */
+	void setRevocationConcurrency(int revocationConcurrency) {
+
+		Assert.isTrue(revocationConcurrency > 0, "Revocation concurrency must be greater zero");
+
+		this.revocationConcurrency = revocationConcurrency;
+	}
+
+	/**
+	 * Add a listener that is notified about the outcome of lease revocations on
+	 * shutdown.
+	 * @param listener the listener.
+	 */
+	void addRevocationListener(BiConsumer<RequestedSecret, RevocationOutcome> listener) {
+
+		Assert.notNull(listener, "Revocation listener must not be null");
+
+		this.revocationListeners.add(listener);
+	}
+
+	/**
+	 * Set the {@link KeyValueVersionTracker} to skip re-reading rotating secrets whose
+	 * version did not change.
+	 * @param versionTracker the version tracker, can be {@literal null}.
+	 */
+	void setVersionTracker(@Nullable KeyValueVersionTracker versionTracker) {
+		this.versionTracker = versionTracker;
+	}
+
+	@Override
+	public void setLeaseEndpoints(LeaseEndpoints leaseEndpoints) {
+
+		super.setLeaseEndpoints(leaseEndpoints);
+		this.leaseEndpoints = leaseEndpoints;
+	}
+
+	@Override
+	@Nullable
+	protected VaultResponseSupport<Map<String, Object>> doGetSecrets(RequestedSecret requestedSecret) {
+
+		KeyValueVersionTracker versionTracker = this.versionTracker;
+
+		if (versionTracker != null && requestedSecret.getMode() == Mode.ROTATE) {
+			return getVersionedSecrets(requestedSecret, versionTracker);
+		}
+
+		return getSecrets(requestedSecret);
+	}
+
+	@Override
+	protected void onSecretsRotated(RequestedSecret requestedSecret, @Nullable Lease previousLease, Lease lease,
+			Map<String, Object> body) {
+
+		VersionedSecrets versioned = this.versions.get(requestedSecret);
+
+		if (versioned != null && versioned.unchanged && versioned.response.getData() == body) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Secret at %s did not change since version %d", requestedSecret.getPath(),
+						versioned.version));
+			}
+			return;
+		}
+
+		super.onSecretsRotated(requestedSecret, previousLease, lease, body);
+	}
+
+	@Nullable
+	private VaultResponseSupport<Map<String, Object>> getSecrets(RequestedSecret requestedSecret) {
+
+		VaultResponseSupport<Map<String, Object>> reused = reuseStoredLease(requestedSecret);
+
+		return reused != null ? reused : super.doGetSecrets(requestedSecret);
+	}
+
+	@Nullable
+	private VaultResponseSupport<Map<String, Object>> getVersionedSecrets(RequestedSecret requestedSecret,
+			KeyValueVersionTracker versionTracker) {
+
+		Integer version;
+
+		try {
+			version = versionTracker.getCurrentVersion(requestedSecret.getPath());
+		}
+		catch (VaultException e) {
+
+			logger.debug(String.format("Cannot obtain version of %s: %s", requestedSecret.getPath(), e.getMessage()));
+			version = null;
+		}
+
+		VersionedSecrets previous = this.versions.get(requestedSecret);
+
+		if (version != null && previous != null && previous.version == version) {
+
+			// reuse the previous response instance to suppress the rotation event
+			this.versions.put(requestedSecret, new VersionedSecrets(version, previous.response, true));
+			return previous.response;
+		}
+
+		VaultResponseSupport<Map<String, Object>> response = getSecrets(requestedSecret);
+
+		if (version != null && response != null) {
+			this.versions.put(requestedSecret, new VersionedSecrets(version, response, false));
+		}
+		else {
+			this.versions.remove(requestedSecret);
+		}
+
+		return response;
+	}
+
+	@Override
+	protected void doRevokeLease(RequestedSecret requestedSecret, Lease lease) {
+
+		SecretLeaseStore leaseStore = this.leaseStore;
+
+		if (leaseStore != null && leaseStore.contains(requestedSecret.getPath(), lease.getLeaseId())) {
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Retaining stored lease for %s", requestedSecret.getPath()));
+			}
+			return;
+		}
+
+		if (this.destroying) {
+
+			if (isExpiringWithin(requestedSecret, this.revocationThreshold)) {
+
+				if (logger.isDebugEnabled()) {
+					logger.debug(String.format("Leaving lease for %s to expire", requestedSecret.getPath()));
+				}
+
+				notifyRevocation(requestedSecret, RevocationOutcome.SKIPPED);
+				return;
+			}
+
+			this.pendingRevocations.add(new PendingRevocation(requestedSecret, lease));
+			return;
+		}
+
+		super.doRevokeLease(requestedSecret, lease);
+	}
+
+	/**
+	 * Shut down the container and revoke leases concurrently. Revocations that do not
+	 * complete within the {@link #setRevocationTimeout(Duration) revocation deadline} are
+	 * cancelled and their leases are left to expire.
+	 * @throws Exception if the shutdown fails.
+	 */
+	@Override
+	public void destroy() throws Exception {
+
+		this.destroying = true;
+
+		try {
+			super.destroy();
+		}
+		finally {
+			this.destroying = false;
+		}
+
+		List<PendingRevocation> revocations = new ArrayList<>(this.pendingRevocations);
+		this.pendingRevocations.clear();
+
+		if (!revocations.isEmpty()) {
+			revokeLeases(revocations);
+		}
+	}
+
+	private void revokeLeases(List<PendingRevocation> revocations) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("Spring-Cloud-Vault-Revocation-");
+		threadFactory.setDaemon(true);
+
+		ExecutorService executor = Executors
+				.newFixedThreadPool(Math.min(revocations.size(), this.revocationConcurrency), threadFactory);
+
+		try {
+
+			List<Future<?>> futures = new ArrayList<>(revocations.size());
+
+			for (PendingRevocation revocation : revocations) {
+				futures.add(executor.submit(() -> revoke(revocation)));
+			}
+
+			long deadline = this.revocationTimeout != null ? System.nanoTime() + this.revocationTimeout.toNanos() : 0;
+
+			for (int i = 0; i < futures.size(); i++) {
+
+				PendingRevocation revocation = revocations.get(i);
+
+				try {
+
+					if (this.revocationTimeout == null) {
+						futures.get(i).get();
+					}
+					else {
+						futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+					}
+				}
+				catch (TimeoutException e) {
+
+					logger.warn(String.format("Lease revocation for %s did not complete within %s",
+							revocation.requestedSecret.getPath(), this.revocationTimeout));
+					revocation.complete(RevocationOutcome.TIMED_OUT);
+				}
+				catch (ExecutionException e) {
+					revocation.complete(RevocationOutcome.FAILED);
+				}
+				catch (InterruptedException e) {
+
+					Thread.currentThread().interrupt();
+					revocation.complete(RevocationOutcome.TIMED_OUT);
+				}
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private void revoke(PendingRevocation revocation) {
+
+		this.currentRevocation.set(revocation);
+
+		try {
+			super.doRevokeLease(revocation.requestedSecret, revocation.lease);
+		}
+		finally {
+			this.currentRevocation.remove();
+		}
+
+		revocation.complete(revocation.failed ? RevocationOutcome.FAILED : RevocationOutcome.REVOKED);
+	}
+
+	private boolean isExpiringWithin(RequestedSecret requestedSecret, @Nullable Duration threshold) {
+
+		Long expiresAt = this.expiry.get(requestedSecret);
+
+		return threshold != null && expiresAt != null
+				&& expiresAt - System.currentTimeMillis() <= threshold.toMillis();
+	}
+
+	private void notifyRevocation(RequestedSecret requestedSecret, RevocationOutcome outcome) {
+
+		for (BiConsumer<RequestedSecret, RevocationOutcome> listener : this.revocationListeners) {
+			listener.accept(requestedSecret, outcome);
+		}
+	}
+
+	@Nullable
+	private VaultResponseSupport<Map<String, Object>> reuseStoredLease(RequestedSecret requestedSecret) {
+
+		SecretLeaseStore leaseStore = this.leaseStore;
+		SecretLeaseStore.StoredLease stored = leaseStore != null ? leaseStore.get(requestedSecret.getPath()) : null;
+
+		if (stored == null) {
+			return null;
+		}
+
+		if (!stored.isRenewable() || stored.getRemaining().compareTo(getExpiryThreshold()) <= 0) {
+			leaseStore.remove(requestedSecret.getPath());
+			return null;
+		}
+
+		try {
+
+			Lease renewed = this.operations
+					.doWithSession(restOperations -> this.leaseEndpoints.renew(stored.toLease(), restOperations));
+
+			VaultResponse response = new VaultResponse();
+			response.setData(stored.getData());
+			response.setLeaseId(renewed.getLeaseId());
+			response.setLeaseDuration(renewed.getLeaseDuration().getSeconds());
+			response.setRenewable(renewed.isRenewable());
+
+			if (logger.isDebugEnabled()) {
+				logger.debug(String.format("Reusing stored lease for %s", requestedSecret.getPath()));
+			}
+
+			return response;
+		}
+		catch (VaultException e) {
+
+			logger.info(String.format("Cannot reuse stored lease for %s, requesting new secrets: %s",
+					requestedSecret.getPath(), e.getMessage()));
+			leaseStore.remove(requestedSecret.getPath());
+			return null;
+		}
+	}
+
+	private void onLeaseEvent(SecretLeaseEvent leaseEvent) {
+
+		trackExpiry(leaseEvent);
+
+		SecretLeaseStore leaseStore = this.leaseStore;
+
+		if (leaseStore == null) {
+			return;
+		}
+
+		String path = leaseEvent.getSource().getPath();
+		Lease lease = leaseEvent.getLease();
+
+		if (leaseEvent instanceof SecretLeaseCreatedEvent) {
+
+			if (lease != null && lease.isRenewable() && StringUtils.hasText(lease.getLeaseId())) {
+				leaseStore.put(path, lease, ((SecretLeaseCreatedEvent) leaseEvent).getSecrets());
+			}
+			else {
+				leaseStore.remove(path);
+			}
+			return;
+		}
+
+		if (leaseEvent instanceof AfterSecretLeaseRenewedEvent && lease != null) {
+			leaseStore.update(path, lease);
+			return;
+		}
+
+		if (leaseEvent instanceof SecretLeaseExpiredEvent || leaseEvent instanceof SecretNotFoundEvent) {
+			leaseStore.remove(path);
+		}
+	}
+
+	private void trackExpiry(SecretLeaseEvent leaseEvent) {
+
+		Lease lease = leaseEvent.getLease();
+
+		if ((leaseEvent instanceof SecretLeaseCreatedEvent || leaseEvent instanceof AfterSecretLeaseRenewedEvent)
+				&& lease != null && StringUtils.hasText(lease.getLeaseId())) {
+			this.expiry.put(leaseEvent.getSource(),
+					System.currentTimeMillis() + lease.getLeaseDuration().toMillis());
+		}
+		else if (leaseEvent instanceof SecretLeaseExpiredEvent || leaseEvent instanceof SecretNotFoundEvent) {
+			this.expiry.remove(leaseEvent.getSource());
+		}
+	}
+
+	private void onLeaseError(SecretLeaseEvent leaseEvent, Exception exception) {
+
+		PendingRevocation revocation = this.currentRevocation.get();
+
+		if (revocation != null && revocation.requestedSecret == leaseEvent.getSource()) {
+			revocation.failed = true;
+		}
+	}
+
+	/**
+	 * Outcome of a lease revocation on shutdown.
+	 */
+	enum RevocationOutcome {
+
+		/**
+		 * The lease was revoked.
+		 */
+		REVOKED,
+
+		/**
+		 * The lease revocation failed.
+		 */
+		FAILED,
+
+		/**
+		 * The lease revocation did not complete within the revocation deadline.
+		 */
+		TIMED_OUT,
+
+		/**
+		 * The lease expires within the revocation threshold and was left to expire.
+		 */
+		SKIPPED
+
+	}
+
+	private static class VersionedSecrets {
+
+		private final int version;
+
+		private final VaultResponseSupport<Map<String, Object>> response;
+
+		private final boolean unchanged;
+
+		VersionedSecrets(int version, VaultResponseSupport<Map<String, Object>> response, boolean unchanged) {
+			this.version = version;
+			this.response = response;
+			this.unchanged = unchanged;
+		}
+
+	}
+
+	private class PendingRevocation {
+
+		private final RequestedSecret requestedSecret;
+
+		private final Lease lease;
+
+		private final AtomicBoolean completed = new AtomicBoolean();
+
+		private volatile boolean failed;
+
+		PendingRevocation(RequestedSecret requestedSecret, Lease lease) {
+			this.requestedSecret = requestedSecret;
+			this.lease = lease;
+		}
+
+		void complete(RevocationOutcome outcome) {
+
+			if (this.completed.compareAndSet(false, true)) {
+				notifyRevocation(this.requestedSecret, outcome);
+			}
+		}
+
+	}
+
+}
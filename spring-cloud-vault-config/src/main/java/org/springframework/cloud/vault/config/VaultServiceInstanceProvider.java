@@ -16,6 +16,9 @@
 
 package org.springframework.cloud.vault.config;
 
+import java.util.Collections;
+import java.util.List;
+
 import org.springframework.cloud.client.ServiceInstance;
 
 /**
@@ -35,4 +38,16 @@ public interface VaultServiceInstanceProvider {
 	 */
 	ServiceInstance getVaultServerInstance(String serviceId);
 
+	/**
+	 * Lookup all {@link ServiceInstance}s by {@code serviceId}. Defaults to the
+	 * {@link #getVaultServerInstance(String) single instance}.
+	 * @param serviceId the service Id.
+	 * @return {@link ServiceInstance}s for the given {@code serviceId}.
+	 * @throws IllegalStateException if no service with {@code serviceId} was found.
+	 * @since 3.0.1
+	 */
+	default List<ServiceInstance> getVaultServerInstances(String serviceId) {
+		return Collections.singletonList(getVaultServerInstance(serviceId));
+	}
+
 }
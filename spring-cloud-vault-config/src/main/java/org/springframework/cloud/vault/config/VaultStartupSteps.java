@@ -0,0 +1,465 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import reactor.core.publisher.Mono;
+
+import org.springframework.boot.BootstrapContext;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.VaultTokenSupplier;
+import org.springframework.vault.client.RestTemplateCustomizer;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Utility to record Vault bootstrap phases as {@link StartupStep}s. Steps are recorded
+ * using the {@link ApplicationStartup} registered in the {@link BootstrapContext} and
+ * {@link ApplicationStartup#DEFAULT no-op} otherwise.
+ * <p>
+ * Recorded steps:
+ * <ul>
+ * <li>{@value #RESOLVE}: resolution of {@code vault://} locations.</li>
+ * <li>{@value #LOGIN}: login using {@link ClientAuthentication}.</li>
+ * <li>{@value #MOUNTS}: mount table retrieval for Key-Value version detection.</li>
+ * <li>{@value #READ}: secret retrieval through {@link VaultConfigTemplate}.</li>
+ * <li>{@value #LEASE_REGISTRATION}: secret registration with the lease container.</li>
+ * <li>{@value #HTTP_REQUEST}: HTTP requests to Vault using the imperative client during
+ * bootstrap.</li>
+ * <li>{@value #CONCURRENT_READ}: concurrent secret retrieval. Steps that are opened
+ * concurrently are not recorded as individual steps as they would break the parent/child
+ * hierarchy of {@link StartupStep}s. Instead, each concurrent step is recorded as tag of
+ * the enclosing {@value #CONCURRENT_READ} step.</li>
+ * </ul>
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+final class VaultStartupSteps {
+
+	static final String RESOLVE = "spring.cloud.vault.config.resolve";
+
+	static final String LOGIN = "spring.cloud.vault.login";
+
+	static final String MOUNTS = "spring.cloud.vault.mounts";
+
+	static final String READ = "spring.cloud.vault.config.read";
+
+	static final String LEASE_REGISTRATION = "spring.cloud.vault.lease.register";
+
+	static final String HTTP_REQUEST = "spring.cloud.vault.http.request";
+
+	static final String CONCURRENT_READ = "spring.cloud.vault.config.read.concurrent";
+
+	private static final ThreadLocal<ConcurrentSteps> CONCURRENT = new ThreadLocal<>();
+
+	private VaultStartupSteps() {
+	}
+
+	/**
+	 * Obtain the {@link ApplicationStartup} from the {@link BootstrapContext}.
+	 * @param bootstrap the bootstrap context.
+	 * @return the registered {@link ApplicationStartup} or
+	 * {@link ApplicationStartup#DEFAULT}.
+	 */
+	static ApplicationStartup getApplicationStartup(BootstrapContext bootstrap) {
+		return bootstrap.getOrElse(ApplicationStartup.class, ApplicationStartup.DEFAULT);
+	}
+
+	/**
+	 * Obtain the {@link ApplicationStartup} to use on the current thread. Returns the
+	 * {@link ConcurrentSteps} if the current thread runs a task of
+	 * {@link ConcurrentSteps#wrap(Supplier)}.
+	 * @param applicationStartup the application startup.
+	 * @return the {@link ApplicationStartup} to use.
+	 */
+	static ApplicationStartup current(ApplicationStartup applicationStartup) {
+
+		ConcurrentSteps concurrentSteps = CONCURRENT.get();
+
+		return applicationStartup != ApplicationStartup.DEFAULT && concurrentSteps != null ? concurrentSteps
+				: applicationStartup;
+	}
+
+	/**
+	 * Start a {@link #CONCURRENT_READ} step that records steps of concurrently running
+	 * tasks as tags.
+	 * @param applicationStartup the application startup.
+	 * @param tasks number of tasks.
+	 * @return the {@link ConcurrentSteps}. Must be {@link ConcurrentSteps#end() ended}
+	 * after awaiting the tasks.
+	 */
+	static ConcurrentSteps concurrent(ApplicationStartup applicationStartup, int tasks) {
+		return new ConcurrentSteps(applicationStartup, tasks);
+	}
+
+	/**
+	 * Tag a {@link StartupStep} with the time elapsed since {@code startNanos} in
+	 * milliseconds and end it.
+	 * @param step the step to end.
+	 * @param startNanos start time obtained from {@link System#nanoTime()}.
+	 */
+	static void end(StartupStep step, long startNanos) {
+
+		long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+		step.tag("latency", Long.toString(latency)).end();
+	}
+
+	/**
+	 * Decorate {@link ClientAuthentication} to record {@link #LOGIN} steps.
+	 * @param clientAuthentication the client authentication to decorate.
+	 * @param applicationStartup the application startup.
+	 * @return the decorated {@link ClientAuthentication} or {@code clientAuthentication}
+	 * if steps are not recorded.
+	 */
+	static ClientAuthentication login(ClientAuthentication clientAuthentication,
+			ApplicationStartup applicationStartup) {
+
+		if (applicationStartup == ApplicationStartup.DEFAULT) {
+			return clientAuthentication;
+		}
+
+		return () -> {
+
+			StartupStep step = current(applicationStartup).start(LOGIN).tag("method",
+					clientAuthentication.getClass().getSimpleName());
+			long start = System.nanoTime();
+
+			try {
+				VaultToken token = clientAuthentication.login();
+				step.tag("status", "success");
+				return token;
+			}
+			catch (VaultException e) {
+				step.tag("status", "error");
+				throw e;
+			}
+			finally {
+				end(step, start);
+			}
+		};
+	}
+
+	/**
+	 * Create a {@link RestTemplateCustomizer} that records {@link #HTTP_REQUEST} steps
+	 * tagged with HTTP method, path, status and response size until
+	 * {@link HttpRequestSteps#stop() stopped}.
+	 * @param applicationStartup the application startup.
+	 * @return the {@link HttpRequestSteps}.
+	 */
+	static HttpRequestSteps httpRequests(ApplicationStartup applicationStartup) {
+		return new HttpRequestSteps(applicationStartup);
+	}
+
+	/**
+	 * {@link RestTemplateCustomizer} registering an interceptor that records
+	 * {@link #HTTP_REQUEST} steps. Requests are no longer recorded once
+	 * {@link #stop() stopped} so that requests after startup do not create steps.
+	 */
+	static class HttpRequestSteps implements RestTemplateCustomizer, ClientHttpRequestInterceptor {
+
+		private final ApplicationStartup applicationStartup;
+
+		private volatile boolean recording = true;
+
+		HttpRequestSteps(ApplicationStartup applicationStartup) {
+			this.applicationStartup = applicationStartup;
+		}
+
+		@Override
+		public void customize(RestTemplate restTemplate) {
+			restTemplate.getInterceptors().add(this);
+		}
+
+		@Override
+		public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+				throws IOException {
+
+			if (!this.recording) {
+				return execution.execute(request, body);
+			}
+
+			StartupStep step = current(this.applicationStartup).start(HTTP_REQUEST)
+					.tag("method", String.valueOf(request.getMethod())).tag("path", request.getURI().getPath());
+			long start = System.nanoTime();
+
+			try {
+
+				ClientHttpResponse response = execution.execute(request, body);
+				long contentLength = response.getHeaders().getContentLength();
+
+				step.tag("status", Integer.toString(response.getRawStatusCode()));
+
+				if (contentLength >= 0) {
+					step.tag("bytes", Long.toString(contentLength));
+				}
+
+				return response;
+			}
+			catch (IOException e) {
+				step.tag("status", "io-error");
+				throw e;
+			}
+			finally {
+				end(step, start);
+			}
+		}
+
+		/**
+		 * Stop recording {@link #HTTP_REQUEST} steps.
+		 */
+		void stop() {
+			this.recording = false;
+		}
+
+	}
+
+	/**
+	 * {@link ApplicationStartup} for concurrently running tasks. Steps started through
+	 * this {@link ApplicationStartup} are recorded as single tag of the
+	 * {@link #CONCURRENT_READ} step once they end. Steps that end after the
+	 * {@link #CONCURRENT_READ} step has ended are discarded.
+	 */
+	static class ConcurrentSteps implements ApplicationStartup {
+
+		private final StartupStep step;
+
+		private final long startNanos = System.nanoTime();
+
+		private final boolean recording;
+
+		private final AtomicLong ids = new AtomicLong();
+
+		private boolean ended;
+
+		ConcurrentSteps(ApplicationStartup applicationStartup, int tasks) {
+			this.step = applicationStartup.start(CONCURRENT_READ).tag("tasks", Integer.toString(tasks));
+			this.recording = applicationStartup != ApplicationStartup.DEFAULT;
+		}
+
+		@Override
+		public StartupStep start(String name) {
+			return new TaggingStep(this, name, this.ids.incrementAndGet());
+		}
+
+		/**
+		 * Decorate a task to record its steps through this {@link ConcurrentSteps}.
+		 * @param task the task to decorate.
+		 * @param <T> result type.
+		 * @return the decorated task.
+		 */
+		<T> Supplier<T> wrap(Supplier<T> task) {
+
+			if (!this.recording) {
+				return task;
+			}
+
+			return () -> {
+
+				CONCURRENT.set(this);
+
+				try {
+					return task.get();
+				}
+				finally {
+					CONCURRENT.remove();
+				}
+			};
+		}
+
+		synchronized void record(String key, String value) {
+
+			if (!this.ended) {
+				this.step.tag(key, value);
+			}
+		}
+
+		/**
+		 * End the {@link #CONCURRENT_READ} step.
+		 */
+		synchronized void end() {
+
+			if (!this.ended) {
+				this.ended = true;
+				VaultStartupSteps.end(this.step, this.startNanos);
+			}
+		}
+
+	}
+
+	/**
+	 * {@link StartupStep} that records its tags as single tag of {@link ConcurrentSteps}
+	 * when ended.
+	 */
+	private static class TaggingStep implements StartupStep {
+
+		private final ConcurrentSteps parent;
+
+		private final String name;
+
+		private final long id;
+
+		private final List<Tag> tags = new ArrayList<>();
+
+		TaggingStep(ConcurrentSteps parent, String name, long id) {
+			this.parent = parent;
+			this.name = name;
+			this.id = id;
+		}
+
+		@Override
+		public String getName() {
+			return this.name;
+		}
+
+		@Override
+		public long getId() {
+			return this.id;
+		}
+
+		@Override
+		public Long getParentId() {
+			return this.parent.step.getId();
+		}
+
+		@Override
+		public StartupStep tag(String key, String value) {
+			this.tags.add(new SimpleTag(key, value));
+			return this;
+		}
+
+		@Override
+		public StartupStep tag(String key, Supplier<String> value) {
+			return tag(key, value.get());
+		}
+
+		@Override
+		public Tags getTags() {
+			return () -> new ArrayList<>(this.tags).iterator();
+		}
+
+		@Override
+		public void end() {
+
+			StringBuilder value = new StringBuilder();
+
+			for (Iterator<Tag> iterator = this.tags.iterator(); iterator.hasNext();) {
+
+				Tag tag = iterator.next();
+				value.append(tag.getKey()).append('=').append(tag.getValue());
+
+				if (iterator.hasNext()) {
+					value.append(", ");
+				}
+			}
+
+			this.parent.record(this.name + "#" + this.id, value.toString());
+		}
+
+	}
+
+	private static class SimpleTag implements StartupStep.Tag {
+
+		private final String key;
+
+		private final String value;
+
+		SimpleTag(String key, String value) {
+			this.key = key;
+			this.value = value;
+		}
+
+		@Override
+		public String getKey() {
+			return this.key;
+		}
+
+		@Override
+		public String getValue() {
+			return this.value;
+		}
+
+	}
+
+	/**
+	 * Support for reactive Vault clients. Isolated to not require Project Reactor on the
+	 * class path.
+	 */
+	static class ReactiveSupport {
+
+		/**
+		 * Decorate {@link VaultTokenSupplier} to record {@link #LOGIN} steps.
+		 * @param tokenSupplier the token supplier to decorate.
+		 * @param applicationStartup the application startup.
+		 * @return the decorated {@link VaultTokenSupplier} or {@code tokenSupplier} if
+		 * steps are not recorded.
+		 */
+		static VaultTokenSupplier login(VaultTokenSupplier tokenSupplier, ApplicationStartup applicationStartup) {
+
+			if (applicationStartup == ApplicationStartup.DEFAULT) {
+				return tokenSupplier;
+			}
+
+			return () -> Mono.defer(() -> {
+
+				StartupStep step = current(applicationStartup).start(LOGIN).tag("method",
+						tokenSupplier.getClass().getSimpleName());
+				long start = System.nanoTime();
+
+				return tokenSupplier.getVaultToken().doOnSuccess(token -> step.tag("status", "success"))
+						.doOnError(e -> step.tag("status", "error")).doFinally(signal -> end(step, start));
+			});
+		}
+
+		/**
+		 * Decorate a secret retrieval to record a {@link #READ} step.
+		 * @param read the secret retrieval.
+		 * @param path the secret path.
+		 * @param applicationStartup the application startup.
+		 * @param <T> result type.
+		 * @return the decorated secret retrieval.
+		 */
+		static <T> Mono<T> read(Mono<T> read, String path, ApplicationStartup applicationStartup) {
+
+			return Mono.defer(() -> {
+
+				StartupStep step = current(applicationStartup).start(READ).tag("path", path);
+				long start = System.nanoTime();
+
+				return read.doOnSuccess(it -> step.tag("status", it != null ? "found" : "not-found"))
+						.doOnError(e -> step.tag("status", "error")).doFinally(signal -> end(step, start));
+			});
+		}
+
+	}
+
+}
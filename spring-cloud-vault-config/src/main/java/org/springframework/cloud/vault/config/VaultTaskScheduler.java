@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.Consumer;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * {@link ThreadPoolTaskScheduler} for session and secret lease renewal that is
+ * configured from {@link VaultProperties.Scheduler} and that reports the lag between the
+ * scheduled and the actual execution time of scheduled tasks to a
+ * {@link #setLagRecorder(Consumer) lag recorder}.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+class VaultTaskScheduler extends ThreadPoolTaskScheduler {
+
+	private static final Log logger = LogFactory.getLog(VaultTaskScheduler.class);
+
+	@Nullable
+	private volatile Consumer<Duration> lagRecorder;
+
+	/**
+	 * Create a new {@link VaultTaskScheduler} configured from {@link VaultProperties}.
+	 * @param vaultProperties the Vault properties, must not be {@literal null}.
+	 * @return the {@link VaultTaskScheduler}.
+	 */
+	static VaultTaskScheduler create(VaultProperties vaultProperties) {
+
+		Assert.notNull(vaultProperties, "VaultProperties must not be null");
+
+		VaultProperties.Scheduler properties = vaultProperties.getScheduler();
+
+		Assert.isTrue(properties.getPoolSize() > 0, "Scheduler pool size must be greater than zero");
+
+		VaultTaskScheduler scheduler = new VaultTaskScheduler();
+		scheduler.setPoolSize(properties.getPoolSize());
+		scheduler.setDaemon(properties.isDaemon());
+		scheduler.setThreadNamePrefix(properties.getThreadNamePrefix());
+		scheduler.setRemoveOnCancelPolicy(properties.isRemoveOnCancel());
+
+		if (properties.isVirtualThreads()) {
+
+			ThreadFactory threadFactory = createVirtualThreadFactory(properties.getThreadNamePrefix());
+
+			if (threadFactory != null) {
+				scheduler.setThreadFactory(threadFactory);
+			}
+			else {
+				logger.warn("Virtual threads are not supported by this Java runtime. Using platform threads instead.");
+			}
+		}
+
+		return scheduler;
+	}
+
+	/**
+	 * Create a {@link ThreadFactory} for virtual threads using
+	 * {@code Thread.ofVirtual().name(prefix, 0).factory()}.
+	 * @param threadNamePrefix the thread name prefix.
+	 * @return the {@link ThreadFactory} or {@literal null} if virtual threads are not
+	 * supported.
+	 */
+	@Nullable
+	static ThreadFactory createVirtualThreadFactory(String threadNamePrefix) {
+
+		Method ofVirtual = ReflectionUtils.findMethod(Thread.class, "ofVirtual");
+
+		if (ofVirtual == null) {
+			return null;
+		}
+
+		try {
+
+			Class<?> builderType = ClassUtils.forName("java.lang.Thread$Builder", Thread.class.getClassLoader());
+			Method name = builderType.getMethod("name", String.class, long.class);
+			Method factory = builderType.getMethod("factory");
+
+			Object builder = name.invoke(ofVirtual.invoke(null), threadNamePrefix, 0L);
+
+			return (ThreadFactory) factory.invoke(builder);
+		}
+		catch (ReflectiveOperationException | LinkageError e) {
+
+			logger.debug("Cannot create virtual thread factory", e);
+			return null;
+		}
+	}
+
+	/**
+	 * Set the recorder that is notified with the lag of each scheduled task, measured as
+	 * the difference between the scheduled execution time and the time the task
+	 * started.
+	 * @param lagRecorder the lag recorder, can be {@literal null} to disable
+	 * recording.
+	 */
+	void setLagRecorder(@Nullable Consumer<Duration> lagRecorder) {
+		this.lagRecorder = lagRecorder;
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+
+		LagRecordingRunnable runnable = new LagRecordingRunnable(task);
+
+		return super.schedule(runnable, triggerContext -> {
+
+			Date next = trigger.nextExecutionTime(triggerContext);
+			runnable.scheduledAt(next);
+			return next;
+		});
+	}
+
+	@Override
+	public ScheduledFuture<?> schedule(Runnable task, Date startTime) {
+
+		LagRecordingRunnable runnable = new LagRecordingRunnable(task);
+		runnable.scheduledAt(startTime);
+
+		return super.schedule(runnable, startTime);
+	}
+
+	/**
+	 * {@link Runnable} that records the lag between its scheduled and its actual start
+	 * time.
+	 */
+	private class LagRecordingRunnable implements Runnable {
+
+		private final Runnable delegate;
+
+		private volatile long scheduledAt;
+
+		LagRecordingRunnable(Runnable delegate) {
+			this.delegate = delegate;
+		}
+
+		void scheduledAt(@Nullable Date date) {
+			this.scheduledAt = date != null ? date.getTime() : 0;
+		}
+
+		@Override
+		public void run() {
+
+			Consumer<Duration> recorder = VaultTaskScheduler.this.lagRecorder;
+			long scheduledAt = this.scheduledAt;
+
+			if (recorder != null && scheduledAt != 0) {
+				recorder.accept(Duration.ofMillis(Math.max(0, System.currentTimeMillis() - scheduledAt)));
+			}
+
+			this.delegate.run();
+		}
+
+		@Override
+		public String toString() {
+			return this.delegate.toString();
+		}
+
+	}
+
+}
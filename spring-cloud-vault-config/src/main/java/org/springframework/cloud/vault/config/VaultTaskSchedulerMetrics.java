@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.function.ToDoubleFunction;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MeterBinder} publishing queue depth, thread and task lag metrics of the
+ * {@link ThreadPoolTaskScheduler} used for session and secret lease renewal. Task lag is
+ * recorded only for schedulers created from {@link VaultProperties.Scheduler}.
+ *
+ * @author agent
+ * @since 3.0.1
+ */
+class VaultTaskSchedulerMetrics implements MeterBinder {
+
+	private final ThreadPoolTaskScheduler taskScheduler;
+
+	VaultTaskSchedulerMetrics(ThreadPoolTaskScheduler taskScheduler) {
+
+		Assert.notNull(taskScheduler, "ThreadPoolTaskScheduler must not be null");
+
+		this.taskScheduler = taskScheduler;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		gauge(registry, "spring.cloud.vault.scheduler.queued", "Number of tasks waiting for their scheduled time",
+				executor -> executor.getQueue().size());
+		gauge(registry, "spring.cloud.vault.scheduler.active", "Number of threads actively executing tasks",
+				ScheduledThreadPoolExecutor::getActiveCount);
+		gauge(registry, "spring.cloud.vault.scheduler.pool.size", "Current number of threads in the pool",
+				ScheduledThreadPoolExecutor::getPoolSize);
+
+		if (this.taskScheduler instanceof VaultTaskScheduler) {
+
+			Timer lag = Timer.builder("spring.cloud.vault.scheduler.lag")
+					.description("Delay between the scheduled and the actual start of a task").register(registry);
+
+			((VaultTaskScheduler) this.taskScheduler).setLagRecorder(lag::record);
+		}
+	}
+
+	private void gauge(MeterRegistry registry, String name, String description,
+			ToDoubleFunction<ScheduledThreadPoolExecutor> function) {
+
+		Gauge.builder(name, this.taskScheduler, scheduler -> {
+
+			try {
+				return function.applyAsDouble(scheduler.getScheduledThreadPoolExecutor());
+			}
+			catch (IllegalStateException e) {
+				// not initialized yet
+				return 0;
+			}
+		}).description(description).register(registry);
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link AsyncVaultPropertySource}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class AsyncVaultPropertySourceUnitTests {
+
+	@Mock
+	VaultConfigOperations operations;
+
+	AsyncVaultPropertySource.BackgroundExecutor executor = new AsyncVaultPropertySource.BackgroundExecutor(2);
+
+	@Test
+	public void shouldReadInBackgroundAndAwaitOnFirstAccess() throws Exception {
+
+		CountDownLatch release = new CountDownLatch(1);
+
+		when(this.operations.read(any())).then(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return createSecrets();
+		});
+
+		AsyncVaultPropertySource propertySource = createPropertySource(false, Duration.ofSeconds(5));
+		propertySource.init();
+
+		verify(this.operations, timeout(5000)).read(any());
+		assertThat(propertySource.isDone()).isFalse();
+
+		release.countDown();
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("value");
+		assertThat(propertySource.getPropertyNames()).containsOnly("key");
+		assertThat(propertySource.isDone()).isTrue();
+	}
+
+	@Test
+	public void shouldReportAbsentPropertiesAfterTimeout() {
+
+		CountDownLatch release = new CountDownLatch(1);
+
+		when(this.operations.read(any())).then(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return createSecrets();
+		});
+
+		AsyncVaultPropertySource propertySource = createPropertySource(false, Duration.ofMillis(50));
+		propertySource.init();
+
+		try {
+			assertThat(propertySource.getProperty("key")).isNull();
+		}
+		finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void shouldFailAfterTimeoutWithFailFast() {
+
+		CountDownLatch release = new CountDownLatch(1);
+
+		when(this.operations.read(any())).then(invocation -> {
+			release.await(5, TimeUnit.SECONDS);
+			return createSecrets();
+		});
+
+		AsyncVaultPropertySource propertySource = createPropertySource(true, Duration.ofMillis(50));
+		propertySource.init();
+
+		try {
+			assertThatIllegalStateException().isThrownBy(() -> propertySource.getProperty("key"))
+					.withMessageContaining("fail fast");
+		}
+		finally {
+			release.countDown();
+		}
+	}
+
+	@Test
+	public void shouldPropagateReadFailureWithFailFast() {
+
+		when(this.operations.read(any())).thenThrow(new IllegalStateException("Vault sealed"));
+
+		AsyncVaultPropertySource propertySource = createPropertySource(true, Duration.ofSeconds(5));
+		propertySource.init();
+
+		assertThatIllegalStateException().isThrownBy(() -> propertySource.getPropertyNames())
+				.withMessage("Vault sealed");
+	}
+
+	@Test
+	public void shouldNotPropagateReadFailureWithoutFailFast() {
+
+		when(this.operations.read(any())).thenThrow(new IllegalStateException("Vault sealed"));
+
+		AsyncVaultPropertySource propertySource = createPropertySource(false, Duration.ofSeconds(5));
+		propertySource.init();
+
+		assertThat(propertySource.getPropertyNames()).isEmpty();
+	}
+
+	private AsyncVaultPropertySource createPropertySource(boolean failFast, Duration timeout) {
+		return new AsyncVaultPropertySource(this.operations, failFast,
+				KeyValueSecretBackendMetadata.create("secret/my-app"), this.executor, timeout);
+	}
+
+	private static Secrets createSecrets() {
+
+		Secrets secrets = new Secrets();
+		secrets.setData(Collections.singletonMap("key", "value"));
+		return secrets;
+	}
+
+}
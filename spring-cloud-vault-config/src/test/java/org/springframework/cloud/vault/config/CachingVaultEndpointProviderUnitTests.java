@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.vault.config;
+
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.client.ServiceInstance;
+import org.springframework.cloud.vault.config.DiscoveryClientVaultBootstrapConfigurationTests.SimpleServiceInstance;
+import org.springframework.cloud.vault.config.VaultProperties.Discovery.LoadBalancing;
+import org.springframework.vault.client.VaultEndpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link CachingVaultEndpointProvider} and
+ * {@link CachingReactiveVaultEndpointProvider}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CachingVaultEndpointProviderUnitTests {
+
+	@Mock
+	Supplier<List<ServiceInstance>> instanceSupplier;
+
+	@Mock
+	Supplier<Mono<List<ServiceInstance>>> reactiveInstanceSupplier;
+
+	VaultConfiguration configuration = new VaultConfiguration(new VaultProperties());
+
+	List<ServiceInstance> instances = Arrays.asList(new SimpleServiceInstance(URI.create("https://vault-1:8200")),
+			new SimpleServiceInstance(URI.create("https://vault-2:8200")));
+
+	CachingVaultEndpointProvider provider;
+
+	@After
+	public void after() {
+
+		if (this.provider != null) {
+			this.provider.destroy();
+		}
+	}
+
+	@Test
+	public void shouldCacheInstances() {
+
+		when(this.instanceSupplier.get()).thenReturn(this.instances);
+
+		this.provider = createProvider(Duration.ofMinutes(1), LoadBalancing.ROUND_ROBIN);
+
+		assertThat(this.provider.getVaultEndpoint().getHost()).isEqualTo("vault-1");
+		assertThat(this.provider.getVaultEndpoint().getHost()).isEqualTo("vault-2");
+		assertThat(this.provider.getVaultEndpoint().getHost()).isEqualTo("vault-1");
+
+		verify(this.instanceSupplier, times(1)).get();
+	}
+
+	@Test
+	public void shouldLookupInstancesOnEachCallWithoutTtl() {
+
+		when(this.instanceSupplier.get()).thenReturn(this.instances);
+
+		this.provider = createProvider(Duration.ZERO, LoadBalancing.FIRST);
+
+		this.provider.getVaultEndpoint();
+		this.provider.getVaultEndpoint();
+
+		verify(this.instanceSupplier, times(2)).get();
+	}
+
+	@Test
+	public void shouldRefreshExpiredInstancesInBackground() {
+
+		when(this.instanceSupplier.get()).thenReturn(this.instances.subList(0, 1), this.instances.subList(1, 2));
+
+		this.provider = createProvider(Duration.ofNanos(1), LoadBalancing.FIRST);
+
+		assertThat(this.provider.getVaultEndpoint().getHost()).isEqualTo("vault-1");
+		assertThat(this.provider.getVaultEndpoint().getHost()).isEqualTo("vault-1");
+
+		verify(this.instanceSupplier, timeout(1000).times(2)).get();
+	}
+
+	@Test
+	public void shouldRetainInstancesIfRefreshFails() {
+
+		when(this.instanceSupplier.get()).thenReturn(this.instances).thenReturn(Collections.emptyList());
+
+		this.provider = createProvider(Duration.ofNanos(1), LoadBalancing.FIRST);
+
+		this.provider.getVaultEndpoint();
+		this.provider.getVaultEndpoint();
+
+		verify(this.instanceSupplier, timeout(1000).times(2)).get();
+
+		assertThat(this.provider.getVaultEndpoint().getHost()).isEqualTo("vault-1");
+	}
+
+	@Test
+	public void shouldFailWithoutInstances() {
+
+		when(this.instanceSupplier.get()).thenReturn(Collections.emptyList());
+
+		this.provider = createProvider(Duration.ofMinutes(1), LoadBalancing.FIRST);
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.provider.getVaultEndpoint()).withMessageContaining("No instances found");
+	}
+
+	@Test
+	public void shouldDiscoverInstancesOnceForConcurrentFirstUse() throws Exception {
+
+		CountDownLatch discovering = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		when(this.instanceSupplier.get()).thenAnswer(invocation -> {
+			discovering.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return this.instances;
+		});
+
+		this.provider = createProvider(Duration.ofMinutes(1), LoadBalancing.ROUND_ROBIN);
+
+		Thread first = new Thread(this.provider::getVaultEndpoint);
+		Thread second = new Thread(this.provider::getVaultEndpoint);
+
+		first.start();
+		discovering.await(5, TimeUnit.SECONDS);
+		second.start();
+		release.countDown();
+
+		first.join(5000);
+		second.join(5000);
+
+		verify(this.instanceSupplier, times(1)).get();
+	}
+
+	@Test
+	public void shouldDiscoverInstancesOnceForConcurrentSubscribers() {
+
+		when(this.reactiveInstanceSupplier.get())
+				.thenReturn(Mono.just(this.instances).delayElement(Duration.ofMillis(50)));
+
+		CachingReactiveVaultEndpointProvider provider = new CachingReactiveVaultEndpointProvider("vault",
+				this.reactiveInstanceSupplier, this.configuration::createVaultEndpoint, Duration.ofMinutes(1),
+				new VaultEndpointSelector(LoadBalancing.ROUND_ROBIN));
+
+		Flux.merge(provider.getVaultEndpoint(), provider.getVaultEndpoint(), provider.getVaultEndpoint())
+				.as(StepVerifier::create).expectNextCount(3).verifyComplete();
+
+		verify(this.reactiveInstanceSupplier, times(1)).get();
+	}
+
+	@Test
+	public void shouldCacheInstancesReactive() {
+
+		when(this.reactiveInstanceSupplier.get()).thenReturn(Mono.just(this.instances));
+
+		CachingReactiveVaultEndpointProvider provider = new CachingReactiveVaultEndpointProvider("vault",
+				this.reactiveInstanceSupplier, this.configuration::createVaultEndpoint, Duration.ofMinutes(1),
+				new VaultEndpointSelector(LoadBalancing.ROUND_ROBIN));
+
+		provider.getVaultEndpoint().map(VaultEndpoint::getHost).as(StepVerifier::create).expectNext("vault-1")
+				.verifyComplete();
+		provider.getVaultEndpoint().map(VaultEndpoint::getHost).as(StepVerifier::create).expectNext("vault-2")
+				.verifyComplete();
+
+		verify(this.reactiveInstanceSupplier, times(1)).get();
+	}
+
+	private CachingVaultEndpointProvider createProvider(Duration ttl, LoadBalancing loadBalancing) {
+		return new CachingVaultEndpointProvider("vault", this.instanceSupplier, this.configuration::createVaultEndpoint,
+				ttl, new VaultEndpointSelector(loadBalancing));
+	}
+
+}
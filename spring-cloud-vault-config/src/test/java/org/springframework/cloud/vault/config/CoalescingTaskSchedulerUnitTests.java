@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.scheduling.TaskScheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link CoalescingTaskScheduler}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class CoalescingTaskSchedulerUnitTests {
+
+	@Mock
+	TaskScheduler delegate;
+
+	@Mock
+	ScheduledFuture<Object> future;
+
+	CoalescingTaskScheduler scheduler;
+
+	@Before
+	public void before() {
+
+		doReturn(this.future).when(this.delegate).schedule(any(Runnable.class), any(Date.class));
+		this.scheduler = new CoalescingTaskScheduler(this.delegate, Duration.ofSeconds(10));
+	}
+
+	@Test
+	public void shouldCoalesceTasksDueWithinWindow() {
+
+		AtomicInteger counter = new AtomicInteger();
+		long now = System.currentTimeMillis();
+
+		this.scheduler.schedule(counter::incrementAndGet, new Date(now + 1000));
+		this.scheduler.schedule(counter::incrementAndGet, new Date(now + 5000));
+		this.scheduler.schedule(counter::incrementAndGet, new Date(now + 11000));
+
+		ArgumentCaptor<Runnable> wakeUp = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.delegate).schedule(wakeUp.capture(), any(Date.class));
+		assertThat(this.scheduler.getPendingBatches()).isEqualTo(1);
+
+		wakeUp.getValue().run();
+
+		assertThat(counter).hasValue(3);
+		assertThat(this.scheduler.getPendingBatches()).isZero();
+	}
+
+	@Test
+	public void shouldScheduleSeparateBatchOutsideWindow() {
+
+		long now = System.currentTimeMillis();
+
+		this.scheduler.schedule(() -> {
+		}, new Date(now + 1000));
+		this.scheduler.schedule(() -> {
+		}, new Date(now + 20000));
+
+		verify(this.delegate, times(2)).schedule(any(Runnable.class), any(Date.class));
+		assertThat(this.scheduler.getPendingBatches()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldCancelEmptyBatch() {
+
+		AtomicInteger counter = new AtomicInteger();
+		long now = System.currentTimeMillis();
+
+		ScheduledFuture<?> first = this.scheduler.schedule(counter::incrementAndGet, new Date(now + 1000));
+		ScheduledFuture<?> second = this.scheduler.schedule(counter::incrementAndGet, new Date(now + 2000));
+
+		first.cancel(false);
+
+		assertThat(first.isCancelled()).isTrue();
+		assertThat(this.scheduler.getPendingBatches()).isEqualTo(1);
+
+		second.cancel(false);
+
+		verify(this.future).cancel(false);
+		assertThat(this.scheduler.getPendingBatches()).isZero();
+		assertThat(counter).hasValue(0);
+	}
+
+	@Test
+	public void shouldRescheduleAccordingToTrigger() {
+
+		AtomicInteger counter = new AtomicInteger();
+		long now = System.currentTimeMillis();
+
+		ScheduledFuture<?> scheduled = this.scheduler.schedule(counter::incrementAndGet,
+				triggerContext -> counter.get() < 2 ? new Date(now + 1000 + counter.get() * 60_000L) : null);
+
+		ArgumentCaptor<Runnable> wakeUp = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.delegate).schedule(wakeUp.capture(), any(Date.class));
+		wakeUp.getValue().run();
+
+		verify(this.delegate, times(2)).schedule(wakeUp.capture(), any(Date.class));
+		wakeUp.getValue().run();
+
+		assertThat(counter).hasValue(2);
+		assertThat(scheduled.isDone()).isTrue();
+		assertThat(this.scheduler.getPendingBatches()).isZero();
+	}
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link CompactPropertyMap}.
+ *
+ * @author agent
+ */
+public class CompactPropertyMapUnitTests {
+
+	@Test
+	public void shouldRetainPropertiesAndOrder() {
+
+		Map<String, Object> properties = new LinkedHashMap<>();
+
+		for (int i = 0; i < 1000; i++) {
+			properties.put("key." + i, i);
+		}
+		properties.put("nullable", null);
+
+		CompactPropertyMap map = CompactPropertyMap.from(properties);
+
+		assertThat(map).isEqualTo(properties).hasSize(1001);
+		assertThat(map.getNames()).containsExactly(properties.keySet().toArray(new String[0]));
+		assertThat(map.get("key.42")).isEqualTo(42);
+		assertThat(map.containsKey("nullable")).isTrue();
+		assertThat(map.get("nullable")).isNull();
+		assertThat(map.containsKey("key.1000")).isFalse();
+		assertThat(map.get(42)).isNull();
+	}
+
+	@Test
+	public void shouldResolveCollidingHashes() {
+
+		// "Aa" and "BB" share the same hash code
+		Map<String, Object> properties = new LinkedHashMap<>();
+		properties.put("Aa", "first");
+		properties.put("BB", "second");
+
+		CompactPropertyMap map = CompactPropertyMap.from(properties);
+
+		assertThat(map.get("Aa")).isEqualTo("first");
+		assertThat(map.get("BB")).isEqualTo("second");
+		assertThat(map.containsKey("C#")).isFalse();
+	}
+
+	@Test
+	public void shouldCopyNamesArray() {
+
+		CompactPropertyMap map = CompactPropertyMap.from(Collections.singletonMap("key", "value"));
+
+		map.getNames()[0] = "other";
+
+		assertThat(map.getNames()).containsExactly("key").isNotSameAs(map.getNames());
+		assertThat(map.containsKey("key")).isTrue();
+		assertThat(CompactPropertyMap.from(map)).isSameAs(map);
+		assertThat(CompactPropertyMap.from(Collections.emptyMap())).isSameAs(CompactPropertyMap.EMPTY);
+	}
+
+	@Test
+	public void shouldRejectModification() {
+
+		CompactPropertyMap map = CompactPropertyMap.from(Collections.singletonMap("key", "value"));
+
+		assertThatThrownBy(() -> map.put("other", "value")).isInstanceOf(UnsupportedOperationException.class);
+		assertThatThrownBy(() -> map.entrySet().iterator().next().setValue("other"))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	public void shouldServePropertySource() {
+
+		Secrets secrets = new Secrets();
+		secrets.setData(Collections.singletonMap("key", "value"));
+
+		VaultConfigOperations operations = mock(VaultConfigOperations.class);
+		when(operations.read(any())).thenReturn(secrets);
+
+		VaultPropertySource propertySource = new VaultPropertySource(operations, false,
+				KeyValueSecretBackendMetadata.create("secret/my-app"));
+		propertySource.init();
+
+		propertySource.getPropertyNames()[0] = "other";
+
+		assertThat(propertySource.getPropertyNames()).containsExactly("key");
+		assertThat(propertySource.containsProperty("key")).isTrue();
+		assertThat(propertySource.containsProperty("other")).isFalse();
+	}
+
+}
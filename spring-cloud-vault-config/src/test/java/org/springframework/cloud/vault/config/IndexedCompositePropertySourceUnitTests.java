@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.core.env.MapPropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Unit tests for {@link IndexedCompositePropertySource}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class IndexedCompositePropertySourceUnitTests {
+
+	@Mock
+	VaultConfigOperations operations;
+
+	@Test
+	public void shouldResolvePropertiesByPrecedence() {
+
+		VaultPropertySource profile = createPropertySource("secret/my-app/cloud", "key", "profile");
+		VaultPropertySource application = createPropertySource("secret/my-app", "key", "application", "other",
+				"application");
+
+		IndexedCompositePropertySource propertySource = new IndexedCompositePropertySource("vault");
+		propertySource.addPropertySource(profile);
+		propertySource.addPropertySource(application);
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("profile");
+		assertThat(propertySource.getProperty("other")).isEqualTo("application");
+		assertThat(propertySource.getProperty("missing")).isNull();
+		assertThat(propertySource.containsProperty("other")).isTrue();
+		assertThat(propertySource.getPropertyNames()).containsExactly("key", "other");
+
+		assertThat(propertySource.getOrigin("key")).isEqualTo("secret/my-app/cloud");
+		assertThat(propertySource.getOrigin("other")).isEqualTo("secret/my-app");
+		assertThat(propertySource.getOrigin("missing")).isNull();
+	}
+
+	@Test
+	public void shouldReindexAfterChanges() {
+
+		VaultPropertySource application = createPropertySource("secret/my-app", "key", "application");
+
+		IndexedCompositePropertySource propertySource = new IndexedCompositePropertySource("vault");
+		propertySource.addPropertySource(application);
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("application");
+
+		propertySource.addFirstPropertySource(createPropertySource("secret/my-app/cloud", "key", "profile"));
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("profile");
+
+		application.initialize(createSecrets("key", "application", "added", "value"));
+
+		assertThat(propertySource.getProperty("added")).isEqualTo("value");
+		assertThat(propertySource.getOrigin("added")).isEqualTo("secret/my-app");
+	}
+
+	@Test
+	public void shouldRejectOtherPropertySources() {
+
+		IndexedCompositePropertySource propertySource = new IndexedCompositePropertySource("vault");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> propertySource
+				.addPropertySource(new MapPropertySource("other", new LinkedHashMap<>())));
+	}
+
+	private VaultPropertySource createPropertySource(String path, String... keyValuePairs) {
+
+		VaultPropertySource propertySource = new VaultPropertySource(this.operations, false,
+				KeyValueSecretBackendMetadata.create(path));
+		propertySource.initialize(createSecrets(keyValuePairs));
+
+		return propertySource;
+	}
+
+	private static Secrets createSecrets(String... keyValuePairs) {
+
+		Map<String, Object> data = new LinkedHashMap<>();
+
+		for (int i = 0; i < keyValuePairs.length; i += 2) {
+			data.put(keyValuePairs[i], keyValuePairs[i + 1]);
+		}
+
+		Secrets secrets = new Secrets();
+		secrets.setData(data);
+		return secrets;
+	}
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.ReactiveVaultOperations;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.support.VaultResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link KeyValueContextListing}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class KeyValueContextListingUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	@Mock
+	ReactiveVaultOperations reactiveVaultOperations;
+
+	MountTableCache mountTableCache = new MountTableCache();
+
+	@Before
+	public void before() {
+
+		Map<String, Object> mounts = new HashMap<>();
+		mounts.put("secret/", createMount("kv", "2"));
+		mounts.put("kv1/", createMount("kv", "1"));
+		mounts.put("database/", createMount("database", null));
+
+		VaultResponse response = new VaultResponse();
+		response.setData(Collections.singletonMap("secret", mounts));
+
+		when(this.vaultOperations.read(MountTableCache.MOUNTS_PATH)).thenReturn(response);
+		this.mountTableCache.load(this.vaultOperations);
+	}
+
+	@Test
+	public void shouldListVersionedFolderOnce() {
+
+		when(this.vaultOperations.list("secret/metadata/my-app/")).thenReturn(Arrays.asList("cloud", "dev/"));
+
+		KeyValueContextListing listing = new KeyValueContextListing(this.mountTableCache);
+
+		assertThat(listing.exists(this.vaultOperations, "secret/my-app/cloud")).isTrue();
+		assertThat(listing.exists(this.vaultOperations, "secret/my-app/dev")).isFalse();
+		assertThat(listing.exists(this.vaultOperations, "secret/my-app/local")).isFalse();
+
+		verify(this.vaultOperations, times(1)).list("secret/metadata/my-app/");
+	}
+
+	@Test
+	public void shouldListUnversionedFolder() {
+
+		when(this.vaultOperations.list("kv1/")).thenReturn(Collections.singletonList("application"));
+
+		KeyValueContextListing listing = new KeyValueContextListing(this.mountTableCache);
+
+		assertThat(listing.exists(this.vaultOperations, "kv1/application")).isTrue();
+		assertThat(listing.exists(this.vaultOperations, "kv1/my-app")).isFalse();
+	}
+
+	@Test
+	public void shouldConsiderNonKeyValuePathsExisting() {
+
+		KeyValueContextListing listing = new KeyValueContextListing(this.mountTableCache);
+
+		assertThat(listing.exists(this.vaultOperations, "database/creds/readonly")).isTrue();
+		assertThat(listing.exists(this.vaultOperations, "unknown/my-app")).isTrue();
+
+		verify(this.vaultOperations, never()).list(anyString());
+	}
+
+	@Test
+	public void shouldConsiderPathsExistingIfListingFails() {
+
+		when(this.vaultOperations.list("secret/metadata/")).thenThrow(new VaultException("permission denied"));
+
+		KeyValueContextListing listing = new KeyValueContextListing(this.mountTableCache);
+
+		assertThat(listing.exists(this.vaultOperations, "secret/my-app")).isTrue();
+		assertThat(listing.exists(this.vaultOperations, "secret/application")).isTrue();
+
+		verify(this.vaultOperations, times(1)).list("secret/metadata/");
+	}
+
+	@Test
+	public void shouldListFolderReactively() {
+
+		when(this.reactiveVaultOperations.list("secret/metadata/my-app/")).thenReturn(Flux.just("cloud"));
+
+		KeyValueContextListing.ReactiveListing listing = createReactiveListing(
+				new KeyValueContextListing(this.mountTableCache));
+
+		listing.exists(this.reactiveVaultOperations, "secret/my-app/cloud").as(StepVerifier::create)
+				.expectNext(true).verifyComplete();
+		listing.exists(this.reactiveVaultOperations, "secret/my-app/dev").as(StepVerifier::create)
+				.expectNext(false).verifyComplete();
+
+		verify(this.reactiveVaultOperations, times(1)).list("secret/metadata/my-app/");
+	}
+
+	@Test
+	public void configTemplateShouldSkipContextsThatAreNotListed() {
+
+		when(this.vaultOperations.list("secret/metadata/my-app/")).thenReturn(Collections.emptyList());
+
+		VaultProperties properties = new VaultProperties();
+		properties.getConfig().setListContexts(true);
+
+		VaultConfigTemplate template = new VaultConfigTemplate(this.vaultOperations, properties,
+				this.mountTableCache, null);
+
+		assertThat(template.read(KeyValueSecretBackendMetadata.create("secret/my-app/cloud"))).isNull();
+
+		verify(this.vaultOperations, never()).read("secret/data/my-app/cloud");
+	}
+
+	@Test
+	public void shouldListFolderOnceForConcurrentSubscribers() {
+
+		AtomicInteger subscriptions = new AtomicInteger();
+
+		when(this.reactiveVaultOperations.list("secret/metadata/my-app/")).thenReturn(Flux.defer(() -> {
+			subscriptions.incrementAndGet();
+			return Flux.just("cloud");
+		}).delaySubscription(Duration.ofMillis(50)));
+
+		KeyValueContextListing.ReactiveListing listing = createReactiveListing(
+				new KeyValueContextListing(this.mountTableCache));
+
+		Flux.merge(listing.exists(this.reactiveVaultOperations, "secret/my-app/cloud"),
+				listing.exists(this.reactiveVaultOperations, "secret/my-app/dev"),
+				listing.exists(this.reactiveVaultOperations, "secret/my-app/cloud")).collectList()
+				.as(StepVerifier::create).assertNext(it -> assertThat(it).containsOnly(true, false)).verifyComplete();
+
+		assertThat(subscriptions).hasValue(1);
+	}
+
+	@Test
+	public void reactiveConfigTemplateShouldSkipContextsThatAreNotListed() {
+
+		when(this.reactiveVaultOperations.list("secret/metadata/my-app/")).thenReturn(Flux.empty());
+
+		VaultProperties properties = new VaultProperties();
+		properties.getConfig().setListContexts(true);
+
+		ReactiveVaultConfigTemplate template = new ReactiveVaultConfigTemplate(this.reactiveVaultOperations,
+				properties, this.mountTableCache, null);
+
+		template.read(KeyValueSecretBackendMetadata.create("secret/my-app/cloud")).as(StepVerifier::create)
+				.verifyComplete();
+
+		verify(this.reactiveVaultOperations, never()).read(anyString());
+	}
+
+	private static Map<String, Object> createMount(String type, String version) {
+
+		Map<String, Object> mount = new HashMap<>();
+		mount.put("type", type);
+		mount.put("options", version != null ? Collections.singletonMap("version", version) : null);
+		return mount;
+	}
+
+	@Test
+	public void shouldShareListingWithBlockingListing() {
+
+		when(this.vaultOperations.list("secret/metadata/my-app/")).thenReturn(Collections.singletonList("cloud"));
+
+		KeyValueContextListing listing = new KeyValueContextListing(this.mountTableCache);
+
+		assertThat(listing.exists(this.vaultOperations, "secret/my-app/cloud")).isTrue();
+
+		createReactiveListing(listing).exists(this.reactiveVaultOperations, "secret/my-app/dev")
+				.as(StepVerifier::create).expectNext(false).verifyComplete();
+
+		verify(this.reactiveVaultOperations, never()).list(anyString());
+	}
+
+	private KeyValueContextListing.ReactiveListing createReactiveListing(KeyValueContextListing listing) {
+		return new KeyValueContextListing.ReactiveListing(listing,
+				new MountTableCache.ReactiveLoader(this.mountTableCache));
+	}
+
+}
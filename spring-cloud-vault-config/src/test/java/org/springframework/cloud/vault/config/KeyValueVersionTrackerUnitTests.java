@@ -0,0 +1,174 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.SecretLeaseRotatedEvent;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+import org.springframework.web.client.HttpClientErrorException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link KeyValueVersionTracker}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class KeyValueVersionTrackerUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	KeyValueVersionTracker tracker;
+
+	@Before
+	public void before() {
+
+		Map<String, Object> mounts = new HashMap<>();
+		mounts.put("secret/", createMount("2"));
+		mounts.put("legacy/", createMount("1"));
+
+		when(this.vaultOperations.read(MountTableCache.MOUNTS_PATH))
+				.thenReturn(createResponse(Collections.singletonMap("secret", mounts)));
+
+		this.tracker = new KeyValueVersionTracker(this.vaultOperations, new MountTableCache());
+	}
+
+	@Test
+	public void shouldCreateMetadataPath() {
+
+		assertThat(this.tracker.getMetadataPath("secret/my-app")).isEqualTo("secret/metadata/my-app");
+		assertThat(this.tracker.getMetadataPath("secret/data/my-app")).isEqualTo("secret/metadata/my-app");
+		assertThat(this.tracker.getMetadataPath("secret")).isNull();
+		assertThat(this.tracker.getMetadataPath("legacy/my-app")).isNull();
+	}
+
+	@Test
+	public void shouldReadCurrentVersion() {
+
+		when(this.vaultOperations.read("secret/metadata/my-app"))
+				.thenReturn(createResponse(Collections.singletonMap("current_version", 3)));
+
+		assertThat(this.tracker.getCurrentVersion("secret/my-app")).isEqualTo(3);
+		assertThat(this.tracker.getCurrentVersion("legacy/my-app")).isNull();
+	}
+
+	@Test
+	public void shouldStopReadingDeniedMetadata() {
+
+		when(this.vaultOperations.read("secret/metadata/my-app"))
+				.thenThrow(new VaultException("Status 403", new HttpClientErrorException(HttpStatus.FORBIDDEN)));
+
+		assertThat(this.tracker.getCurrentVersion("secret/my-app")).isNull();
+		assertThat(this.tracker.getCurrentVersion("secret/data/my-app")).isNull();
+
+		verify(this.vaultOperations, times(1)).read("secret/metadata/my-app");
+	}
+
+	@Test
+	public void shouldPropagateOtherMetadataErrors() {
+
+		when(this.vaultOperations.read("secret/metadata/my-app")).thenThrow(new VaultException("I/O error"));
+
+		assertThatExceptionOfType(VaultException.class)
+				.isThrownBy(() -> this.tracker.getCurrentVersion("secret/my-app"));
+		assertThatExceptionOfType(VaultException.class)
+				.isThrownBy(() -> this.tracker.getCurrentVersion("secret/my-app"));
+	}
+
+	@Test
+	public void shouldSkipRotationOfUnchangedSecrets() {
+
+		RequestedSecret secret = RequestedSecret.rotating("secret/my-app");
+		VaultResponse first = createResponse(Collections.singletonMap("key", "v1"));
+		VaultResponse second = createResponse(Collections.singletonMap("key", "v2"));
+
+		when(this.vaultOperations.read("secret/metadata/my-app")).thenReturn(
+				createResponse(Collections.singletonMap("current_version", 1)),
+				createResponse(Collections.singletonMap("current_version", 1)),
+				createResponse(Collections.singletonMap("current_version", 2)));
+		when(this.vaultOperations.read("secret/my-app")).thenReturn(first, second);
+
+		VaultSecretLeaseContainer container = new VaultSecretLeaseContainer(this.vaultOperations,
+				this.taskScheduler);
+		container.setVersionTracker(this.tracker);
+
+		List<Object> rotations = new ArrayList<>();
+		container.addLeaseListener(event -> {
+			if (event instanceof SecretLeaseRotatedEvent) {
+				rotations.add(((SecretLeaseRotatedEvent) event).getSecrets().get("key"));
+			}
+		});
+
+		assertThat(container.doGetSecrets(secret)).isSameAs(first);
+
+		VaultResponseSupport<Map<String, Object>> unchanged = container.doGetSecrets(secret);
+		assertThat(unchanged).isSameAs(first);
+		container.onSecretsRotated(secret, Lease.none(), Lease.none(), unchanged.getData());
+
+		VaultResponseSupport<Map<String, Object>> changed = container.doGetSecrets(secret);
+		assertThat(changed).isSameAs(second);
+		container.onSecretsRotated(secret, Lease.none(), Lease.none(), changed.getData());
+
+		assertThat(rotations).containsExactly("v2");
+		verify(this.vaultOperations, times(2)).read("secret/my-app");
+	}
+
+	private static Map<String, Object> createMount(String version) {
+
+		Map<String, Object> mount = new HashMap<>();
+		mount.put("type", "kv");
+		mount.put("options", Collections.singletonMap("version", version));
+
+		return mount;
+	}
+
+	private static VaultResponse createResponse(Map<String, Object> data) {
+
+		VaultResponse response = new VaultResponse();
+		response.setData(data);
+
+		return response;
+	}
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link LazyVaultPropertySource}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class LazyVaultPropertySourceUnitTests {
+
+	@Mock
+	VaultConfigOperations operations;
+
+	@Test
+	public void shouldDeferReadUntilFirstAccess() {
+
+		when(this.operations.read(any())).thenReturn(createSecrets());
+
+		LazyVaultPropertySource propertySource = new LazyVaultPropertySource(this.operations, false,
+				KeyValueSecretBackendMetadata.create("secret/my-app"));
+		propertySource.init();
+
+		verify(this.operations, never()).read(any());
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("value");
+		assertThat(propertySource.getPropertyNames()).containsOnly("key");
+
+		verify(this.operations, times(1)).read(any());
+	}
+
+	@Test
+	public void shouldReadOnceOnConcurrentFirstAccess() throws Exception {
+
+		CountDownLatch reading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		when(this.operations.read(any())).then(invocation -> {
+			reading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return createSecrets();
+		});
+
+		LazyVaultPropertySource propertySource = new LazyVaultPropertySource(this.operations, false,
+				KeyValueSecretBackendMetadata.create("secret/my-app"));
+
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+
+		try {
+
+			List<Future<Object>> futures = new ArrayList<>();
+
+			for (int i = 0; i < 4; i++) {
+				futures.add(executor.submit(() -> propertySource.getProperty("key")));
+			}
+
+			assertThat(reading.await(5, TimeUnit.SECONDS)).isTrue();
+			release.countDown();
+
+			for (Future<Object> future : futures) {
+				assertThat(future.get(5, TimeUnit.SECONDS)).isEqualTo("value");
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		verify(this.operations, times(1)).read(any());
+	}
+
+	@Test
+	public void shouldNotRetryFailedReadWithoutFailFast() {
+
+		when(this.operations.read(any())).thenThrow(new IllegalStateException("Vault sealed"));
+
+		LazyVaultPropertySource propertySource = new LazyVaultPropertySource(this.operations, false,
+				KeyValueSecretBackendMetadata.create("secret/my-app"));
+
+		assertThat(propertySource.getProperty("key")).isNull();
+		assertThat(propertySource.getProperty("key")).isNull();
+
+		verify(this.operations, times(1)).read(any());
+	}
+
+	@Test
+	public void shouldRetryFailedReadWithFailFast() {
+
+		when(this.operations.read(any())).thenThrow(new IllegalStateException("Vault sealed"))
+				.thenReturn(createSecrets());
+
+		LazyVaultPropertySource propertySource = new LazyVaultPropertySource(this.operations, true,
+				KeyValueSecretBackendMetadata.create("secret/my-app"));
+
+		assertThatIllegalStateException().isThrownBy(() -> propertySource.getProperty("key"));
+		assertThat(propertySource.getProperty("key")).isEqualTo("value");
+		assertThat(propertySource.isInitialized()).isTrue();
+	}
+
+	private static Secrets createSecrets() {
+
+		Secrets secrets = new Secrets();
+		secrets.setData(Collections.singletonMap("key", "value"));
+		return secrets;
+	}
+
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.ReactiveVaultOperations;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.support.VaultResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link MountTableCache}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class MountTableCacheUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	@Mock
+	ReactiveVaultOperations reactiveVaultOperations;
+
+	@Test
+	public void shouldLoadMountTableOnce() {
+
+		when(this.vaultOperations.read(MountTableCache.MOUNTS_PATH)).thenReturn(createMountTable());
+
+		MountTableCache cache = new MountTableCache();
+
+		assertThat(cache.load(this.vaultOperations)).isTrue();
+		assertThat(cache.load(this.vaultOperations)).isTrue();
+
+		verify(this.vaultOperations, times(1)).read(MountTableCache.MOUNTS_PATH);
+	}
+
+	@Test
+	public void shouldDetermineLongestMatchingMount() {
+
+		when(this.vaultOperations.read(MountTableCache.MOUNTS_PATH)).thenReturn(createMountTable());
+
+		MountTableCache cache = new MountTableCache();
+		cache.load(this.vaultOperations);
+
+		assertThat(cache.getKeyValue2MountPath("secret/my-app")).isEqualTo("secret/");
+		assertThat(cache.getKeyValue2MountPath("secret/legacy/my-app")).isNull();
+		assertThat(cache.getKeyValue2MountPath("versioned/my-app/dev")).isEqualTo("versioned/");
+		assertThat(cache.getKeyValue2MountPath("database/creds/readonly")).isNull();
+		assertThat(cache.getKeyValue2MountPath("unknown/my-app")).isNull();
+	}
+
+	@Test
+	public void shouldReportUnavailableMountTable() {
+
+		when(this.vaultOperations.read(MountTableCache.MOUNTS_PATH)).thenThrow(new VaultException("permission denied"));
+
+		MountTableCache cache = new MountTableCache();
+
+		assertThat(cache.load(this.vaultOperations)).isFalse();
+		assertThat(cache.load(this.vaultOperations)).isFalse();
+
+		verify(this.vaultOperations, times(1)).read(MountTableCache.MOUNTS_PATH);
+	}
+
+	@Test
+	public void shouldShareMountTableWithReactiveOperations() {
+
+		when(this.vaultOperations.read(MountTableCache.MOUNTS_PATH)).thenReturn(createMountTable());
+
+		MountTableCache cache = new MountTableCache();
+		cache.load(this.vaultOperations);
+
+		new MountTableCache.ReactiveLoader(cache).load(this.reactiveVaultOperations).as(StepVerifier::create)
+				.expectNext(true).verifyComplete();
+	}
+
+	@Test
+	public void shouldLoadMountTableReactively() {
+
+		when(this.reactiveVaultOperations.read(MountTableCache.MOUNTS_PATH))
+				.thenReturn(Mono.just(createMountTable()));
+
+		MountTableCache cache = new MountTableCache();
+
+		new MountTableCache.ReactiveLoader(cache).load(this.reactiveVaultOperations).as(StepVerifier::create)
+				.expectNext(true).verifyComplete();
+
+		assertThat(cache.getKeyValue2MountPath("secret/my-app")).isEqualTo("secret/");
+	}
+
+	@Test
+	public void shouldShareReactiveMountTableRetrieval() {
+
+		AtomicInteger subscriptions = new AtomicInteger();
+
+		when(this.reactiveVaultOperations.read(MountTableCache.MOUNTS_PATH))
+				.thenReturn(Mono.fromSupplier(() -> {
+					subscriptions.incrementAndGet();
+					return createMountTable();
+				}).delaySubscription(Duration.ofMillis(50)));
+
+		MountTableCache.ReactiveLoader loader = new MountTableCache.ReactiveLoader(new MountTableCache());
+
+		Flux.merge(loader.load(this.reactiveVaultOperations), loader.load(this.reactiveVaultOperations),
+				loader.load(this.reactiveVaultOperations)).as(StepVerifier::create).expectNext(true, true, true)
+				.verifyComplete();
+
+		assertThat(subscriptions).hasValue(1);
+	}
+
+	@Test
+	public void shouldCompleteUnavailableForEmptyReactiveMountTable() {
+
+		when(this.reactiveVaultOperations.read(MountTableCache.MOUNTS_PATH)).thenReturn(Mono.empty());
+
+		MountTableCache cache = new MountTableCache();
+
+		new MountTableCache.ReactiveLoader(cache).load(this.reactiveVaultOperations).as(StepVerifier::create)
+				.expectNext(false).verifyComplete();
+
+		assertThat(cache.isLoaded()).isTrue();
+	}
+
+	@Test
+	public void shouldNotReferenceReactorInBlockingApi() {
+
+		assertThat(MountTableCache.class.getDeclaredMethods()).extracting(Method::getReturnType)
+				.doesNotContain(Mono.class);
+	}
+
+	@Test
+	public void shouldUnwrapVersionedResponse() {
+
+		Map<String, Object> body = new HashMap<>();
+		body.put("data", Collections.singletonMap("key", "value"));
+		body.put("metadata", Collections.singletonMap("version", 1));
+
+		VaultResponse response = MountTableCache.unwrap(createResponse(body));
+
+		assertThat(response.getRequiredData()).containsEntry("key", "value").hasSize(1);
+		assertThat(response.getMetadata()).containsEntry("version", 1);
+		assertThat(MountTableCache.unwrap(createResponse(Collections.singletonMap("data", null)))).isNull();
+	}
+
+	private static VaultResponse createMountTable() {
+
+		Map<String, Object> mounts = new HashMap<>();
+		mounts.put("secret/", createMount("kv", "2"));
+		mounts.put("secret/legacy/", createMount("kv", "1"));
+		mounts.put("versioned", createMount("kv", "2"));
+		mounts.put("database/", createMount("database", null));
+
+		return createResponse(Collections.singletonMap("secret", mounts));
+	}
+
+	private static Map<String, Object> createMount(String type, String version) {
+
+		Map<String, Object> mount = new HashMap<>();
+		mount.put("type", type);
+		mount.put("options", version != null ? Collections.singletonMap("version", version) : null);
+		return mount;
+	}
+
+	private static VaultResponse createResponse(Map<String, Object> data) {
+
+		VaultResponse response = new VaultResponse();
+		response.setData(data);
+		return response;
+	}
+
+}
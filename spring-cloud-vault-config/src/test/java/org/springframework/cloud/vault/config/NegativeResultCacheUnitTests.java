@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.vault.core.VaultOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link NegativeResultCache}.
+ *
+ * @author agent
+ */
+public class NegativeResultCacheUnitTests {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	Instant now = Instant.parse("2020-10-01T10:00:00Z");
+
+	@Test
+	public void shouldExpireMissingPaths() {
+
+		NegativeResultCache cache = new NegativeResultCache(Duration.ofMinutes(5), null, clock());
+
+		cache.recordMissing("secret/my-app/cloud");
+
+		assertThat(cache.isMissing("secret/my-app/cloud")).isTrue();
+		assertThat(cache.isMissing("secret/my-app")).isFalse();
+
+		this.now = this.now.plus(Duration.ofMinutes(6));
+
+		assertThat(cache.isMissing("secret/my-app/cloud")).isFalse();
+	}
+
+	@Test
+	public void shouldRemovePresentPaths() {
+
+		NegativeResultCache cache = new NegativeResultCache(Duration.ofMinutes(5), null, clock());
+
+		cache.recordMissing("secret/my-app");
+		cache.recordPresent("secret/my-app");
+
+		assertThat(cache.isMissing("secret/my-app")).isFalse();
+	}
+
+	@Test
+	public void shouldPersistMissingPaths() throws Exception {
+
+		Path location = this.temporaryFolder.getRoot().toPath().resolve("cache/negative-cache.properties");
+
+		NegativeResultCache cache = new NegativeResultCache(Duration.ofMinutes(5), location, clock());
+		cache.recordMissing("secret/my-app/cloud");
+		cache.recordMissing("secret/application/cloud");
+		cache.flush();
+
+		NegativeResultCache restored = new NegativeResultCache(Duration.ofMinutes(5), location, clock());
+
+		assertThat(restored.isMissing("secret/my-app/cloud")).isTrue();
+		assertThat(restored.isMissing("secret/application/cloud")).isTrue();
+
+		this.now = this.now.plus(Duration.ofMinutes(6));
+
+		NegativeResultCache expired = new NegativeResultCache(Duration.ofMinutes(5), location, clock());
+
+		assertThat(expired.isMissing("secret/my-app/cloud")).isFalse();
+	}
+
+	@Test
+	public void shouldFlushPendingChangesOnDestroy() {
+
+		Path location = this.temporaryFolder.getRoot().toPath().resolve("negative-cache.properties");
+
+		NegativeResultCache cache = new NegativeResultCache(Duration.ofMinutes(5), location, clock());
+		cache.recordMissing("secret/my-app/cloud");
+		cache.destroy();
+
+		NegativeResultCache restored = new NegativeResultCache(Duration.ofMinutes(5), location, clock());
+
+		assertThat(restored.isMissing("secret/my-app/cloud")).isTrue();
+	}
+
+	@Test
+	public void shouldNotShareEntriesAcrossCaches() {
+
+		VaultProperties properties = new VaultProperties();
+		properties.getConfig().getNegativeCache().setEnabled(true);
+
+		NegativeResultCache.create(properties).recordMissing("secret/shared/cloud");
+
+		assertThat(NegativeResultCache.create(properties).isMissing("secret/shared/cloud")).isFalse();
+	}
+
+	@Test
+	public void shouldScopeEntriesToVaultServerAndNamespace() {
+
+		VaultProperties properties = new VaultProperties();
+		properties.getConfig().getNegativeCache().setEnabled(true);
+		properties.getConfig().getNegativeCache()
+				.setLocation(this.temporaryFolder.getRoot().toPath().resolve("negative-cache.properties").toString());
+		properties.setHost("scoped-vault");
+
+		NegativeResultCache cache = NegativeResultCache.create(properties);
+		cache.recordMissing("secret/scoped/cloud");
+		cache.destroy();
+
+		assertThat(NegativeResultCache.create(properties).isMissing("secret/scoped/cloud")).isTrue();
+
+		properties.setNamespace("team-a");
+		assertThat(NegativeResultCache.create(properties).isMissing("secret/scoped/cloud")).isFalse();
+
+		properties.setNamespace(null);
+		properties.setHost("other-vault");
+		assertThat(NegativeResultCache.create(properties).isMissing("secret/scoped/cloud")).isFalse();
+	}
+
+	@Test
+	public void shouldNotCreateCacheIfDisabled() {
+		assertThat(NegativeResultCache.create(new VaultProperties())).isNull();
+	}
+
+	@Test
+	public void configTemplateShouldSkipCachedMissingPaths() {
+
+		VaultOperations vaultOperations = mock(VaultOperations.class);
+
+		NegativeResultCache cache = new NegativeResultCache(Duration.ofMinutes(5), null, clock());
+		cache.recordMissing("secret/my-app/cloud");
+
+		VaultConfigTemplate template = new VaultConfigTemplate(vaultOperations, new VaultProperties(), null, cache);
+
+		assertThat(template.read(KeyValueSecretBackendMetadata.create("secret/my-app/cloud"))).isNull();
+
+		verify(vaultOperations, never()).read(anyString());
+	}
+
+	private Clock clock() {
+		return new Clock() {
+
+			@Override
+			public ZoneId getZone() {
+				return ZoneOffset.UTC;
+			}
+
+			@Override
+			public Clock withZone(ZoneId zone) {
+				return this;
+			}
+
+			@Override
+			public Instant instant() {
+				return NegativeResultCacheUnitTests.this.now;
+			}
+		};
+	}
+
+}
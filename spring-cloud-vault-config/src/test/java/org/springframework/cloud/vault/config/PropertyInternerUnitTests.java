@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link PropertyInterner}.
+ *
+ * @author agent
+ */
+public class PropertyInternerUnitTests {
+
+	PropertyInterner interner = new PropertyInterner();
+
+	@Test
+	public void shouldCanonicalizeImmutableValues() {
+
+		String first = new String("spring.datasource.url");
+		String second = new String("spring.datasource.url");
+
+		assertThat(this.interner.intern(first)).isSameAs(first);
+		assertThat(this.interner.intern(second)).isSameAs(first);
+		Long number = this.interner.intern(Long.valueOf(3000000000L));
+
+		assertThat(this.interner.intern(Long.valueOf(3000000000L))).isSameAs(number);
+		assertThat(this.interner.intern((Object) null)).isNull();
+	}
+
+	@Test
+	public void shouldRetainMutableValues() {
+
+		Map<String, Object> map = Collections.singletonMap("key", "value");
+
+		assertThat(this.interner.intern(map)).isSameAs(map);
+		assertThat(this.interner.size()).isZero();
+	}
+
+	@Test
+	public void shouldShareNamesAndValuesAcrossPropertyMaps() {
+
+		Map<String, Object> application = new LinkedHashMap<>();
+		application.put(new String("spring.datasource.url"), new String("jdbc:postgresql://db/app"));
+
+		Map<String, Object> profile = new LinkedHashMap<>();
+		profile.put(new String("spring.datasource.url"), new String("jdbc:postgresql://db/app"));
+
+		CompactPropertyMap first = CompactPropertyMap.from(application, this.interner);
+		CompactPropertyMap second = CompactPropertyMap.from(profile, this.interner);
+
+		assertThat(second.getNames()[0]).isSameAs(first.getNames()[0]);
+		assertThat(second.get("spring.datasource.url")).isSameAs(first.get("spring.datasource.url"));
+	}
+
+	@Test
+	public void shouldDeduplicateSecrets() {
+
+		VaultProperties properties = new VaultProperties();
+		properties.getConfig().setDeduplicate(true);
+
+		Secrets first = new Secrets();
+		first.setData(Collections.singletonMap(new String("key"), new String("value")));
+
+		Secrets second = new Secrets();
+		second.setData(Collections.singletonMap(new String("key"), new String("value")));
+
+		Object firstValue = VaultConfigTemplate.deduplicate(first, properties).getRequiredData().get("key");
+		Object secondValue = VaultConfigTemplate.deduplicate(second, properties).getRequiredData().get("key");
+
+		assertThat(secondValue).isSameAs(firstValue);
+		assertThat(first.getRequiredData()).isInstanceOf(CompactPropertyMap.class);
+	}
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.springframework.cloud.vault.config.KeyValueSecretBackendMetadata.UnwrappingPropertyTransformer;
+import org.springframework.vault.core.util.PropertyTransformer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * Unit tests for {@link PropertyKeyTransformer}.
+ *
+ * @author agent
+ */
+public class PropertyKeyTransformerUnitTests {
+
+	@Test
+	public void shouldComposeTransformersInOrder() {
+
+		PropertyKeyTransformer transformer = PropertyKeyTransformer.compose(PropertyKeyTransformer.strip("data."),
+				PropertyKeyTransformer.mapping(Collections.singletonMap("username", "db.username")),
+				PropertyKeyTransformer.prefix("vault."));
+
+		Map<String, Object> input = new LinkedHashMap<>();
+		input.put("data.username", "walter");
+		input.put("data.password", "secret");
+		input.put("other", "value");
+
+		assertThat(transformer.transformProperties(input)).containsExactly(entry("vault.db.username", "walter"),
+				entry("vault.password", "secret"), entry("vault.other", "value"));
+	}
+
+	@Test
+	public void shouldMatchUnfusedChain() {
+
+		PropertyKeyTransformer strip = PropertyKeyTransformer.strip("data.");
+		PropertyKeyTransformer mapping = PropertyKeyTransformer
+				.mapping(Collections.singletonMap("username", "db.username"));
+		PropertyKeyTransformer prefix = PropertyKeyTransformer.prefix("vault.");
+
+		Map<String, Object> input = new LinkedHashMap<>();
+		input.put("data.username", "walter");
+		input.put("data.password", "secret");
+		input.put("username", "other");
+		input.put("data.", "empty");
+
+		Map<String, Object> unfused = prefix.transformProperties(
+				mapping.transformProperties(strip.transformProperties(input)));
+
+		assertThat(PropertyKeyTransformer.compose(strip, mapping, prefix).transformProperties(input))
+				.containsExactlyEntriesOf(unfused);
+	}
+
+	@Test
+	public void shouldComposeThroughAndThen() {
+
+		PropertyKeyTransformer strip = PropertyKeyTransformer.strip("data.");
+		PropertyTransformer prefix = PropertyKeyTransformer.prefix("vault.");
+
+		PropertyTransformer transformer = strip.andThen(prefix);
+
+		assertThat(transformer).isInstanceOf(PropertyKeyTransformer.class);
+		assertThat(((PropertyKeyTransformer) transformer).transformKey("data.username")).isEqualTo("vault.username");
+		assertThat(strip.andThen(PropertyKeyTransformer.identity())).isSameAs(strip);
+	}
+
+	@Test
+	public void shouldSimplifyComposition() {
+
+		PropertyKeyTransformer prefix = PropertyKeyTransformer.prefix("vault.");
+
+		assertThat(PropertyKeyTransformer.compose()).isSameAs(PropertyKeyTransformer.identity());
+		assertThat(PropertyKeyTransformer.compose(PropertyKeyTransformer.identity(), prefix)).isSameAs(prefix);
+		assertThat(PropertyKeyTransformer.prefix("")).isSameAs(PropertyKeyTransformer.identity());
+		assertThat(PropertyKeyTransformer.strip("")).isSameAs(PropertyKeyTransformer.identity());
+		assertThat(PropertyKeyTransformer.mapping(Collections.emptyMap())).isSameAs(PropertyKeyTransformer.identity());
+	}
+
+	@Test
+	public void shouldComposeWithPropertyNameTransformer() {
+
+		PropertyNameTransformer names = new PropertyNameTransformer();
+		names.addKeyTransformation("password", "spring.datasource.password");
+
+		PropertyKeyTransformer unwrap = (PropertyKeyTransformer) UnwrappingPropertyTransformer.unwrap("data");
+		PropertyKeyTransformer transformer = PropertyKeyTransformer.compose(unwrap, names);
+
+		assertThat(transformer.transformKey("data.password")).isEqualTo("spring.datasource.password");
+		assertThat(transformer.transformKey("data.other")).isEqualTo("other");
+	}
+
+}
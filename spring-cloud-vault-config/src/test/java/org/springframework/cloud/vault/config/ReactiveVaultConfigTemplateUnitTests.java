@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.ReactiveVaultOperations;
+import org.springframework.vault.support.VaultResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link ReactiveVaultConfigTemplate}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class ReactiveVaultConfigTemplateUnitTests {
+
+	@Mock
+	ReactiveVaultOperations vaultOperations;
+
+	@Test
+	public void shouldReadUnversionedSecret() {
+
+		when(this.vaultOperations.read("sys/internal/ui/mounts/secret/my-app")).thenReturn(Mono.empty());
+		when(this.vaultOperations.read("secret/my-app"))
+				.thenReturn(Mono.just(createResponse(Collections.singletonMap("key", "value"))));
+
+		ReactiveVaultConfigTemplate template = new ReactiveVaultConfigTemplate(this.vaultOperations,
+				new VaultProperties());
+
+		template.read(KeyValueSecretBackendMetadata.create("secret/my-app")).as(StepVerifier::create)
+				.consumeNextWith(actual -> assertThat(actual.getRequiredData()).containsEntry("key", "value"))
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldReadVersionedSecret() {
+
+		Map<String, Object> mount = new HashMap<>();
+		mount.put("path", "secret/");
+		mount.put("options", Collections.singletonMap("version", "2"));
+
+		Map<String, Object> body = new HashMap<>();
+		body.put("data", Collections.singletonMap("key", "value"));
+		body.put("metadata", Collections.singletonMap("version", 1));
+
+		when(this.vaultOperations.read("sys/internal/ui/mounts/secret/my-app"))
+				.thenReturn(Mono.just(createResponse(mount)));
+		when(this.vaultOperations.read("secret/data/my-app")).thenReturn(Mono.just(createResponse(body)));
+
+		ReactiveVaultConfigTemplate template = new ReactiveVaultConfigTemplate(this.vaultOperations,
+				new VaultProperties());
+
+		template.read(KeyValueSecretBackendMetadata.create("secret/my-app")).as(StepVerifier::create)
+				.consumeNextWith(actual -> {
+					assertThat(actual.getRequiredData()).containsEntry("key", "value").hasSize(1);
+					assertThat(actual.getMetadata()).containsEntry("version", 1);
+				}).verifyComplete();
+	}
+
+	@Test
+	public void shouldCompleteEmptyForAbsentSecret() {
+
+		when(this.vaultOperations.read("sys/internal/ui/mounts/secret/my-app")).thenReturn(Mono.empty());
+		when(this.vaultOperations.read("secret/my-app")).thenReturn(Mono.empty());
+
+		ReactiveVaultConfigTemplate template = new ReactiveVaultConfigTemplate(this.vaultOperations,
+				new VaultProperties());
+
+		template.read(KeyValueSecretBackendMetadata.create("secret/my-app")).as(StepVerifier::create)
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldFailFast() {
+
+		VaultProperties properties = new VaultProperties();
+		properties.setFailFast(true);
+
+		when(this.vaultOperations.read("sys/internal/ui/mounts/secret/my-app")).thenReturn(Mono.empty());
+		when(this.vaultOperations.read("secret/my-app")).thenReturn(Mono.error(new VaultException("sealed")));
+
+		ReactiveVaultConfigTemplate template = new ReactiveVaultConfigTemplate(this.vaultOperations, properties);
+
+		template.read(KeyValueSecretBackendMetadata.create("secret/my-app")).as(StepVerifier::create)
+				.verifyError(IllegalStateException.class);
+	}
+
+	@Test
+	public void shouldContinueWithOtherLocationsOnNonVaultError() {
+
+		when(this.vaultOperations.read("sys/internal/ui/mounts/secret/my-app")).thenReturn(Mono.empty());
+		when(this.vaultOperations.read("secret/my-app"))
+				.thenReturn(Mono.just(createResponse(Collections.singletonMap("key", "value"))));
+		when(this.vaultOperations.read("sys/internal/ui/mounts/secret/unreachable"))
+				.thenReturn(Mono.error(new TimeoutException("timed out")));
+		when(this.vaultOperations.read("secret/unreachable"))
+				.thenReturn(Mono.error(new TimeoutException("timed out")));
+
+		ReactiveVaultConfigTemplate template = new ReactiveVaultConfigTemplate(this.vaultOperations,
+				new VaultProperties());
+
+		Flux.merge(template.read(KeyValueSecretBackendMetadata.create("secret/unreachable")),
+				template.read(KeyValueSecretBackendMetadata.create("secret/my-app"))).as(StepVerifier::create)
+				.consumeNextWith(actual -> assertThat(actual.getRequiredData()).containsEntry("key", "value"))
+				.verifyComplete();
+	}
+
+	@Test
+	public void shouldFailFastOnNonVaultError() {
+
+		VaultProperties properties = new VaultProperties();
+		properties.setFailFast(true);
+
+		when(this.vaultOperations.read("sys/internal/ui/mounts/secret/my-app")).thenReturn(Mono.empty());
+		when(this.vaultOperations.read("secret/my-app")).thenReturn(Mono.error(new TimeoutException("timed out")));
+
+		ReactiveVaultConfigTemplate template = new ReactiveVaultConfigTemplate(this.vaultOperations, properties);
+
+		template.read(KeyValueSecretBackendMetadata.create("secret/my-app")).as(StepVerifier::create)
+				.verifyError(IllegalStateException.class);
+	}
+
+	private static VaultResponse createResponse(Map<String, Object> data) {
+
+		VaultResponse response = new VaultResponse();
+		response.setData(data);
+		return response;
+	}
+
+}
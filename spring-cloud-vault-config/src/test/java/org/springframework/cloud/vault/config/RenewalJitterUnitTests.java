@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.junit.Test;
+
+import org.springframework.vault.authentication.LifecycleAwareSessionManagerSupport.FixedTimeoutRefreshTrigger;
+import org.springframework.vault.authentication.LifecycleAwareSessionManagerSupport.RefreshTrigger;
+import org.springframework.vault.authentication.LoginToken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link RenewalJitter}.
+ *
+ * @author agent
+ */
+public class RenewalJitterUnitTests {
+
+	@Test
+	public void shouldNotCreateJitterIfNotConfigured() {
+
+		VaultProperties properties = new VaultProperties();
+
+		assertThat(RenewalJitter.create(properties.getConfig().getLifecycle())).isNull();
+		assertThat(RenewalJitter.create(properties.getSession().getLifecycle())).isNull();
+	}
+
+	@Test
+	public void shouldApplyRandomJitterEarlier() {
+
+		RenewalJitter jitter = new RenewalJitter(Duration.ofMinutes(1), null);
+		Date executionTime = new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis());
+
+		for (int i = 0; i < 100; i++) {
+
+			Date jittered = jitter.apply(executionTime);
+
+			assertThat(jittered).isBeforeOrEqualTo(executionTime);
+			assertThat(executionTime.getTime() - jittered.getTime()).isLessThanOrEqualTo(60_000);
+		}
+	}
+
+	@Test
+	public void shouldDeriveStableOffsetFromInstanceId() {
+
+		Date executionTime = new Date(System.currentTimeMillis() + Duration.ofHours(1).toMillis());
+
+		Date first = new RenewalJitter(Duration.ofMinutes(1), "pod-1").apply(executionTime);
+		Date second = new RenewalJitter(Duration.ofMinutes(1), "pod-1").apply(executionTime);
+		Date other = new RenewalJitter(Duration.ofMinutes(1), "pod-2").apply(executionTime);
+
+		assertThat(first).isEqualTo(second).isNotEqualTo(other);
+	}
+
+	@Test
+	public void shouldNotShiftByMoreThanHalfOfRemainingDelay() {
+
+		RenewalJitter jitter = new RenewalJitter(Duration.ofHours(1), null);
+		long now = System.currentTimeMillis();
+		Date executionTime = new Date(now + 10_000);
+
+		for (int i = 0; i < 100; i++) {
+			assertThat(jitter.apply(executionTime).getTime()).isGreaterThanOrEqualTo(now + 5_000);
+		}
+
+		assertThat(jitter.apply(null)).isNull();
+	}
+
+	@Test
+	public void shouldDecorateRefreshTrigger() {
+
+		RefreshTrigger trigger = new FixedTimeoutRefreshTrigger(Duration.ofSeconds(5), Duration.ofSeconds(7));
+		RefreshTrigger decorated = new RenewalJitter(Duration.ofMinutes(1), "pod-1").decorate(trigger);
+		LoginToken token = LoginToken.renewable("token".toCharArray(), Duration.ofHours(1));
+
+		assertThat(decorated.getValidTtlThreshold(token)).isEqualTo(trigger.getValidTtlThreshold(token));
+		assertThat(decorated.nextExecutionTime(token)).isBeforeOrEqualTo(trigger.nextExecutionTime(token));
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.vault.core.lease.SecretLeaseContainer;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.LeaseListener;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseExpiredEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseRotatedEvent;
+import org.springframework.vault.core.util.PropertyTransformers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link RotatingVaultPropertySource}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class RotatingVaultPropertySourceUnitTests {
+
+	@Mock
+	SecretLeaseContainer container;
+
+	@Test
+	public void shouldRegisterRequestedSecret() {
+
+		RequestedSecret secret = RequestedSecret.rotating("database/creds/readonly");
+		new RotatingVaultPropertySource("database", this.container, secret, PropertyTransformers.noop());
+
+		verify(this.container).addRequestedSecret(secret);
+	}
+
+	@Test
+	public void shouldSwapSnapshotOnRotation() {
+
+		RequestedSecret secret = RequestedSecret.rotating("database/creds/readonly");
+		RotatingVaultPropertySource propertySource = new RotatingVaultPropertySource("database", this.container,
+				secret, PropertyTransformers.propertyNamePrefix("spring.datasource."));
+		LeaseListener listener = captureListener();
+
+		Lease first = Lease.of("first", Duration.ofMinutes(10), false);
+		listener.onLeaseEvent(new SecretLeaseCreatedEvent(secret, first, credentials("walter", "secret")));
+
+		CompactPropertyMap snapshot = propertySource.getProperties();
+
+		Lease second = Lease.of("second", Duration.ofMinutes(10), false);
+		listener.onLeaseEvent(new SecretLeaseRotatedEvent(secret, first, second, credentials("skyler", "other")));
+
+		assertThat(snapshot).containsEntry("spring.datasource.username", "walter")
+				.containsEntry("spring.datasource.password", "secret");
+		assertThat(propertySource.getProperty("spring.datasource.username")).isEqualTo("skyler");
+		assertThat(propertySource.getProperty("spring.datasource.password")).isEqualTo("other");
+		assertThat(propertySource.getPropertyNames()).containsExactly("spring.datasource.username",
+				"spring.datasource.password");
+	}
+
+	@Test
+	public void shouldRetainRotatingSecretOnExpiry() {
+
+		RequestedSecret secret = RequestedSecret.rotating("database/creds/readonly");
+		RotatingVaultPropertySource propertySource = new RotatingVaultPropertySource("database", this.container,
+				secret, PropertyTransformers.noop());
+		LeaseListener listener = captureListener();
+
+		Lease lease = Lease.of("lease", Duration.ofMinutes(10), false);
+		listener.onLeaseEvent(new SecretLeaseCreatedEvent(secret, lease, credentials("walter", "secret")));
+		listener.onLeaseEvent(new SecretLeaseExpiredEvent(secret, lease));
+
+		assertThat(propertySource.containsProperty("username")).isTrue();
+	}
+
+	@Test
+	public void shouldIgnoreEventsForOtherSecrets() {
+
+		RequestedSecret secret = RequestedSecret.rotating("database/creds/readonly");
+		RotatingVaultPropertySource propertySource = new RotatingVaultPropertySource("database", this.container,
+				secret, PropertyTransformers.noop());
+		LeaseListener listener = captureListener();
+
+		listener.onLeaseEvent(new SecretLeaseCreatedEvent(RequestedSecret.rotating("database/creds/other"),
+				Lease.none(), Collections.singletonMap("username", "other")));
+
+		assertThat(propertySource.getPropertyNames()).isEmpty();
+	}
+
+	private LeaseListener captureListener() {
+
+		ArgumentCaptor<LeaseListener> listener = ArgumentCaptor.forClass(LeaseListener.class);
+		verify(this.container).addLeaseListener(listener.capture());
+		return listener.getValue();
+	}
+
+	private static Map<String, Object> credentials(String username, String password) {
+
+		Map<String, Object> credentials = new LinkedHashMap<>();
+		credentials.put("username", username);
+		credentials.put("password", password);
+		return credentials;
+	}
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Date;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.cloud.vault.config.VaultSecretLeaseContainer.RevocationOutcome;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.core.lease.event.AfterSecretLeaseRenewedEvent;
+import org.springframework.vault.core.lease.event.AfterSecretLeaseRevocationEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseCreatedEvent;
+import org.springframework.vault.core.lease.event.SecretLeaseExpiredEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit tests for {@link SecretLeaseMetrics}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class SecretLeaseMetricsUnitTests {
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	SecretLeaseMetrics metrics = new SecretLeaseMetrics();
+
+	SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+	RequestedSecret secret = RequestedSecret.renewable("database/creds/readonly");
+
+	@Before
+	public void before() {
+		this.metrics.bindTo(this.registry);
+	}
+
+	@Test
+	public void shouldTrackActiveLeases() {
+
+		Lease lease = Lease.of("lease-id", Duration.ofMinutes(10), true);
+
+		this.metrics.onLeaseEvent(new SecretLeaseCreatedEvent(this.secret, lease, Collections.emptyMap()));
+
+		assertThat(this.registry.get("spring.cloud.vault.lease.active").tag("backend", "database").gauge().value())
+				.isEqualTo(1);
+		assertThat(this.registry.get("spring.cloud.vault.lease.expiry").tag("path", "database/creds/readonly")
+				.gauge().value()).isCloseTo(600, within(5d));
+
+		this.metrics.onLeaseEvent(new AfterSecretLeaseRevocationEvent(this.secret, lease));
+
+		assertThat(this.registry.get("spring.cloud.vault.lease.active").gauge().value()).isZero();
+		assertThat(this.registry.get("spring.cloud.vault.lease.expiry").gauge().value()).isNaN();
+	}
+
+	@Test
+	public void shouldNotTrackSecretsWithoutLease() {
+
+		this.metrics.onLeaseEvent(new SecretLeaseCreatedEvent(this.secret, Lease.none(), Collections.emptyMap()));
+
+		assertThat(this.metrics.getActiveLeases("database")).isZero();
+	}
+
+	@Test
+	public void shouldCountExpiryAndFailures() {
+
+		Lease lease = Lease.of("lease-id", Duration.ofMinutes(10), true);
+
+		this.metrics.onLeaseEvent(new SecretLeaseCreatedEvent(this.secret, lease, Collections.emptyMap()));
+		this.metrics.onLeaseEvent(new SecretLeaseExpiredEvent(this.secret, lease));
+		this.metrics.onLeaseError(new SecretLeaseExpiredEvent(this.secret, lease), new VaultException("error"));
+
+		assertThat(this.registry.get("spring.cloud.vault.lease.expired").counter().count()).isEqualTo(1);
+		assertThat(this.registry.get("spring.cloud.vault.lease.failures").tag("exception", "VaultException")
+				.counter().count()).isEqualTo(1);
+		assertThat(this.metrics.getActiveLeases("database")).isZero();
+	}
+
+	@Test
+	public void shouldCountRevocationOutcomes() {
+
+		this.metrics.onRevocation(this.secret, RevocationOutcome.REVOKED);
+		this.metrics.onRevocation(this.secret, RevocationOutcome.TIMED_OUT);
+		this.metrics.onRevocation(this.secret, RevocationOutcome.TIMED_OUT);
+
+		assertThat(this.registry.get("spring.cloud.vault.lease.revocations").tag("outcome", "revoked").counter()
+				.count()).isEqualTo(1);
+		assertThat(this.registry.get("spring.cloud.vault.lease.revocations").tags("backend", "database", "outcome",
+				"timed_out").counter().count()).isEqualTo(2);
+	}
+
+	@Test
+	public void shouldRecordRenewalLatencyOfScheduledTasks() {
+
+		Lease lease = Lease.of("lease-id", Duration.ofMinutes(10), true);
+
+		this.metrics.decorate(this.taskScheduler).schedule(
+				() -> this.metrics.onLeaseEvent(new AfterSecretLeaseRenewedEvent(this.secret, lease)), new Date());
+
+		ArgumentCaptor<Runnable> task = ArgumentCaptor.forClass(Runnable.class);
+		verify(this.taskScheduler).schedule(task.capture(), any(Date.class));
+		task.getValue().run();
+
+		assertThat(this.registry.get("spring.cloud.vault.lease.renewal").timer().count()).isEqualTo(1);
+		assertThat(this.metrics.getActiveLeases("database")).isEqualTo(1);
+	}
+
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.vault.VaultException;
+import org.springframework.web.client.HttpClientErrorException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link SecretSnapshotStore}.
+ *
+ * @author agent
+ */
+public class SecretSnapshotStoreUnitTests {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	Path location;
+
+	@Before
+	public void before() {
+		this.location = this.temporaryFolder.getRoot().toPath().resolve("snapshot/vault.snapshot");
+	}
+
+	@Test
+	public void shouldRestoreEncryptedSnapshot() throws Exception {
+
+		SecretSnapshotStore store = new SecretSnapshotStore(this.location, "s3cr3t".toCharArray());
+		store.put("secret/my-app", Collections.singletonMap("database.password", "very-secret-value"));
+
+		assertThat(new String(Files.readAllBytes(this.location), StandardCharsets.ISO_8859_1))
+				.doesNotContain("very-secret-value").doesNotContain("database.password");
+
+		SecretSnapshotStore restored = new SecretSnapshotStore(this.location, "s3cr3t".toCharArray());
+
+		assertThat(restored.get("secret/my-app")).containsEntry("database.password", "very-secret-value");
+		assertThat(restored.get("secret/application")).isNull();
+	}
+
+	@Test
+	public void shouldIgnoreSnapshotWithDifferentPassword() {
+
+		SecretSnapshotStore store = new SecretSnapshotStore(this.location, "s3cr3t".toCharArray());
+		store.put("secret/my-app", Collections.singletonMap("key", "value"));
+
+		SecretSnapshotStore restored = new SecretSnapshotStore(this.location, "other".toCharArray());
+
+		assertThat(restored.get("secret/my-app")).isNull();
+	}
+
+	@Test
+	public void shouldScopeSnapshotToVaultServer() {
+
+		SecretSnapshotStore store = new SecretSnapshotStore(this.location, "s3cr3t".toCharArray(),
+				"https://vault-a:8200/v1|team-a|");
+		store.put("secret/my-app", Collections.singletonMap("key", "value"));
+
+		assertThat(new SecretSnapshotStore(this.location, "s3cr3t".toCharArray(), "https://vault-b:8200/v1|team-a|")
+				.get("secret/my-app")).isNull();
+		assertThat(new SecretSnapshotStore(this.location, "s3cr3t".toCharArray(), "https://vault-a:8200/v1|team-a|")
+				.get("secret/my-app")).containsEntry("key", "value");
+	}
+
+	@Test
+	public void shouldServePropertySourceFromSnapshotAndRevalidate() {
+
+		SecretSnapshotStore store = new SecretSnapshotStore(this.location, "s3cr3t".toCharArray());
+		store.put("secret/my-app", Collections.singletonMap("key", "snapshot"));
+
+		Secrets secrets = new Secrets();
+		secrets.setData(Collections.singletonMap("key", "vault"));
+
+		VaultConfigOperations operations = mock(VaultConfigOperations.class);
+		when(operations.read(any())).thenReturn(secrets);
+
+		VaultPropertySource propertySource = new VaultPropertySource(operations, false,
+				KeyValueSecretBackendMetadata.create("secret/my-app"));
+		propertySource.setSnapshotStore(store);
+
+		assertThat(propertySource.initializeFromSnapshot()).isTrue();
+
+		verify(operations, timeout(5000)).read(any());
+	}
+
+	@Test
+	public void shouldDiscardSnapshotIfSecretNoLongerExists() throws Exception {
+
+		SecretSnapshotStore store = new SecretSnapshotStore(this.location, "s3cr3t".toCharArray());
+		store.put("secret/my-app", Collections.singletonMap("key", "snapshot"));
+
+		VaultPropertySource propertySource = new VaultPropertySource(mock(VaultConfigOperations.class), false,
+				KeyValueSecretBackendMetadata.create("secret/my-app"));
+		propertySource.setSnapshotStore(store);
+
+		assertThat(propertySource.initializeFromSnapshot()).isTrue();
+		awaitRevalidation(store);
+
+		assertThat(propertySource.getPropertyNames()).isEmpty();
+		assertThat(new SecretSnapshotStore(this.location, "s3cr3t".toCharArray()).get("secret/my-app")).isNull();
+	}
+
+	@Test
+	public void shouldDiscardSnapshotIfAccessIsDenied() throws Exception {
+
+		SecretSnapshotStore store = new SecretSnapshotStore(this.location, "s3cr3t".toCharArray());
+		store.put("secret/my-app", Collections.singletonMap("key", "snapshot"));
+
+		VaultConfigOperations operations = mock(VaultConfigOperations.class);
+		when(operations.read(any())).thenThrow(new VaultException("Status 403 Forbidden [secret/my-app]",
+				new HttpClientErrorException(HttpStatus.FORBIDDEN)));
+
+		VaultPropertySource propertySource = new VaultPropertySource(operations, true,
+				KeyValueSecretBackendMetadata.create("secret/my-app"));
+		propertySource.setSnapshotStore(store);
+
+		assertThat(propertySource.initializeFromSnapshot()).isTrue();
+		awaitRevalidation(store);
+
+		assertThat(propertySource.getPropertyNames()).isEmpty();
+		assertThat(store.get("secret/my-app")).isNull();
+	}
+
+	@Test
+	public void shouldRetainSnapshotIfVaultIsUnavailable() throws Exception {
+
+		SecretSnapshotStore store = new SecretSnapshotStore(this.location, "s3cr3t".toCharArray());
+		store.put("secret/my-app", Collections.singletonMap("key", "snapshot"));
+
+		VaultConfigOperations operations = mock(VaultConfigOperations.class);
+		when(operations.read(any())).thenThrow(new VaultException("I/O error: Connection refused"));
+
+		VaultPropertySource propertySource = new VaultPropertySource(operations, true,
+				KeyValueSecretBackendMetadata.create("secret/my-app"));
+		propertySource.setSnapshotStore(store);
+
+		assertThat(propertySource.initializeFromSnapshot()).isTrue();
+		awaitRevalidation(store);
+
+		assertThat(propertySource.getProperty("key")).isEqualTo("snapshot");
+		assertThat(store.get("secret/my-app")).containsEntry("key", "snapshot");
+	}
+
+	@Test
+	public void shouldNotServePropertySourceWithoutSnapshot() {
+
+		SecretSnapshotStore store = new SecretSnapshotStore(this.location, "s3cr3t".toCharArray());
+
+		VaultPropertySource propertySource = new VaultPropertySource(mock(VaultConfigOperations.class), false,
+				KeyValueSecretBackendMetadata.create("secret/my-app"));
+		propertySource.setSnapshotStore(store);
+
+		assertThat(propertySource.initializeFromSnapshot()).isFalse();
+		assertThat(propertySource.getPropertyNames()).isEmpty();
+	}
+
+	@Test
+	public void shouldStorePropertiesReadFromVault() {
+
+		SecretSnapshotStore store = new SecretSnapshotStore(this.location, "s3cr3t".toCharArray());
+
+		Secrets secrets = new Secrets();
+		secrets.setData(Collections.singletonMap("key", "vault"));
+
+		VaultPropertySource propertySource = new VaultPropertySource(mock(VaultConfigOperations.class), false,
+				KeyValueSecretBackendMetadata.create("secret/my-app"));
+		propertySource.setSnapshotStore(store);
+		propertySource.initialize(secrets);
+
+		assertThat(new SecretSnapshotStore(this.location, "s3cr3t".toCharArray()).get("secret/my-app"))
+				.containsEntry("key", "vault");
+	}
+
+	private static void awaitRevalidation(SecretSnapshotStore store) throws Exception {
+
+		FutureTask<Void> task = new FutureTask<>(() -> {
+		}, null);
+		store.getRevalidationExecutor().execute(task);
+		task.get(5, TimeUnit.SECONDS);
+	}
+
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+
+import org.springframework.vault.core.util.PropertyTransformer;
+import org.springframework.vault.core.util.PropertyTransformers;
+import org.springframework.vault.support.VaultResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link StreamingSecretReader}.
+ *
+ * @author agent
+ */
+public class StreamingSecretReaderUnitTests {
+
+	static final String UNVERSIONED = "{\"request_id\":\"req\",\"lease_id\":\"\",\"renewable\":false,"
+			+ "\"lease_duration\":2764800,\"data\":{\"string\":\"value\",\"int\":42,\"long\":3000000000,"
+			+ "\"double\":1.5,\"bool\":true,\"null\":null,\"nested\":{\"key\":\"nested-value\",\"empty\":{}},"
+			+ "\"list\":[\"a\",{\"b\":\"c\"},[1,2]],\"data.key\":\"unwrapped\"},\"wrap_info\":null,"
+			+ "\"warnings\":null,\"auth\":null}";
+
+	static final String VERSIONED = "{\"request_id\":\"req\",\"lease_duration\":0,\"data\":{\"data\":"
+			+ "{\"key\":\"value\",\"nested\":{\"key\":\"nested-value\"}},"
+			+ "\"metadata\":{\"created_time\":\"2020-10-16T10:00:00Z\",\"version\":3}}}";
+
+	@Test
+	public void shouldFlattenLikeJsonMapFlattener() throws IOException {
+
+		Secrets streamed = parse(UNVERSIONED, false, PropertyTransformers.noop());
+		Secrets materialized = VaultConfigTemplate.createSecrets(KeyValueSecretBackendMetadata.create("secret/my-app"),
+				new ObjectMapper().readValue(UNVERSIONED, VaultResponse.class));
+
+		assertThat(streamed.getRequiredData()).isEqualTo(materialized.getRequiredData())
+				.containsEntry("nested.key", "nested-value").containsEntry("list[1].b", "c")
+				.containsEntry("list[2][1]", 2).containsEntry("long", 3000000000L).containsKey("null")
+				.doesNotContainKey("nested.empty");
+		assertThat(streamed.getRequestId()).isEqualTo("req");
+		assertThat(streamed.getLeaseDuration()).isEqualTo(2764800);
+		assertThat(streamed.isRenewable()).isFalse();
+	}
+
+	@Test
+	public void shouldTransformPropertyNamesWhileParsing() throws IOException {
+
+		PropertyNameTransformer transformer = new PropertyNameTransformer();
+		transformer.addKeyTransformation("string", "spring.datasource.password");
+
+		Secrets secrets = parse(UNVERSIONED, false, transformer);
+
+		assertThat(secrets.getRequiredData()).containsEntry("spring.datasource.password", "value")
+				.doesNotContainKey("string");
+
+		secrets = parse(UNVERSIONED, false,
+				KeyValueSecretBackendMetadata.UnwrappingPropertyTransformer.unwrap("data"));
+
+		assertThat(secrets.getRequiredData()).containsEntry("key", "unwrapped").doesNotContainKey("data.key");
+	}
+
+	@Test
+	public void shouldApplyOtherPropertyTransformersAfterParsing() throws IOException {
+
+		Secrets secrets = parse(UNVERSIONED, false, PropertyTransformers.propertyNamePrefix("vault."));
+
+		assertThat(secrets.getRequiredData()).containsEntry("vault.nested.key", "nested-value")
+				.doesNotContainKey("nested.key");
+	}
+
+	@Test
+	public void shouldUnwrapVersionedSecrets() throws IOException {
+
+		Secrets secrets = parse(VERSIONED, true, PropertyTransformers.noop());
+
+		assertThat(secrets.getRequiredData()).hasSize(2).containsEntry("key", "value").containsEntry("nested.key",
+				"nested-value");
+		assertThat(secrets.getMetadata()).containsEntry("version", 3);
+	}
+
+	@Test
+	public void shouldReturnNullWithoutData() throws IOException {
+
+		assertThat(parse("{\"request_id\":\"req\",\"data\":null}", false, PropertyTransformers.noop())).isNull();
+		assertThat(parse("{\"data\":{\"data\":null,\"metadata\":{}}}", true, PropertyTransformers.noop())).isNull();
+		assertThat(parse("", false, PropertyTransformers.noop())).isNull();
+	}
+
+	@Test
+	public void shouldCanonicalizeWhileParsing() throws IOException {
+
+		PropertyInterner interner = new PropertyInterner();
+
+		Secrets first = StreamingSecretReader.parse(
+				new ByteArrayInputStream(VERSIONED.getBytes(StandardCharsets.UTF_8)), true, PropertyTransformers.noop(),
+				interner);
+		Secrets second = StreamingSecretReader.parse(
+				new ByteArrayInputStream(VERSIONED.getBytes(StandardCharsets.UTF_8)), true, PropertyTransformers.noop(),
+				interner);
+
+		assertThat(((CompactPropertyMap) second.getRequiredData()).getNames()[0])
+				.isSameAs(((CompactPropertyMap) first.getRequiredData()).getNames()[0]);
+		assertThat(second.getRequiredData().get("key")).isSameAs(first.getRequiredData().get("key"));
+	}
+
+	private static Secrets parse(String json, boolean versioned, PropertyTransformer transformer) throws IOException {
+		return StreamingSecretReader.parse(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)), versioned,
+				transformer, null);
+	}
+
+}
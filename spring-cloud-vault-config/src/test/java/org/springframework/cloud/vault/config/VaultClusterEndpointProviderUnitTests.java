@@ -0,0 +1,364 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.vault.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.vault.client.VaultEndpoint;
+import org.springframework.vault.client.VaultHttpHeaders;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Unit tests for {@link VaultClusterEndpointProvider}.
+ *
+ * @author agent
+ */
+public class VaultClusterEndpointProviderUnitTests {
+
+	static final String HEALTH = "/v1/sys/health?standbyok=true&perfstandbyok=true";
+
+	VaultEndpoint active = VaultEndpoint.from(URI.create("https://vault-1:8200"));
+
+	VaultEndpoint performanceStandby = VaultEndpoint.from(URI.create("https://vault-2:8200"));
+
+	VaultEndpoint standby = VaultEndpoint.from(URI.create("https://vault-3:8200"));
+
+	RestTemplate restTemplate = new RestTemplate();
+
+	MockRestServiceServer server;
+
+	VaultClusterEndpointProvider provider;
+
+	@Before
+	public void before() {
+
+		this.server = MockRestServiceServer.bindTo(this.restTemplate).build();
+
+		this.provider = new VaultClusterEndpointProvider(
+				Arrays.asList(this.standby, this.performanceStandby, this.active), Duration.ofMinutes(1), true);
+		this.provider.setRequestFactory(this.restTemplate.getRequestFactory());
+		this.provider.setMountTableCache(createMountTableCache());
+	}
+
+	@Test
+	public void shouldDetermineNodeRoles() {
+
+		expectHealth();
+		this.provider.probe();
+
+		assertThat(this.provider.getVaultEndpoint()).isEqualTo(this.active);
+		assertThat(this.provider.getReadEndpoint()).isEqualTo(this.performanceStandby);
+		assertThat(this.provider.getReadEndpoint()).isEqualTo(this.performanceStandby);
+
+		this.server.verify();
+	}
+
+	@Test
+	public void shouldFallBackToFirstNodeWithoutRequestFactory() {
+
+		VaultClusterEndpointProvider provider = new VaultClusterEndpointProvider(
+				Arrays.asList(this.standby, this.active), Duration.ofMinutes(1), true);
+
+		assertThat(provider.getVaultEndpoint()).isEqualTo(this.standby);
+		assertThat(provider.getReadEndpoint()).isNull();
+	}
+
+	@Test
+	public void shouldProbeInBackgroundOnFirstUse() throws Exception {
+
+		CountDownLatch release = new CountDownLatch(1);
+
+		this.server.expect(requestTo("https://vault-3:8200" + HEALTH)).andRespond(request -> {
+
+			try {
+				release.await(5, TimeUnit.SECONDS);
+			}
+			catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			return withSuccess("{\"initialized\":true,\"sealed\":false,\"standby\":true}", MediaType.APPLICATION_JSON)
+					.createResponse(request);
+		});
+		this.server.expect(requestTo("https://vault-2:8200" + HEALTH)).andRespond(withSuccess(
+				"{\"initialized\":true,\"sealed\":false,\"standby\":true,\"performance_standby\":true}",
+				MediaType.APPLICATION_JSON));
+		this.server.expect(requestTo("https://vault-1:8200" + HEALTH))
+				.andRespond(withSuccess("{\"initialized\":true,\"sealed\":false,\"standby\":false}",
+						MediaType.APPLICATION_JSON));
+
+		assertThat(this.provider.getVaultEndpoint()).isEqualTo(this.standby);
+		assertThat(this.provider.getReadEndpoint()).isNull();
+
+		release.countDown();
+		awaitActive(this.provider);
+
+		assertThat(this.provider.getVaultEndpoint()).isEqualTo(this.active);
+		this.server.verify();
+	}
+
+	@Test
+	public void shouldRecognizeKeyValueReads() {
+
+		assertThat(isSecretRead(HttpMethod.GET, "https://vault-1:8200/v1/secret/data/my-app")).isTrue();
+		assertThat(isSecretRead(HttpMethod.GET, "https://vault-1:8200/v1/kv/my-app")).isTrue();
+		assertThat(isSecretRead(HttpMethod.GET, "https://vault-1:8200/v1/sys/health")).isFalse();
+		assertThat(isSecretRead(HttpMethod.GET, "https://vault-1:8200/v1/auth/token/lookup-self")).isFalse();
+		assertThat(isSecretRead(HttpMethod.PUT, "https://vault-1:8200/v1/secret/data/my-app")).isFalse();
+		assertThat(isSecretRead(HttpMethod.POST, "https://vault-1:8200/v1/auth/kubernetes/login")).isFalse();
+		assertThat(isSecretRead(HttpMethod.GET, "https://vault-1:8200/v1/database/creds/readonly")).isFalse();
+		assertThat(isSecretRead(HttpMethod.GET, "https://vault-1:8200/v1/pki/cert/ca")).isFalse();
+		assertThat(isSecretRead(HttpMethod.GET, "https://vault-1:8200/v1/cubbyhole/my-secret")).isFalse();
+		assertThat(isSecretRead(HttpMethod.GET, "https://vault-1:8200/v1/unknown/my-app")).isFalse();
+	}
+
+	@Test
+	public void shouldNotRecognizeReadsWithoutMountTable() {
+
+		VaultClusterEndpointProvider provider = new VaultClusterEndpointProvider(
+				Arrays.asList(this.standby, this.active), Duration.ofMinutes(1), true);
+
+		assertThat(provider.isSecretRead(HttpMethod.GET, URI.create("https://vault-1:8200/v1/secret/data/my-app"),
+				this.active)).isFalse();
+	}
+
+	@Test
+	public void shouldRecognizeConfiguredReadPaths() {
+
+		VaultClusterEndpointProvider provider = new VaultClusterEndpointProvider(
+				Arrays.asList(this.standby, this.active), Duration.ofMinutes(1), true,
+				Collections.singletonList("/app-secrets/"), null);
+		provider.setMountTableCache(createMountTableCache());
+
+		assertThat(provider.isSecretRead(HttpMethod.GET, URI.create("https://vault-1:8200/v1/app-secrets/my-app"),
+				this.active)).isTrue();
+		assertThat(provider.isSecretRead(HttpMethod.GET, URI.create("https://vault-1:8200/v1/secret/data/my-app"),
+				this.active)).isFalse();
+	}
+
+	@Test
+	public void shouldRouteReadsToPerformanceStandby() {
+
+		expectHealth();
+		this.provider.probe();
+		this.server.expect(requestTo("https://vault-2:8200/v1/secret/my-app")).andExpect(method(HttpMethod.GET))
+				.andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+		this.server.expect(requestTo("https://vault-1:8200/v1/secret/my-app")).andExpect(method(HttpMethod.PUT))
+				.andRespond(withSuccess());
+		this.server.expect(requestTo("https://vault-1:8200/v1/sys/leases/renew")).andExpect(method(HttpMethod.PUT))
+				.andRespond(withSuccess());
+
+		this.restTemplate.setRequestFactory(this.provider.createRequestFactory(this.restTemplate.getRequestFactory()));
+
+		this.restTemplate.getForObject("https://vault-1:8200/v1/secret/my-app", String.class);
+		this.restTemplate.put("https://vault-1:8200/v1/secret/my-app", "{}");
+		this.restTemplate.put("https://vault-1:8200/v1/sys/leases/renew", "{}");
+
+		this.server.verify();
+	}
+
+	@Test
+	public void shouldRetryFailedStandbyReadOnActiveNode() {
+
+		expectHealth();
+		this.provider.probe();
+		this.server.expect(requestTo("https://vault-2:8200/v1/secret/my-app"))
+				.andExpect(header(VaultHttpHeaders.VAULT_TOKEN, "my-token")).andRespond(request -> {
+					throw new IOException("Connection refused");
+				});
+		this.server.expect(requestTo("https://vault-1:8200/v1/secret/my-app")).andExpect(method(HttpMethod.GET))
+				.andExpect(header(VaultHttpHeaders.VAULT_TOKEN, "my-token"))
+				.andRespond(withSuccess("{}", MediaType.APPLICATION_JSON));
+
+		this.restTemplate.getInterceptors().add((request, body, execution) -> {
+			request.getHeaders().add(VaultHttpHeaders.VAULT_TOKEN, "my-token");
+			return execution.execute(request, body);
+		});
+		this.restTemplate.setRequestFactory(this.provider.createRequestFactory(this.restTemplate.getRequestFactory()));
+
+		assertThat(this.restTemplate.getForObject("https://vault-1:8200/v1/secret/my-app", String.class))
+				.isEqualTo("{}");
+		assertThat(this.provider.getReadEndpoint()).isNull();
+
+		this.server.verify();
+	}
+
+	@Test
+	public void shouldRouteReactiveReadsToPerformanceStandby() {
+
+		expectHealth();
+		this.provider.probe();
+
+		List<URI> requests = new CopyOnWriteArrayList<>();
+		WebClient.Builder builder = WebClient.builder().exchangeFunction(request -> {
+
+			requests.add(request.url());
+
+			if (request.url().getHost().equals("vault-2")) {
+				return Mono.error(new WebClientRequestException(new IOException("Connection refused"),
+						request.method(), request.url(), new HttpHeaders()));
+			}
+
+			return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+		});
+		VaultClusterEndpointProvider.ReactiveSupport.webClientCustomizer(this.provider).customize(builder);
+		WebClient webClient = builder.build();
+
+		webClient.get().uri("https://vault-1:8200/v1/secret/my-app").retrieve().toBodilessEntity().block();
+		webClient.get().uri("https://vault-1:8200/v1/database/creds/readonly").retrieve().toBodilessEntity()
+				.block();
+
+		assertThat(requests).containsExactly(URI.create("https://vault-2:8200/v1/secret/my-app"),
+				URI.create("https://vault-1:8200/v1/secret/my-app"),
+				URI.create("https://vault-1:8200/v1/database/creds/readonly"));
+		assertThat(this.provider.getReadEndpoint()).isNull();
+	}
+
+	@Test
+	public void shouldProbeWithHealthRequestFactory() throws Exception {
+
+		VaultClusterEndpointProvider provider = new VaultClusterEndpointProvider(
+				Arrays.asList(this.standby, this.performanceStandby, this.active), Duration.ofMinutes(1), true,
+				Collections.emptyList(), this.restTemplate::getRequestFactory);
+
+		expectHealth();
+		provider.getVaultEndpoint();
+		awaitActive(provider);
+
+		assertThat(provider.getVaultEndpoint()).isEqualTo(this.active);
+		assertThat(provider.getReadEndpoint()).isEqualTo(this.performanceStandby);
+
+		this.server.verify();
+	}
+
+	@Test
+	public void shouldNotRouteReadsIfStandbyReadsDisabled() {
+
+		VaultClusterEndpointProvider provider = new VaultClusterEndpointProvider(
+				Arrays.asList(this.standby, this.performanceStandby, this.active), Duration.ofMinutes(1), false);
+		provider.setRequestFactory(this.restTemplate.getRequestFactory());
+
+		expectHealth();
+		provider.probe();
+
+		assertThat(provider.getVaultEndpoint()).isEqualTo(this.active);
+		assertThat(provider.getReadEndpoint()).isNull();
+
+		this.server.verify();
+	}
+
+	@Test
+	public void shouldSkipUnavailableNodes() {
+
+		this.server.expect(requestTo("https://vault-3:8200" + HEALTH)).andRespond(withServerError());
+		this.server.expect(requestTo("https://vault-2:8200" + HEALTH))
+				.andRespond(withSuccess("{\"initialized\":true,\"sealed\":true,\"standby\":true}",
+						MediaType.APPLICATION_JSON));
+		this.server.expect(requestTo("https://vault-1:8200" + HEALTH))
+				.andRespond(withSuccess("{\"initialized\":true,\"sealed\":false,\"standby\":false}",
+						MediaType.APPLICATION_JSON));
+		this.provider.probe();
+
+		assertThat(this.provider.getVaultEndpoint()).isEqualTo(this.active);
+		assertThat(this.provider.getReadEndpoint()).isNull();
+	}
+
+	private void expectHealth() {
+
+		this.server.expect(requestTo("https://vault-3:8200" + HEALTH))
+				.andRespond(withSuccess("{\"initialized\":true,\"sealed\":false,\"standby\":true}",
+						MediaType.APPLICATION_JSON));
+		this.server.expect(requestTo("https://vault-2:8200" + HEALTH)).andRespond(withSuccess(
+				"{\"initialized\":true,\"sealed\":false,\"standby\":true,\"performance_standby\":true}",
+				MediaType.APPLICATION_JSON));
+		this.server.expect(requestTo("https://vault-1:8200" + HEALTH))
+				.andRespond(withSuccess("{\"initialized\":true,\"sealed\":false,\"standby\":false}",
+						MediaType.APPLICATION_JSON));
+	}
+
+	private boolean isSecretRead(HttpMethod method, String uri) {
+		return this.provider.isSecretRead(method, URI.create(uri), this.active);
+	}
+
+	private void awaitActive(VaultClusterEndpointProvider provider) throws InterruptedException {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+
+		while (!provider.getVaultEndpoint().equals(this.active) && System.nanoTime() < deadline) {
+			Thread.sleep(10);
+		}
+	}
+
+	private static MountTableCache createMountTableCache() {
+
+		Map<String, Object> mounts = new HashMap<>();
+		mounts.put("secret/", createMount("kv", "2"));
+		mounts.put("kv/", createMount("kv", "1"));
+		mounts.put("database/", createMount("database"));
+		mounts.put("pki/", createMount("pki"));
+		mounts.put("cubbyhole/", createMount("cubbyhole"));
+
+		VaultResponse response = new VaultResponse();
+		response.setData(Collections.singletonMap("secret", mounts));
+
+		MountTableCache mountTableCache = new MountTableCache();
+		mountTableCache.initialize(response);
+		return mountTableCache;
+	}
+
+	private static Map<String, Object> createMount(String type, String... version) {
+
+		Map<String, Object> mount = new HashMap<>();
+		mount.put("type", type);
+
+		if (version.length > 0) {
+			mount.put("options", Collections.singletonMap("version", version[0]));
+		}
+
+		return mount;
+	}
+
+}
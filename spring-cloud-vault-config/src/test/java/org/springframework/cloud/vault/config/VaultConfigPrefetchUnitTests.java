@@ -0,0 +1,82 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.PropertySource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link VaultConfigPrefetch}.
+ *
+ * @author agent
+ */
+public class VaultConfigPrefetchUnitTests {
+
+	VaultConfigPrefetch prefetch = new VaultConfigPrefetch();
+
+	List<List<VaultConfigLocation>> batches = new ArrayList<>();
+
+	@Test
+	public void shouldLoadPendingLocationsInSingleBatch() {
+
+		VaultConfigLocation first = new VaultConfigLocation("secret/first", false);
+		VaultConfigLocation second = new VaultConfigLocation("secret/second", false);
+
+		this.prefetch.addLocations(Arrays.asList(first, second));
+
+		assertThat(this.prefetch.getPropertySource(first, this::load).getName()).isEqualTo("secret/first");
+		assertThat(this.prefetch.getPropertySource(second, this::load).getName()).isEqualTo("secret/second");
+
+		assertThat(this.batches).hasSize(1);
+		assertThat(this.batches.get(0)).containsExactly(first, second);
+	}
+
+	@Test
+	public void shouldLoadUnregisteredLocation() {
+
+		VaultConfigLocation location = new VaultConfigLocation("secret/other", false);
+
+		assertThat(this.prefetch.getPropertySource(location, this::load).getName()).isEqualTo("secret/other");
+		assertThat(this.batches).hasSize(1);
+	}
+
+	private Map<VaultConfigLocation, PropertySource<?>> load(List<VaultConfigLocation> locations) {
+
+		this.batches.add(locations);
+
+		Map<VaultConfigLocation, PropertySource<?>> result = new LinkedHashMap<>();
+
+		for (VaultConfigLocation location : locations) {
+			result.put(location, new MapPropertySource(location.getSecretBackendMetadata().getName(),
+					Collections.emptyMap()));
+		}
+
+		return result;
+	}
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.cloud.vault.config;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import org.springframework.cloud.vault.config.VaultProperties.Discovery.LoadBalancing;
+import org.springframework.vault.client.VaultEndpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link VaultEndpointSelector}.
+ *
+ * @author agent
+ */
+public class VaultEndpointSelectorUnitTests {
+
+	VaultEndpoint first = VaultEndpoint.create("vault-1", 8200);
+
+	VaultEndpoint second = VaultEndpoint.create("vault-2", 8200);
+
+	VaultEndpoint third = VaultEndpoint.create("vault-3", 8200);
+
+	List<VaultEndpoint> endpoints = Arrays.asList(this.first, this.second, this.third);
+
+	@Test
+	public void shouldSelectFirstEndpoint() {
+
+		VaultEndpointSelector selector = new VaultEndpointSelector(LoadBalancing.FIRST);
+
+		assertThat(selector.select(this.endpoints)).isSameAs(this.first);
+		assertThat(selector.select(this.endpoints)).isSameAs(this.first);
+	}
+
+	@Test
+	public void shouldSelectEndpointsInTurn() {
+
+		VaultEndpointSelector selector = new VaultEndpointSelector(LoadBalancing.ROUND_ROBIN);
+
+		assertThat(selector.select(this.endpoints)).isSameAs(this.first);
+		assertThat(selector.select(this.endpoints)).isSameAs(this.second);
+		assertThat(selector.select(this.endpoints)).isSameAs(this.third);
+		assertThat(selector.select(this.endpoints)).isSameAs(this.first);
+	}
+
+	@Test
+	public void shouldSelectEndpointWithLeastOutstandingRequests() {
+
+		VaultEndpointSelector selector = new VaultEndpointSelector(LoadBalancing.LEAST_OUTSTANDING);
+
+		AtomicInteger firstRequest = selector.track(URI.create("https://vault-1:8200/v1/secret/foo"));
+		selector.track(URI.create("https://vault-1:8200/v1/secret/bar"));
+		selector.track(URI.create("https://vault-2:8200/v1/secret/foo"));
+
+		assertThat(selector.getOutstanding(this.first)).isEqualTo(2);
+		assertThat(selector.select(this.endpoints)).isSameAs(this.third);
+
+		selector.track(URI.create("https://vault-3:8200/v1/secret/foo"));
+		selector.track(URI.create("https://vault-3:8200/v1/secret/bar"));
+		firstRequest.decrementAndGet();
+
+		assertThat(selector.select(this.endpoints)).isIn(this.first, this.second);
+		assertThat(selector.select(this.endpoints)).isNotSameAs(this.third);
+	}
+
+}
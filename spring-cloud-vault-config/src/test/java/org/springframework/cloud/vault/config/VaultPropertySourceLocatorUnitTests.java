@@ -17,6 +17,7 @@
 package org.springframework.cloud.vault.config;
 
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -30,6 +31,9 @@ import org.springframework.core.env.ConfigurableEnvironment;
 import org.springframework.core.env.PropertySource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
 
 /**
  * Unit tests for {@link VaultPropertySourceLocator}.
@@ -150,6 +154,48 @@ public class VaultPropertySourceLocatorUnitTests {
 		assertThat(composite.getPropertySources()).extracting("name").containsSequence("foo", "bar");
 	}
 
+	@Test
+	public void shouldInitializePropertySourcesConcurrentlyInOrder() {
+
+		VaultProperties vaultProperties = new VaultProperties();
+		vaultProperties.getConfig().setParallelism(4);
+
+		this.properties.setProfiles(Arrays.asList("vermillion", "periwinkle"));
+
+		Secrets secrets = new Secrets();
+		secrets.setData(Collections.singletonMap("key", "value"));
+		when(this.operations.read(any())).thenReturn(secrets);
+
+		this.propertySourceLocator = new VaultPropertySourceLocator(this.operations, vaultProperties,
+				VaultPropertySourceLocatorSupport.createConfiguration(this.properties));
+
+		PropertySource<?> propertySource = this.propertySourceLocator.locate(this.configurableEnvironment);
+
+		CompositePropertySource composite = (CompositePropertySource) propertySource;
+		assertThat(composite.getPropertySources()).extracting("name").containsExactly("secret/application/periwinkle",
+				"secret/application/vermillion", "secret/application");
+		assertThat(composite.getProperty("key")).isEqualTo("value");
+	}
+
+	@Test
+	public void shouldFailFastWhenInitializingConcurrently() {
+
+		VaultProperties vaultProperties = new VaultProperties();
+		vaultProperties.setFailFast(true);
+		vaultProperties.getConfig().setParallelism(2);
+
+		this.properties.setProfiles(Collections.singletonList("vermillion"));
+
+		when(this.operations.read(any())).thenThrow(new IllegalStateException("Vault sealed"));
+
+		this.propertySourceLocator = new VaultPropertySourceLocator(this.operations, vaultProperties,
+				VaultPropertySourceLocatorSupport.createConfiguration(this.properties));
+
+		assertThatIllegalStateException()
+				.isThrownBy(() -> this.propertySourceLocator.locate(this.configurableEnvironment))
+				.withMessage("Vault sealed");
+	}
+
 	@Order(1)
 	static class MyFirstSecretBackendMetadata extends SecretBackendMetadataSupport {
 
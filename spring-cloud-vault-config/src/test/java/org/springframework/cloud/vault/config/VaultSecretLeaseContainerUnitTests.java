@@ -0,0 +1,281 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import org.springframework.cloud.vault.config.VaultSecretLeaseContainer.RevocationOutcome;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.vault.VaultException;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.core.lease.domain.Lease;
+import org.springframework.vault.core.lease.domain.RequestedSecret;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultResponseSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link VaultSecretLeaseContainer} and {@link SecretLeaseStore}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class VaultSecretLeaseContainerUnitTests {
+
+	@Rule
+	public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+	@Mock
+	VaultOperations operations;
+
+	@Mock
+	TaskScheduler taskScheduler;
+
+	Path location;
+
+	RequestedSecret secret = RequestedSecret.renewable("database/creds/readonly");
+
+	Map<String, Object> credentials = Collections.singletonMap("username", "walter");
+
+	ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
+
+	List<RevocationOutcome> outcomes = new CopyOnWriteArrayList<>();
+
+	@Before
+	public void before() {
+
+		this.location = this.temporaryFolder.getRoot().toPath().resolve("leases/vault.leases");
+		this.threadPoolTaskScheduler.afterPropertiesSet();
+	}
+
+	@After
+	public void after() {
+		this.threadPoolTaskScheduler.shutdown();
+	}
+
+	@Test
+	public void shouldPersistEncryptedLeases() throws Exception {
+
+		SecretLeaseStore store = new SecretLeaseStore(this.location, "s3cr3t".toCharArray());
+		store.put("database/creds/readonly", Lease.of("lease-id", Duration.ofHours(1), true), this.credentials);
+
+		assertThat(new String(Files.readAllBytes(this.location), StandardCharsets.ISO_8859_1))
+				.doesNotContain("walter").doesNotContain("lease-id");
+
+		SecretLeaseStore restored = new SecretLeaseStore(this.location, "s3cr3t".toCharArray());
+		SecretLeaseStore.StoredLease stored = restored.get("database/creds/readonly");
+
+		assertThat(stored).isNotNull();
+		assertThat(stored.getLeaseId()).isEqualTo("lease-id");
+		assertThat(stored.getData()).containsEntry("username", "walter");
+		assertThat(stored.getRemaining()).isGreaterThan(Duration.ofMinutes(59));
+		assertThat(restored.contains("database/creds/readonly", "lease-id")).isTrue();
+
+		restored.remove("database/creds/readonly");
+
+		assertThat(new SecretLeaseStore(this.location, "s3cr3t".toCharArray()).get("database/creds/readonly"))
+				.isNull();
+	}
+
+	@Test
+	public void shouldReuseStoredLease() {
+
+		SecretLeaseStore store = new SecretLeaseStore(this.location, "s3cr3t".toCharArray());
+		store.put(this.secret.getPath(), Lease.of("lease-id", Duration.ofHours(1), true), this.credentials);
+
+		doReturn(Lease.of("lease-id", Duration.ofHours(2), true)).when(this.operations).doWithSession(any());
+
+		VaultSecretLeaseContainer container = new VaultSecretLeaseContainer(this.operations, this.taskScheduler);
+		container.setLeaseStore(store);
+
+		VaultResponseSupport<Map<String, Object>> response = container.doGetSecrets(this.secret);
+
+		assertThat(response).isNotNull();
+		assertThat(response.getLeaseId()).isEqualTo("lease-id");
+		assertThat(response.getLeaseDuration()).isEqualTo(Duration.ofHours(2).getSeconds());
+		assertThat(response.getData()).containsEntry("username", "walter");
+		verify(this.operations, never()).read(this.secret.getPath());
+	}
+
+	@Test
+	public void shouldRequestNewSecretsIfStoredLeaseCannotBeRenewed() {
+
+		SecretLeaseStore store = new SecretLeaseStore(this.location, "s3cr3t".toCharArray());
+		store.put(this.secret.getPath(), Lease.of("lease-id", Duration.ofHours(1), true), this.credentials);
+
+		VaultResponse fresh = new VaultResponse();
+		fresh.setData(Collections.singletonMap("username", "skyler"));
+
+		doThrow(new VaultException("lease not found")).when(this.operations).doWithSession(any());
+		when(this.operations.read(this.secret.getPath())).thenReturn(fresh);
+
+		VaultSecretLeaseContainer container = new VaultSecretLeaseContainer(this.operations, this.taskScheduler);
+		container.setLeaseStore(store);
+
+		assertThat(container.doGetSecrets(this.secret)).isSameAs(fresh);
+		assertThat(store.get(this.secret.getPath())).isNull();
+	}
+
+	@Test
+	public void shouldDiscardStoredLeaseCloseToExpiry() {
+
+		SecretLeaseStore store = new SecretLeaseStore(this.location, "s3cr3t".toCharArray());
+		store.put(this.secret.getPath(), Lease.of("lease-id", Duration.ofSeconds(5), true), this.credentials);
+
+		VaultResponse fresh = new VaultResponse();
+		when(this.operations.read(this.secret.getPath())).thenReturn(fresh);
+
+		VaultSecretLeaseContainer container = new VaultSecretLeaseContainer(this.operations, this.taskScheduler);
+		container.setLeaseStore(store);
+
+		assertThat(container.doGetSecrets(this.secret)).isSameAs(fresh);
+		verify(this.operations, never()).doWithSession(any());
+		assertThat(store.get(this.secret.getPath())).isNull();
+	}
+
+	@Test
+	public void shouldRetainStoredLeaseOnRevocation() {
+
+		SecretLeaseStore store = new SecretLeaseStore(this.location, "s3cr3t".toCharArray());
+		Lease lease = Lease.of("lease-id", Duration.ofHours(1), true);
+		store.put(this.secret.getPath(), lease, this.credentials);
+
+		VaultSecretLeaseContainer container = new VaultSecretLeaseContainer(this.operations, this.taskScheduler);
+		container.setLeaseStore(store);
+
+		container.doRevokeLease(this.secret, lease);
+
+		verify(this.operations, never()).doWithSession(any());
+		assertThat(store.contains(this.secret.getPath(), "lease-id")).isTrue();
+	}
+
+	@Test
+	public void shouldRevokeLeasesConcurrentlyOnShutdown() throws Exception {
+
+		CountDownLatch latch = new CountDownLatch(2);
+		List<Boolean> concurrent = new CopyOnWriteArrayList<>();
+
+		doAnswer(invocation -> {
+			latch.countDown();
+			concurrent.add(latch.await(5, TimeUnit.SECONDS));
+			return null;
+		}).when(this.operations).doWithSession(any());
+
+		VaultSecretLeaseContainer container = startContainer(Duration.ofHours(1), "database/creds/readonly",
+				"database/creds/readwrite");
+
+		container.destroy();
+
+		assertThat(concurrent).containsExactly(true, true);
+		assertThat(this.outcomes).containsExactly(RevocationOutcome.REVOKED, RevocationOutcome.REVOKED);
+	}
+
+	@Test
+	public void shouldReportFailedRevocation() throws Exception {
+
+		doThrow(new IllegalStateException("Vault unavailable")).when(this.operations).doWithSession(any());
+
+		VaultSecretLeaseContainer container = startContainer(Duration.ofHours(1), "database/creds/readonly");
+
+		container.destroy();
+
+		assertThat(this.outcomes).containsExactly(RevocationOutcome.FAILED);
+	}
+
+	@Test
+	public void shouldBoundRevocationByDeadline() throws Exception {
+
+		doAnswer(invocation -> {
+			Thread.sleep(10000);
+			return null;
+		}).when(this.operations).doWithSession(any());
+
+		VaultSecretLeaseContainer container = startContainer(Duration.ofHours(1), "database/creds/readonly");
+		container.setRevocationTimeout(Duration.ofMillis(100));
+
+		long start = System.nanoTime();
+		container.destroy();
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(5));
+		assertThat(this.outcomes).containsExactly(RevocationOutcome.TIMED_OUT);
+	}
+
+	@Test
+	public void shouldSkipRevocationOfLeasesExpiringWithinThreshold() throws Exception {
+
+		VaultSecretLeaseContainer container = startContainer(Duration.ofHours(1), "database/creds/readonly");
+		container.setRevocationThreshold(Duration.ofHours(2));
+
+		container.destroy();
+
+		verify(this.operations, never()).doWithSession(any());
+		assertThat(this.outcomes).containsExactly(RevocationOutcome.SKIPPED);
+	}
+
+	private VaultSecretLeaseContainer startContainer(Duration leaseDuration, String... paths) throws Exception {
+
+		VaultSecretLeaseContainer container = new VaultSecretLeaseContainer(this.operations,
+				this.threadPoolTaskScheduler);
+		container.addRevocationListener((secret, outcome) -> this.outcomes.add(outcome));
+
+		for (String path : paths) {
+
+			VaultResponse response = new VaultResponse();
+			response.setData(this.credentials);
+			response.setLeaseId(path + "/lease-id");
+			response.setLeaseDuration(leaseDuration.getSeconds());
+			response.setRenewable(true);
+
+			when(this.operations.read(path)).thenReturn(response);
+			container.addRequestedSecret(RequestedSecret.renewable(path));
+		}
+
+		container.afterPropertiesSet();
+		container.start();
+
+		return container;
+	}
+
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import reactor.core.publisher.Mono;
+
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.vault.authentication.ClientAuthentication;
+import org.springframework.vault.authentication.VaultTokenSupplier;
+import org.springframework.vault.core.VaultOperations;
+import org.springframework.vault.support.VaultResponse;
+import org.springframework.vault.support.VaultToken;
+import org.springframework.web.client.RestTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * Unit tests for {@link VaultStartupSteps}.
+ *
+ * @author agent
+ */
+@RunWith(MockitoJUnitRunner.class)
+public class VaultStartupStepsUnitTests {
+
+	@Mock
+	VaultOperations vaultOperations;
+
+	BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+
+	@Test
+	public void shouldRecordSecretRetrieval() {
+
+		VaultResponse response = new VaultResponse();
+		response.setData(Collections.singletonMap("key", "value"));
+
+		when(this.vaultOperations.read("secret/my-app")).thenReturn(response);
+
+		VaultConfigTemplate template = new VaultConfigTemplate(this.vaultOperations, new VaultProperties(),
+				new MountTableCache(this.applicationStartup), null);
+		template.setApplicationStartup(this.applicationStartup);
+
+		template.read(KeyValueSecretBackendMetadata.create("secret/my-app"));
+
+		List<StartupStep> steps = getSteps();
+
+		assertThat(steps).extracting(StartupStep::getName).containsExactly(VaultStartupSteps.MOUNTS,
+				VaultStartupSteps.READ);
+
+		Map<String, String> tags = getTags(steps.get(1));
+
+		assertThat(tags).containsEntry("path", "secret/my-app").containsEntry("status", "found")
+				.containsEntry("properties", "1").containsKey("latency");
+		assertThat(steps.get(0).getParentId()).isEqualTo(steps.get(1).getId());
+	}
+
+	@Test
+	public void shouldRecordLogin() {
+
+		VaultToken token = VaultToken.of("token");
+		ClientAuthentication authentication = VaultStartupSteps.login(() -> token, this.applicationStartup);
+
+		assertThat(authentication.login()).isSameAs(token);
+
+		List<StartupStep> steps = getSteps();
+
+		assertThat(steps).extracting(StartupStep::getName).containsExactly(VaultStartupSteps.LOGIN);
+		assertThat(getTags(steps.get(0))).containsEntry("status", "success").containsKey("latency");
+	}
+
+	@Test
+	public void shouldNotDecorateClientAuthenticationWithoutRecording() {
+
+		ClientAuthentication authentication = () -> VaultToken.of("token");
+
+		assertThat(VaultStartupSteps.login(authentication, ApplicationStartup.DEFAULT)).isSameAs(authentication);
+	}
+
+	@Test
+	public void shouldRecordReactiveLogin() {
+
+		VaultToken token = VaultToken.of("token");
+		VaultTokenSupplier tokenSupplier = VaultStartupSteps.ReactiveSupport.login(() -> Mono.just(token),
+				this.applicationStartup);
+
+		assertThat(tokenSupplier.getVaultToken().block()).isSameAs(token);
+
+		List<StartupStep> steps = getSteps();
+
+		assertThat(steps).extracting(StartupStep::getName).containsExactly(VaultStartupSteps.LOGIN);
+		assertThat(getTags(steps.get(0))).containsEntry("status", "success").containsKey("latency");
+	}
+
+	@Test
+	public void shouldRecordConcurrentReadsAsTags() {
+
+		VaultResponse response = new VaultResponse();
+		response.setData(Collections.singletonMap("key", "value"));
+
+		when(this.vaultOperations.read("secret/my-app")).thenReturn(response);
+		when(this.vaultOperations.read("secret/application")).thenReturn(response);
+
+		VaultConfigTemplate template = new VaultConfigTemplate(this.vaultOperations, new VaultProperties(),
+				new MountTableCache(this.applicationStartup), null);
+		template.setApplicationStartup(this.applicationStartup);
+
+		VaultProperties properties = new VaultProperties();
+		properties.getConfig().setParallelism(2);
+
+		List<Supplier<Secrets>> tasks = Arrays.asList(
+				() -> template.read(KeyValueSecretBackendMetadata.create("secret/my-app")),
+				() -> template.read(KeyValueSecretBackendMetadata.create("secret/application")));
+
+		VaultPropertySourceInitializer.invokeAll(Arrays.asList("my-app", "application"), tasks, properties,
+				this.applicationStartup);
+
+		List<StartupStep> steps = getSteps();
+
+		assertThat(steps).extracting(StartupStep::getName).containsExactly(VaultStartupSteps.CONCURRENT_READ);
+
+		Map<String, String> tags = getTags(steps.get(0));
+
+		List<String> reads = tags.entrySet().stream()
+				.filter(it -> it.getKey().startsWith(VaultStartupSteps.READ + "#")).map(Map.Entry::getValue)
+				.collect(Collectors.toList());
+
+		assertThat(tags).containsEntry("tasks", "2").containsKey("latency");
+		assertThat(reads).hasSize(2).anySatisfy(value -> assertThat(value).contains("path=secret/my-app"))
+				.anySatisfy(value -> assertThat(value).contains("path=secret/application"))
+				.allSatisfy(value -> assertThat(value).contains("status=found", "latency="));
+	}
+
+	@Test
+	public void shouldDiscardConcurrentStepsEndedAfterwards() {
+
+		VaultStartupSteps.ConcurrentSteps steps = VaultStartupSteps.concurrent(this.applicationStartup, 1);
+		StartupStep step = steps.start(VaultStartupSteps.READ).tag("path", "secret/my-app");
+
+		steps.end();
+		step.end();
+
+		assertThat(getTags(getSteps().get(0))).containsOnlyKeys("tasks", "latency");
+	}
+
+	@Test
+	public void shouldRecordReactiveReadWithinConcurrentSteps() {
+
+		VaultStartupSteps.ConcurrentSteps steps = VaultStartupSteps.concurrent(this.applicationStartup, 1);
+
+		steps.wrap(() -> VaultStartupSteps.ReactiveSupport
+				.read(Mono.just("value"), "secret/my-app", this.applicationStartup).block()).get();
+		steps.end();
+
+		List<StartupStep> recorded = getSteps();
+
+		assertThat(recorded).extracting(StartupStep::getName).containsExactly(VaultStartupSteps.CONCURRENT_READ);
+		assertThat(getTags(recorded.get(0))).containsKey(VaultStartupSteps.READ + "#1");
+	}
+
+	@Test
+	public void shouldRecordHttpRequestsUntilStopped() {
+
+		RestTemplate restTemplate = new RestTemplate();
+		MockRestServiceServer server = MockRestServiceServer.bindTo(restTemplate).build();
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentLength(2);
+
+		server.expect(requestTo("https://vault:8200/v1/secret/my-app"))
+				.andRespond(withSuccess().headers(headers).body("{}"));
+		server.expect(requestTo("https://vault:8200/v1/secret/chunked")).andRespond(withSuccess());
+		server.expect(requestTo("https://vault:8200/v1/secret/later")).andRespond(withSuccess());
+
+		VaultStartupSteps.HttpRequestSteps httpRequests = VaultStartupSteps.httpRequests(this.applicationStartup);
+		httpRequests.customize(restTemplate);
+
+		restTemplate.getForObject("https://vault:8200/v1/secret/my-app", String.class);
+		restTemplate.getForObject("https://vault:8200/v1/secret/chunked", String.class);
+		httpRequests.stop();
+		restTemplate.getForObject("https://vault:8200/v1/secret/later", String.class);
+
+		List<StartupStep> steps = getSteps();
+
+		assertThat(steps).extracting(StartupStep::getName).containsExactly(VaultStartupSteps.HTTP_REQUEST,
+				VaultStartupSteps.HTTP_REQUEST);
+		assertThat(getTags(steps.get(0))).containsEntry("path", "/v1/secret/my-app").containsEntry("status", "200")
+				.containsEntry("bytes", "2");
+		assertThat(getTags(steps.get(1))).containsEntry("path", "/v1/secret/chunked").doesNotContainKey("bytes");
+
+		server.verify();
+	}
+
+	private List<StartupStep> getSteps() {
+		return this.applicationStartup.getBufferedTimeline().getEvents().stream().map(TimelineEvent::getStartupStep)
+				.collect(Collectors.toList());
+	}
+
+	private static Map<String, String> getTags(StartupStep step) {
+
+		Map<String, String> tags = new HashMap<>();
+		step.getTags().forEach(tag -> tags.put(tag.getKey(), tag.getValue()));
+		return tags;
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.vault.config;
+
+import java.util.Date;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for {@link VaultTaskScheduler} and {@link VaultTaskSchedulerMetrics}.
+ *
+ * @author agent
+ */
+public class VaultTaskSchedulerUnitTests {
+
+	VaultProperties properties = new VaultProperties();
+
+	VaultTaskScheduler scheduler;
+
+	@After
+	public void tearDown() {
+
+		if (this.scheduler != null) {
+			this.scheduler.destroy();
+		}
+	}
+
+	@Test
+	public void shouldConfigureSchedulerFromProperties() {
+
+		this.properties.getScheduler().setPoolSize(4);
+		this.properties.getScheduler().setThreadNamePrefix("vault-");
+		this.properties.getScheduler().setDaemon(false);
+		this.properties.getScheduler().setRemoveOnCancel(true);
+
+		this.scheduler = VaultTaskScheduler.create(this.properties);
+		this.scheduler.afterPropertiesSet();
+
+		assertThat(this.scheduler.getPoolSize()).isEqualTo(4);
+		assertThat(this.scheduler.getThreadNamePrefix()).isEqualTo("vault-");
+		assertThat(this.scheduler.isDaemon()).isFalse();
+		assertThat(this.scheduler.getScheduledThreadPoolExecutor().getRemoveOnCancelPolicy()).isTrue();
+	}
+
+	@Test
+	public void shouldRunTasksWhenVirtualThreadsRequested() throws Exception {
+
+		this.properties.getScheduler().setVirtualThreads(true);
+
+		this.scheduler = VaultTaskScheduler.create(this.properties);
+		this.scheduler.afterPropertiesSet();
+
+		CountDownLatch latch = new CountDownLatch(1);
+		this.scheduler.execute(latch::countDown);
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	@Test
+	public void shouldPublishSchedulerMetrics() throws Exception {
+
+		this.scheduler = VaultTaskScheduler.create(this.properties);
+		this.scheduler.afterPropertiesSet();
+
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		new VaultTaskSchedulerMetrics(this.scheduler).bindTo(registry);
+
+		CountDownLatch latch = new CountDownLatch(1);
+		this.scheduler.schedule(latch::countDown, new Date(System.currentTimeMillis() + 10));
+		this.scheduler.schedule(() -> {
+		}, new Date(System.currentTimeMillis() + 60_000));
+
+		assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(registry.get("spring.cloud.vault.scheduler.lag").timer().count()).isEqualTo(1);
+		assertThat(registry.get("spring.cloud.vault.scheduler.queued").gauge().value()).isEqualTo(1);
+		assertThat(registry.get("spring.cloud.vault.scheduler.pool.size").gauge().value()).isPositive();
+	}
+
+}